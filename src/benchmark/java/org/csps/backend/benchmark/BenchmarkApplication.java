@@ -0,0 +1,20 @@
+package org.csps.backend.benchmark;
+
+import org.csps.backend.BackendApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+
+/**
+ * Starts the application without a web server under the "benchmark" profile, runs the benchmark
+ * ApplicationRunners against the configured (scratch) database and exits. Results are written to the log.
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=org.csps.backend.benchmark.BenchmarkApplication
+ */
+public class BenchmarkApplication {
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(BackendApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setAdditionalProfiles("benchmark");
+        System.exit(SpringApplication.exit(application.run(args)));
+    }
+}
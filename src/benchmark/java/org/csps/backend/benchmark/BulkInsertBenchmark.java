@@ -0,0 +1,93 @@
+package org.csps.backend.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.csps.backend.domain.entities.Order;
+import org.csps.backend.domain.entities.Student;
+import org.csps.backend.domain.enums.OrderStatus;
+import org.csps.backend.repository.OrderRepository;
+import org.csps.backend.repository.StudentRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk insert throughput of a pooled-id entity through JPA batching (saveAll + flush).
+ * Run against a scratch database through BenchmarkApplication; every run is rolled back,
+ * only the id blocks taken from id_generator are consumed. Results are written to the log.
+ */
+@Component
+@Profile("benchmark")
+@Slf4j
+public class BulkInsertBenchmark implements ApplicationRunner {
+
+    private static final int[] SIZES = {1_000, 10_000};
+    private static final int WARMUP_SIZE = 500;
+
+    private final OrderRepository orderRepository;
+    private final StudentRepository studentRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public BulkInsertBenchmark(OrderRepository orderRepository,
+                               StudentRepository studentRepository,
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.studentRepository = studentRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Optional<Student> student = studentRepository.findAll(PageRequest.of(0, 1)).stream().findFirst();
+        if (student.isEmpty()) {
+            log.warn("bulk insert benchmark skipped: needs at least one student row");
+            return;
+        }
+
+        insertOrders(student.get(), WARMUP_SIZE);
+        for (int size : SIZES) {
+            long nanos = insertOrders(student.get(), size);
+            log.info("bulk insert benchmark: {} orders in {} ms ({} rows/s)",
+                    size, nanos / 1_000_000, Math.round(size / (nanos / 1_000_000_000.0)));
+        }
+    }
+
+    /* saveAll + flush inside a transaction that is always rolled back; returns the elapsed time */
+    private long insertOrders(Student student, int size) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Order> orders = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            orders.add(Order.builder()
+                    .student(student)
+                    .orderDate(now)
+                    .updatedAt(now)
+                    .totalPrice(0.0)
+                    .quantity(1)
+                    .orderStatus(OrderStatus.PENDING)
+                    .build());
+        }
+
+        Long elapsed = transactionTemplate.execute(status -> {
+            long start = System.nanoTime();
+            orderRepository.saveAll(orders);
+            entityManager.flush();
+            long nanos = System.nanoTime() - start;
+            status.setRollbackOnly();
+            return nanos;
+        });
+        return elapsed != null ? elapsed : 0L;
+    }
+}
@@ -0,0 +1,175 @@
+package org.csps.backend.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.csps.backend.domain.enums.SessionStatus;
+import org.csps.backend.exception.DuplicateCheckInException;
+import org.csps.backend.repository.AttendanceRecordRepository;
+import org.csps.backend.repository.EventParticipantRepository;
+import org.csps.backend.repository.EventSessionRepository;
+import org.csps.backend.service.AttendanceRecordService;
+import org.csps.backend.service.QRTokenService;
+import org.csps.backend.service.impl.CheckInRosterCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sustained QR check-in throughput through AttendanceRecordService.checkInWithQR, the same path the scanners hit.
+ * Needs an ACTIVE session whose event has participants; every participant is scanned twice per round from
+ * a fixed pool of scanner threads (the second scan exercises the duplicate path) and the round's attendance
+ * rows are deleted again afterwards. Participants already checked in before the run are left out.
+ * Run against a scratch database through BenchmarkApplication. Results are written to the log.
+ */
+@Component
+@Profile("benchmark")
+@Slf4j
+public class CheckInLoadBenchmark implements ApplicationRunner {
+
+    private static final double TARGET_PER_SECOND = 500;
+
+    private final AttendanceRecordService attendanceRecordService;
+    private final AttendanceRecordRepository attendanceRecordRepository;
+    private final EventSessionRepository eventSessionRepository;
+    private final EventParticipantRepository eventParticipantRepository;
+    private final QRTokenService qrTokenService;
+    private final CheckInRosterCache checkInRosterCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final int scanners;
+    private final int rounds;
+
+    public CheckInLoadBenchmark(AttendanceRecordService attendanceRecordService,
+                                AttendanceRecordRepository attendanceRecordRepository,
+                                EventSessionRepository eventSessionRepository,
+                                EventParticipantRepository eventParticipantRepository,
+                                QRTokenService qrTokenService,
+                                CheckInRosterCache checkInRosterCache,
+                                JdbcTemplate jdbcTemplate,
+                                @Value("${csps.benchmark.check-in.scanners:32}") int scanners,
+                                @Value("${csps.benchmark.check-in.rounds:10}") int rounds) {
+        this.attendanceRecordService = attendanceRecordService;
+        this.attendanceRecordRepository = attendanceRecordRepository;
+        this.eventSessionRepository = eventSessionRepository;
+        this.eventParticipantRepository = eventParticipantRepository;
+        this.qrTokenService = qrTokenService;
+        this.checkInRosterCache = checkInRosterCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.scanners = scanners;
+        this.rounds = rounds;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        /* any ACTIVE session will do; looked up here so the production repository does not carry it */
+        List<Long> activeSessions = jdbcTemplate.queryForList(
+                "SELECT session_id FROM event_session WHERE session_status = ? LIMIT 1", Long.class, SessionStatus.ACTIVE.name());
+        if (activeSessions.isEmpty()) {
+            log.warn("check-in benchmark skipped: needs an ACTIVE event session");
+            return;
+        }
+        Long sessionId = activeSessions.get(0);
+        Long eventId = eventSessionRepository.findCheckInSession(sessionId).orElseThrow().getEventId();
+
+        Set<Long> alreadyCheckedIn = new HashSet<>(attendanceRecordRepository.findCheckedInParticipantIds(sessionId));
+        List<Long> participantIds = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        for (EventParticipantRepository.RosterEntry entry : eventParticipantRepository.findRosterByEventId(eventId)) {
+            if (!alreadyCheckedIn.contains(entry.getParticipantId())) {
+                participantIds.add(entry.getParticipantId());
+                tokens.add(qrTokenService.generateStudentQRToken(sessionId, entry.getStudentId()));
+            }
+        }
+        if (tokens.isEmpty()) {
+            log.warn("check-in benchmark skipped: session {} has no participants left to check in", sessionId);
+            return;
+        }
+
+        /* every token twice, shuffled so duplicates arrive concurrently with first scans */
+        List<String> scans = new ArrayList<>(tokens.size() * 2);
+        scans.addAll(tokens);
+        scans.addAll(tokens);
+        Collections.shuffle(scans);
+
+        ExecutorService pool = Executors.newFixedThreadPool(scanners);
+        try {
+            /* warmup */
+            runRound(pool, sessionId, scans, participantIds);
+            long totalNanos = 0;
+            long totalAccepted = 0;
+            for (int round = 0; round < rounds; round++) {
+                Collections.shuffle(scans);
+                long[] result = runRound(pool, sessionId, scans, participantIds);
+                totalNanos += result[0];
+                totalAccepted += result[1];
+                log.info("check-in benchmark round {}: {} scans, {} accepted, {} duplicates, {} failed in {} ms",
+                        round + 1, scans.size(), result[1], result[2], result[3], result[0] / 1_000_000);
+            }
+
+            double acceptedPerSecond = totalAccepted / (totalNanos / 1_000_000_000.0);
+            double scansPerSecond = (double) scans.size() * rounds / (totalNanos / 1_000_000_000.0);
+            log.info("check-in benchmark: {} scanners, {} check-ins/s accepted, {} scans/s, target {}/s {}",
+                    scanners, Math.round(acceptedPerSecond), Math.round(scansPerSecond), Math.round(TARGET_PER_SECOND),
+                    acceptedPerSecond >= TARGET_PER_SECOND ? "met" : "NOT met");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /* one timed pass over all scans followed by an untimed cleanup; returns {nanos, accepted, duplicates, failed} */
+    private long[] runRound(ExecutorService pool, Long sessionId, List<String> scans, List<Long> participantIds) throws Exception {
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>(scans.size());
+        long start = System.nanoTime();
+        for (String token : scans) {
+            futures.add(pool.submit(() -> {
+                try {
+                    attendanceRecordService.checkInWithQR(sessionId, token);
+                    accepted.incrementAndGet();
+                } catch (DuplicateCheckInException ex) {
+                    duplicates.incrementAndGet();
+                } catch (RuntimeException ex) {
+                    if (failed.getAndIncrement() == 0) {
+                        log.warn("check-in benchmark: scan failed", ex);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long nanos = System.nanoTime() - start;
+
+        /* take the round's rows out again and start the next round from a freshly loaded roster */
+        jdbcTemplate.update("DELETE FROM attendance_record WHERE session_id = ? AND event_participant_id IN ("
+                + String.join(", ", Collections.nCopies(participantIds.size(), "?")) + ")",
+                concat(sessionId, participantIds));
+        checkInRosterCache.evict(sessionId);
+
+        return new long[] { nanos, accepted.get(), duplicates.get(), failed.get() };
+    }
+
+    private static Object[] concat(Long first, List<Long> rest) {
+        Object[] args = new Object[rest.size() + 1];
+        args[0] = first;
+        for (int i = 0; i < rest.size(); i++) {
+            args[i + 1] = rest.get(i);
+        }
+        return args;
+    }
+}
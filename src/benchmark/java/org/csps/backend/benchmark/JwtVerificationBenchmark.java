@@ -0,0 +1,75 @@
+package org.csps.backend.benchmark;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.csps.backend.security.JwtKeyProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Tokens verified per second: the old per-call path (Base64-decode the secret, build the key and a new
+ * JwtParser for every token) against the shared JwtKeyProvider parser. No Spring context or database needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtVerificationBenchmark {
+
+    private String secret;
+    private String token;
+    private JwtKeyProvider keyProvider;
+
+    @Setup
+    public void setUp() {
+        byte[] keyBytes = new byte[32];
+        for (int i = 0; i < keyBytes.length; i++) {
+            keyBytes[i] = (byte) (i * 31 + 7);
+        }
+        secret = Base64.getEncoder().encodeToString(keyBytes);
+        keyProvider = new JwtKeyProvider(secret, "primary", "");
+        token = Jwts.builder()
+                .header().keyId(keyProvider.getKeyId()).and()
+                .subject("1")
+                .claim("role", "STUDENT")
+                .claim("studentId", "22000001")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .signWith(keyProvider.getSigningKey())
+                .compact();
+    }
+
+    /* what JwtService and QRTokenService did before the shared provider */
+    @Benchmark
+    public Claims perCallKeyAndParser() {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return keyProvider.parseClaims(token);
+    }
+}
@@ -6,8 +6,9 @@ import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
 import org.csps.backend.annotation.Auditable;
+import org.csps.backend.domain.dtos.AuditEventDTO;
 import org.csps.backend.domain.enums.AuditAction;
-import org.csps.backend.service.AuditLogService;
+import org.csps.backend.service.AuditLogWriter;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -23,7 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class AuditLoggingAspect {
 
-    private final AuditLogService auditLogService;
+    private final AuditLogWriter auditLogWriter;
 
     /* intercepts methods annotated with @Auditable and logs the action */
     @AfterReturning(pointcut = "@annotation(auditable)")
@@ -38,10 +39,19 @@ public class AuditLoggingAspect {
             String resourceId = extractResourceIdFromRequest();
             AuditAction action = auditable.action();
             String resourceType = auditable.resourceType();
-            String description = "[" + LocalDateTime.now() + "] " + action.name() + " operation on " + resourceType;
+            LocalDateTime now = LocalDateTime.now();
+            String description = "[" + now + "] " + action.name() + " operation on " + resourceType;
 
-            auditLogService.logAction(adminId, action, resourceType, resourceId, description);
-            log.info("audit logged: {} {} by admin {}", action, resourceType, adminId);
+            /* captured here, written off the request thread by the batched audit writer */
+            auditLogWriter.enqueue(AuditEventDTO.builder()
+                    .adminId(adminId)
+                    .action(action)
+                    .resourceType(resourceType)
+                    .resourceId(resourceId)
+                    .description(description)
+                    .timestamp(now)
+                    .build());
+            log.debug("audit queued: {} {} by admin {}", action, resourceType, adminId);
         } catch (Exception e) {
             log.error("failed to log audit action: {}", e.getMessage(), e);
         }
@@ -5,6 +5,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Configuration for async task execution
@@ -30,4 +32,33 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Virtual-thread executor for the finance dashboard panels
+     * Panels are short blocking database reads, so one virtual thread per panel is enough
+     */
+    @Bean(name = "dashboardTaskExecutor", destroyMethod = "close")
+    public ExecutorService dashboardTaskExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dashboard-", 0).factory());
+    }
+
+    /**
+     * Fixed pool for BCrypt hashing during bulk student imports
+     * Hashing is CPU-bound, so the pool is sized to the available cores instead of using virtual threads
+     */
+    @Bean(name = "passwordHashExecutor", destroyMethod = "close")
+    public ExecutorService passwordHashExecutor() {
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory());
+    }
+
+    /**
+     * Fixed pool for verifying QR token signatures of batch check-ins
+     * Verification is CPU-bound HMAC work, so the pool is sized to the available cores
+     */
+    @Bean(name = "qrValidationExecutor", destroyMethod = "close")
+    public ExecutorService qrValidationExecutor() {
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                Thread.ofPlatform().name("qr-validation-", 0).daemon(true).factory());
+    }
 }
@@ -3,6 +3,7 @@ package org.csps.backend.configs;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -21,6 +22,7 @@ public class CorsConfig {
                         .allowedOrigins(frontendUrl) //Your Vite port
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH")
                         .allowedHeaders("*")
+                        .exposedHeaders(HttpHeaders.CONTENT_DISPOSITION, "X-Total-Count") // read by the CSV downloads
                         .allowCredentials(false); // Using Authorization header instead of cookies
             }
         };
@@ -0,0 +1,48 @@
+package org.csps.backend.configs;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Streamed exports run as async requests and can take minutes for large member or customer lists.
+ * Only the export endpoints get the long async timeout; every other async request keeps the container default.
+ */
+@Configuration
+public class ExportConfig {
+
+    private static final String[] EXPORT_PATHS = {
+        "/api/student-memberships/*/export/csv",
+        "/api/merch-customers/*/export/csv",
+        "/api/audit-logs/export"
+    };
+
+    @Value("${csps.export.async-timeout:10m}")
+    private Duration exportTimeout;
+
+    @Bean
+    public WebMvcConfigurer exportTimeoutConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new AsyncHandlerInterceptor() {
+                    /* runs right after the handler started async processing, still before the dispatch returns */
+                    @Override
+                    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                        if (request.isAsyncStarted()) {
+                            request.getAsyncContext().setTimeout(exportTimeout.toMillis());
+                        }
+                    }
+                }).addPathPatterns(EXPORT_PATHS);
+            }
+        };
+    }
+}
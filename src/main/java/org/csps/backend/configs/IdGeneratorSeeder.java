@@ -0,0 +1,54 @@
+package org.csps.backend.configs;
+
+import static org.csps.backend.domain.entities.IdGenerators.NAME_COLUMN;
+import static org.csps.backend.domain.entities.IdGenerators.TABLE;
+import static org.csps.backend.domain.entities.IdGenerators.VALUE_COLUMN;
+
+import java.util.Map;
+
+import org.csps.backend.domain.entities.IdGenerators;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Migration path from IDENTITY to the pooled table generator that keeps existing ids.
+ * Before any request is served, every generator row is moved past the highest id already in its table,
+ * so the first allocated block never collides with rows written under AUTO_INCREMENT.
+ * The update only ever raises next_val, so running it on every startup is safe.
+ * Relies on hibernate.id.optimizer.pooled.preferred=pooled-lo, where next_val is the next id to hand out.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdGeneratorSeeder {
+
+    /* generator row -> table and id column it hands out ids for */
+    private static final Map<String, String[]> SEEDS = Map.of(
+        IdGenerators.ORDERS, new String[] {"orders", "order_id"},
+        IdGenerators.STUDENT_MEMBERSHIP, new String[] {"student_membership", "membership_id"},
+        IdGenerators.ATTENDANCE_RECORD, new String[] {"attendance_record", "attendance_id"}
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /* injected only so this runs after Hibernate has created id_generator (ddl-auto=update) */
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void seed() {
+        for (Map.Entry<String, String[]> seed : SEEDS.entrySet()) {
+            String table = seed.getValue()[0];
+            String idColumn = seed.getValue()[1];
+            jdbcTemplate.update("INSERT INTO " + TABLE + " (" + NAME_COLUMN + ", " + VALUE_COLUMN + ") "
+                    + "SELECT ?, COALESCE(MAX(" + idColumn + "), 0) + 1 FROM " + table + " "
+                    + "ON DUPLICATE KEY UPDATE " + VALUE_COLUMN + " = GREATEST(" + VALUE_COLUMN + ", VALUES(" + VALUE_COLUMN + "))",
+                    seed.getKey());
+        }
+        log.info("id generator rows aligned with existing ids for {}", SEEDS.keySet());
+    }
+}
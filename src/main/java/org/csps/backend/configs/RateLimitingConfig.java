@@ -1,19 +1,19 @@
 package org.csps.backend.configs;
 
-import java.time.Duration;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Bucket4j;
 import lombok.Data;
 
 /**
  * Configuration for rate limiting to prevent DDoS attacks
  * Uses Bucket4j library for token bucket algorithm
+ * Buckets are kept in a RateLimitBucketStore (in-memory by default, jdbc for multi-instance)
+ * Route-specific budgets are declared as policies; unmatched routes use the global limits
+ * Policies are keyed by principal for authenticated requests and by client IP otherwise
  */
 @Configuration
 @ConfigurationProperties(prefix = "rate-limiting")
@@ -23,32 +23,32 @@ public class RateLimitingConfig {
     private int requestsPerMinute = 100;
     private int requestsPerHour = 5000;
     private boolean enabled = true;
-    private String[] excludedPaths = {"/api/auth/login", "/api/auth/register", "/health"};
-    
-    /* cache for storing rate limit buckets per client */
-    private final ConcurrentHashMap<String, Bucket> cache = new ConcurrentHashMap<>();
-    
-    /* get or create bucket for a specific client (IP) */
-    public Bucket resolveBucket(String clientId) {
-        return cache.computeIfAbsent(clientId, key -> createNewBucket());
-    }
-    
-    /* create new token bucket with minute limit */
-    private Bucket createNewBucket() {
-        /* simple bandwidth: requestsPerMinute tokens per minute */
-        Bandwidth limit = Bandwidth.simple(requestsPerMinute, Duration.ofMinutes(1));
-        return Bucket4j.builder()
-            .addLimit(limit)
-            .build();
-    }
-    
-    /* check if path should be excluded from rate limiting */
-    public boolean isPathExcluded(String path) {
-        for (String excludedPath : excludedPaths) {
-            if (path.startsWith(excludedPath)) {
-                return true;
-            }
-        }
-        return false;
+    private String[] excludedPaths = {"/health"};
+    /* per-IP ceiling for requests carrying a bearer token, checked before the token is verified;
+       their route policy is then applied per principal */
+    private int preAuthRequestsPerMinute = 1000;
+
+    /* bucket store backend: memory (per-JVM) or jdbc (shared MySQL table) */
+    private String store = "memory";
+    /* upper bound on buckets held by the in-memory store */
+    private long maxTrackedClients = 100000;
+    /* buckets idle this long are evicted (memory) or purged (jdbc) */
+    private long idleEvictionMinutes = 60;
+
+    /* route policies, first match wins */
+    private List<Policy> policies = new ArrayList<>();
+
+    @Data
+    public static class Policy {
+        private String name;
+        /* Spring path patterns, e.g. /api/event/session/{id}/check-in or /api/orders/** */
+        private List<String> paths = new ArrayList<>();
+        /* HTTP methods this policy applies to, empty = all */
+        private List<String> methods = new ArrayList<>();
+        private int requestsPerMinute;
+        /* max tokens available at once, 0 = same as requestsPerMinute */
+        private int burstCapacity;
+        /* optional hourly cap, 0 = none */
+        private int requestsPerHour;
     }
 }
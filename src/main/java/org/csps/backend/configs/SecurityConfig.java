@@ -1,5 +1,6 @@
 package org.csps.backend.configs;
 import org.csps.backend.security.JwtAuthenticationFilter;
+import org.csps.backend.security.PrincipalRateLimitingFilter;
 import org.csps.backend.security.RateLimitingFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,10 +23,13 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtFilter;
     private final RateLimitingFilter rateLimitingFilter;
+    private final PrincipalRateLimitingFilter principalRateLimitingFilter;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtFilter, RateLimitingFilter rateLimitingFilter) {
+    public SecurityConfig(JwtAuthenticationFilter jwtFilter, RateLimitingFilter rateLimitingFilter,
+                          PrincipalRateLimitingFilter principalRateLimitingFilter) {
         this.jwtFilter = jwtFilter;
         this.rateLimitingFilter = rateLimitingFilter;
+        this.principalRateLimitingFilter = principalRateLimitingFilter;
     }
 
     @Bean
@@ -46,8 +50,11 @@ public class SecurityConfig {
                     response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized");
                 })
             )
-            .addFilterBefore(rateLimitingFilter, UsernamePasswordAuthenticationFilter.class)
-            .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+            /* before JWT so floods are turned away without paying for token verification */
+            .addFilterBefore(rateLimitingFilter, JwtAuthenticationFilter.class)
+            /* after JWT so authenticated requests are limited per principal rather than per IP */
+            .addFilterAfter(principalRateLimitingFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
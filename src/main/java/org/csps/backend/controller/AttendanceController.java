@@ -5,12 +5,16 @@ import java.util.List;
 
 import org.csps.backend.annotation.Auditable;
 import org.csps.backend.domain.dtos.request.AttendanceRecordSearchDTO;
+import org.csps.backend.domain.dtos.request.BatchCheckInRequestDTO;
 import org.csps.backend.domain.dtos.request.CheckInRequestDTO;
 import org.csps.backend.domain.dtos.request.EventSessionRequestDTO;
 import org.csps.backend.domain.dtos.response.AttendanceRecordResponseDTO;
+import org.csps.backend.domain.dtos.response.BatchCheckInResponseDTO;
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
 import org.csps.backend.domain.dtos.response.EventSessionResponseDTO;
 import org.csps.backend.domain.dtos.response.GlobalResponseBuilder;
 import org.csps.backend.domain.enums.AuditAction;
+import org.csps.backend.service.AttendanceIngestionService;
 import org.csps.backend.service.AttendanceRecordService;
 import org.csps.backend.service.EventSessionService;
 import org.springframework.data.domain.Page;
@@ -43,6 +47,7 @@ public class AttendanceController {
 
     private final EventSessionService eventSessionService;
     private final AttendanceRecordService attendanceRecordService;
+    private final AttendanceIngestionService attendanceIngestionService;
 
     /* admin: create a session for an event */
     @PostMapping("/{eventId}/session")
@@ -116,6 +121,16 @@ public class AttendanceController {
         return GlobalResponseBuilder.buildResponse(message, record, HttpStatus.CREATED);
     }
 
+    /* scanner: upload scans buffered while offline; one result per scan, resending the same scans is safe */
+    @PostMapping("/session/check-in/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<GlobalResponseBuilder<BatchCheckInResponseDTO>> batchCheckIn(
+            @Valid @RequestBody BatchCheckInRequestDTO batchRequest) {
+        BatchCheckInResponseDTO result = attendanceIngestionService.ingestScans(batchRequest.getScans());
+        String message = result.getAccepted() + " of " + batchRequest.getScans().size() + " scans checked in";
+        return GlobalResponseBuilder.buildResponse(message, result, HttpStatus.OK);
+    }
+
     /* admin: view attendance for a session (who checked in) with pagination, page size of 6 per page */
     @GetMapping("/session/{sessionId}/attendance")
     @PreAuthorize("hasRole('ADMIN_EXECUTIVE')")
@@ -127,6 +142,18 @@ public class AttendanceController {
         return GlobalResponseBuilder.buildResponse(message, records, HttpStatus.OK);
     }
 
+    /* admin: view attendance for a session with keyset pagination, pass back nextCursor for the next page */
+    @GetMapping("/session/{sessionId}/attendance/cursor")
+    @PreAuthorize("hasRole('ADMIN_EXECUTIVE')")
+    public ResponseEntity<GlobalResponseBuilder<CursorPageResponseDTO<AttendanceRecordResponseDTO>>> getSessionAttendanceByCursor(
+            @PathVariable Long sessionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "6") int size) {
+        CursorPageResponseDTO<AttendanceRecordResponseDTO> records = attendanceRecordService.getSessionAttendanceByCursor(sessionId, cursor, size);
+        String message = "Attendance records for session retrieved successfully";
+        return GlobalResponseBuilder.buildResponse(message, records, HttpStatus.OK);
+    }
+
     /* admin: view attendance count for a session */
     @GetMapping("/session/{sessionId}/attendance/count")
     @PreAuthorize("hasRole('ADMIN_EXECUTIVE')")
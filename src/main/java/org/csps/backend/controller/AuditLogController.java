@@ -3,21 +3,27 @@ package org.csps.backend.controller;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.csps.backend.domain.dtos.request.AuditLogSearchDTO;
 import org.csps.backend.domain.dtos.response.AuditLogResponseDTO;
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
 import org.csps.backend.domain.dtos.response.GlobalResponseBuilder;
 import org.csps.backend.domain.entities.AuditLog;
 import org.csps.backend.domain.enums.AuditAction;
 import org.csps.backend.mapper.AuditLogMapper;
 import org.csps.backend.service.AuditLogService;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.RequiredArgsConstructor;
 
@@ -98,4 +104,35 @@ public class AuditLogController {
         String message = "Retrieved " + response.size() + " audit logs for admin " + adminId + " between " + startTime + " and " + endTime;
         return GlobalResponseBuilder.buildResponse(message, response, HttpStatus.OK);
     }
+
+    /* search audit logs with combinable filters (adminId, action, resourceType, startTime, endTime).
+       keyset paginated newest first: pass nextCursor from the previous response as ?cursor= */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN_EXECUTIVE')")
+    public ResponseEntity<GlobalResponseBuilder<CursorPageResponseDTO<AuditLogResponseDTO>>> searchAuditLogs(
+            @ModelAttribute AuditLogSearchDTO searchDTO,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorPageResponseDTO<AuditLogResponseDTO> response = auditLogService.searchAuditLogs(searchDTO, cursor, size);
+
+        String message = "Retrieved " + response.getSize() + " audit logs";
+        return GlobalResponseBuilder.buildResponse(message, response, HttpStatus.OK);
+    }
+
+    /* export audit logs matching the same filters as /search, streamed as ndjson (default) or csv */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN_EXECUTIVE')")
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
+            @ModelAttribute AuditLogSearchDTO searchDTO,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        boolean csv = "csv".equalsIgnoreCase(format);
+        StreamingResponseBody body = outputStream -> auditLogService.exportAuditLogs(searchDTO, format, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv") : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"audit-logs." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
 }
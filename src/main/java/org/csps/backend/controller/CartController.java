@@ -67,14 +67,13 @@ public class CartController {
     }
 
     /**
-     * Create cart for student (admin only - usually done during student registration).
+     * Create cart for student (admin only - carts are created on the student's first add).
      */
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<GlobalResponseBuilder<CartResponseDTO>> createCart(
             @AuthenticationPrincipal String adminId) {
-        // This endpoint is meant to be used by admin to create a cart for a student
-        // In typical flow, cart is auto-created during student registration
-        throw new UnsupportedOperationException("Cart creation should be handled during student registration");
+        // Carts are created lazily by the first cart item add, so there is nothing to create up front
+        throw new UnsupportedOperationException("Carts are created automatically on the student's first add to cart");
     }
 }
@@ -2,10 +2,13 @@ package org.csps.backend.controller;
 
 import java.util.List;
 
+import org.csps.backend.domain.dtos.request.CartBatchRequestDTO;
 import org.csps.backend.domain.dtos.request.CartItemRequestDTO;
 import org.csps.backend.domain.dtos.response.CartItemResponseDTO;
+import org.csps.backend.domain.dtos.response.CartResponseDTO;
 import org.csps.backend.domain.dtos.response.GlobalResponseBuilder;
 import org.csps.backend.service.CartItemService;
+import org.csps.backend.service.CartViewService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -29,6 +32,7 @@ import lombok.RequiredArgsConstructor;
 public class CartItemController {
 
     private final CartItemService cartItemService;
+    private final CartViewService cartViewService;
 
     /**
      * Add item to cart.
@@ -42,6 +46,21 @@ public class CartItemController {
         return GlobalResponseBuilder.buildResponse("Cart item added successfully", responseDTO, HttpStatus.CREATED);
     }
 
+    /**
+     * Apply a list of add/update/remove operations in one request; all of them apply or none do.
+     * Returns the resulting cart.
+     */
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('STUDENT')")
+    public ResponseEntity<GlobalResponseBuilder<CartResponseDTO>> applyCartOperations(
+            @AuthenticationPrincipal String studentId,
+            @Valid @RequestBody CartBatchRequestDTO requestDTO) {
+        cartItemService.applyCartOperations(studentId, requestDTO.getOperations());
+        // read after the batch has committed, once the cached cart view has been evicted
+        CartResponseDTO cart = cartViewService.getCart(studentId);
+        return GlobalResponseBuilder.buildResponse("Cart updated successfully", cart, HttpStatus.OK);
+    }
+
     /**
      * Get all items in cart.
      */
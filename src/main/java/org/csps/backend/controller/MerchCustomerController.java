@@ -11,7 +11,9 @@ import org.csps.backend.service.MerchCustomerService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,6 +23,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -140,4 +143,28 @@ public class MerchCustomerController {
         List<MerchCustomerResponseDTO> customers = merchCustomerService.getAllCustomersByMerchId(merchId);
         return ResponseEntity.ok(customers);
     }
+
+    /**
+     * Stream ALL customers for a specific merch as a CSV download, optionally gzipped.
+     * The row count is sent up front in X-Total-Count; it also validates the merch
+     * before the response is committed, so an unknown merch still gets a normal 404.
+     *
+     * @param merchId the merch ID to export customers for
+     * @param gzip    whether to send a .csv.gz file instead of plain CSV
+     * @return streamed CSV body
+     */
+    @GetMapping("/{merchId}/export/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportCustomersByMerchIdCsv(
+            @PathVariable Long merchId,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        long total = merchCustomerService.getCustomerCountByMerchId(merchId);
+        StreamingResponseBody body = outputStream -> merchCustomerService.exportCustomersByMerchIdCsv(merchId, outputStream, gzip);
+
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : new MediaType("text", "csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"merch-" + merchId + "-customers" + (gzip ? ".csv.gz" : ".csv") + "\"")
+                .header("X-Total-Count", String.valueOf(total))
+                .body(body);
+    }
 }
@@ -2,6 +2,7 @@ package org.csps.backend.controller;
 
 import org.csps.backend.domain.dtos.request.OrderPostRequestDTO;
 import org.csps.backend.domain.dtos.request.OrderSearchDTO;
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
 import org.csps.backend.domain.dtos.response.GlobalResponseBuilder;
 import org.csps.backend.domain.dtos.response.OrderResponseDTO;
 import org.csps.backend.service.OrderService;
@@ -20,6 +21,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.Valid;
@@ -58,6 +60,19 @@ public class OrderController {
         return GlobalResponseBuilder.buildResponse("Orders retrieved successfully", responseDTOs, HttpStatus.OK);
     }
 
+    /**
+     * Get all orders (admin only), keyset mode for infinite scroll.
+     * Query params: cursor (nextCursor of the previous page, omit for the first page), size (default 20, max 100)
+     */
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<GlobalResponseBuilder<CursorPageResponseDTO<OrderResponseDTO>>> getAllOrdersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponseDTO<OrderResponseDTO> responseDTOs = orderService.getAllOrdersByCursor(cursor, size);
+        return GlobalResponseBuilder.buildResponse("Orders retrieved successfully", responseDTOs, HttpStatus.OK);
+    }
+
     /**
      * Get all orders for the authenticated student (paginated by default).
      * Query params: page (0-indexed), size (default 5), sort (e.g., "orderDate,desc")
@@ -72,6 +87,20 @@ public class OrderController {
         return GlobalResponseBuilder.buildResponse("Orders retrieved successfully", responseDTOs, HttpStatus.OK);
     }
 
+    /**
+     * Get all orders for the authenticated student, keyset mode for infinite scroll.
+     * Query params: cursor (omit for the first page), size (default 20, max 100)
+     */
+    @GetMapping("/my-orders/cursor")
+    @PreAuthorize("hasRole('STUDENT')")
+    public ResponseEntity<GlobalResponseBuilder<CursorPageResponseDTO<OrderResponseDTO>>> getMyOrdersByCursor(
+            @AuthenticationPrincipal String studentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponseDTO<OrderResponseDTO> responseDTOs = orderService.getOrdersByStudentIdByCursor(studentId, cursor, size);
+        return GlobalResponseBuilder.buildResponse("Orders retrieved successfully", responseDTOs, HttpStatus.OK);
+    }
+
     /**
      * Get order by ID.
      */
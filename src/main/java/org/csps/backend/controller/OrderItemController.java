@@ -3,6 +3,7 @@ package org.csps.backend.controller;
 import java.util.List;
 
 import org.csps.backend.domain.dtos.request.OrderItemRequestDTO;
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
 import org.csps.backend.domain.dtos.response.GlobalResponseBuilder;
 import org.csps.backend.domain.dtos.response.OrderItemResponseDTO;
 import org.csps.backend.domain.enums.OrderStatus;
@@ -109,6 +110,21 @@ public class OrderItemController {
         return GlobalResponseBuilder.buildResponse("Order items retrieved successfully", page, HttpStatus.OK);
     }
 
+    /**
+     * Get order items for the authenticated student, keyset mode for infinite scroll.
+     * Query params: status (optional), cursor (omit for the first page), size (default 20, max 100)
+     */
+    @GetMapping("/my-items/cursor")
+    @PreAuthorize("hasRole('STUDENT')")
+    public ResponseEntity<GlobalResponseBuilder<CursorPageResponseDTO<OrderItemResponseDTO>>> getMyOrderItemsByCursor(
+            @AuthenticationPrincipal String studentId,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponseDTO<OrderItemResponseDTO> page = orderItemService.getOrderItemsByStudentIdByCursor(studentId, status, cursor, size);
+        return GlobalResponseBuilder.buildResponse("Order items retrieved successfully", page, HttpStatus.OK);
+    }
+
     /**
      * Get all order items for the authenticated student with optional status filter (paginated).
      * Query params: status (optional), page (0-indexed), size (default 20), sort (e.g., "updatedAt,desc")
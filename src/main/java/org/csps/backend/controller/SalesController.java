@@ -4,7 +4,9 @@ import org.csps.backend.domain.dtos.request.OrderSearchDTO;
 import org.csps.backend.domain.dtos.response.GlobalResponseBuilder;
 import org.csps.backend.domain.dtos.response.sales.SalesStatsDTO;
 import org.csps.backend.domain.dtos.response.sales.TransactionDTO;
+import org.csps.backend.domain.enums.MerchType;
 import org.csps.backend.domain.enums.SalesPeriod;
+import org.csps.backend.service.SalesRollupService;
 import org.csps.backend.service.SalesService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -29,15 +31,25 @@ import lombok.RequiredArgsConstructor;
 public class SalesController {
 
     private final SalesService salesService;
+    private final SalesRollupService salesRollupService;
 
     @GetMapping("/stats")
     @PreAuthorize("hasRole('ADMIN') or hasRole('ADMIN_FINANCE') or hasRole('ADMIN_EXECUTIVE')")
     public ResponseEntity<GlobalResponseBuilder<SalesStatsDTO>> getSalesStats(
-            @RequestParam(defaultValue = "DAILY") SalesPeriod period) {
-        SalesStatsDTO stats = salesService.getSalesStats(period);
+            @RequestParam(defaultValue = "DAILY") SalesPeriod period,
+            @RequestParam(required = false) MerchType merchType) {
+        SalesStatsDTO stats = salesService.getSalesStats(period, merchType);
         return GlobalResponseBuilder.buildResponse("Sales statistics retrieved successfully", stats, HttpStatus.OK);
     }
 
+    /* recompute the sales rollup from every claimed order (backfill or repair) */
+    @PostMapping("/rollup/rebuild")
+    @PreAuthorize("hasRole('ADMIN_FINANCE') or hasRole('ADMIN_EXECUTIVE')")
+    public ResponseEntity<GlobalResponseBuilder<Integer>> rebuildSalesRollup() {
+        int rows = salesRollupService.rebuild();
+        return GlobalResponseBuilder.buildResponse("Sales rollup rebuilt successfully", rows, HttpStatus.OK);
+    }
+
     @GetMapping("/transactions")
     @PreAuthorize("hasRole('ADMIN') or hasRole('ADMIN_FINANCE') or hasRole('ADMIN_EXECUTIVE')")
     public ResponseEntity<GlobalResponseBuilder<Page<TransactionDTO>>> getTransactions(
@@ -2,6 +2,7 @@ package org.csps.backend.controller;
 
 import org.csps.backend.domain.dtos.request.StudentRequestDTO;
 import org.csps.backend.domain.dtos.request.UserRequestDTO;
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
 import org.csps.backend.domain.dtos.response.GlobalResponseBuilder;
 import org.csps.backend.domain.dtos.response.StudentResponseDTO;
 import org.csps.backend.service.StudentService;
@@ -58,6 +59,18 @@ public class StudentController {
        return ResponseEntity.ok(students);
    }
 
+   // keyset pagination over students ordered by ID; pass back nextCursor to get the following page
+   @GetMapping("/cursor")
+   @PreAuthorize("hasRole('ADMIN')")
+   public ResponseEntity<CursorPageResponseDTO<StudentResponseDTO>> getStudentsByCursor(
+           @RequestParam(required = false) String cursor,
+           @RequestParam(defaultValue = "7") int size,
+           @RequestParam(required = false) String search,
+           @RequestParam(required = false) Byte yearLevel) {
+       CursorPageResponseDTO<StudentResponseDTO> students = studentService.getStudentsByCursor(search, yearLevel, cursor, size);
+       return ResponseEntity.ok(students);
+   }
+
    @GetMapping("/{studentId}")
    @PreAuthorize("hasRole('ADMIN')")
    public ResponseEntity<StudentResponseDTO> getStudent(@PathVariable String studentId) {
@@ -6,6 +6,7 @@ import java.util.Map;
 import org.csps.backend.domain.dtos.request.BulkStudentMembershipRequestDTO;
 import org.csps.backend.domain.dtos.request.StudentMembershipRequestDTO;
 import org.csps.backend.domain.dtos.request.StudentMembershipSearchDTO;
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
 import org.csps.backend.domain.dtos.response.MembershipRatioDTO;
 import org.csps.backend.domain.dtos.response.StudentMembershipResponseDTO;
 import org.csps.backend.domain.dtos.response.StudentResponseDTO;
@@ -13,7 +14,9 @@ import org.csps.backend.service.StudentMembershipService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,6 +26,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.RequiredArgsConstructor;
 
@@ -101,6 +105,25 @@ public class StudentMembershipController {
         return ResponseEntity.ok(activeMembers);
     }
 
+    /**
+     * Get memberships newest first using keyset pagination.
+     * Unlike the paginated endpoints this does not count the table, and deep pages stay fast.
+     *
+     * @param activeOnly only return active memberships (default false)
+     * @param cursor nextCursor from the previous response, omitted for the first page
+     * @param size number of items per page (default 7, max 100)
+     * @return one page of membership response DTOs plus the cursor of the next page
+     */
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPageResponseDTO<StudentMembershipResponseDTO>> getMembershipsByCursor(
+            @RequestParam(defaultValue = "false") boolean activeOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "7") int size) {
+        CursorPageResponseDTO<StudentMembershipResponseDTO> memberships = studentMembershipService.getMembershipsByCursor(activeOnly, cursor, size);
+        return ResponseEntity.ok(memberships);
+    }
+
     /**
      * Get all students who do NOT have an active membership (non-members), paginated.
      * Returns student profile info without membership details.
@@ -208,6 +231,33 @@ public class StudentMembershipController {
         return ResponseEntity.ok(nonMembers);
     }
 
+    /**
+     * Stream ALL active members as a CSV download, optionally gzipped.
+     * Rows are written as they are read from the database, so memory use stays flat for any member count.
+     *
+     * @param gzip whether to send a .csv.gz file instead of plain CSV
+     * @return streamed CSV body
+     */
+    @GetMapping("/active/export/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportActiveMembersCsv(@RequestParam(defaultValue = "false") boolean gzip) {
+        StreamingResponseBody body = outputStream -> studentMembershipService.exportActiveMembersCsv(outputStream, gzip);
+        return csvResponse("active-members", gzip, body);
+    }
+
+    /**
+     * Stream ALL non-members as a CSV download, optionally gzipped.
+     *
+     * @param gzip whether to send a .csv.gz file instead of plain CSV
+     * @return streamed CSV body
+     */
+    @GetMapping("/inactive/export/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportNonMembersCsv(@RequestParam(defaultValue = "false") boolean gzip) {
+        StreamingResponseBody body = outputStream -> studentMembershipService.exportNonMembersCsv(outputStream, gzip);
+        return csvResponse("non-members", gzip, body);
+    }
+
     /**
      * Bulk create memberships for multiple students in a single academic year.
      * Deduplicates and skips non-existent students silently.
@@ -223,4 +273,11 @@ public class StudentMembershipController {
         List<StudentMembershipResponseDTO> createdMemberships = studentMembershipService.bulkCreateMemberships(bulkRequestDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdMemberships);
     }
+
+    private static ResponseEntity<StreamingResponseBody> csvResponse(String fileName, boolean gzip, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : new MediaType("text", "csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + (gzip ? ".csv.gz" : ".csv") + "\"")
+                .body(body);
+    }
 }
\ No newline at end of file
@@ -1,13 +1,14 @@
 package org.csps.backend.controller;
 
-import java.util.List;
-
 import org.csps.backend.domain.dtos.response.GlobalResponseBuilder;
-import org.csps.backend.domain.dtos.response.StudentResponseDTO;
+import org.csps.backend.domain.dtos.response.StudentImportReportDTO;
+import org.csps.backend.domain.enums.ImportJobStatus;
 import org.csps.backend.service.StudentMigrationService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -28,29 +29,46 @@ public class StudentMigrationController {
      * CSV format: YEAR_LEVEL,LASTNAME,FIRSTNAME,ID_NUMBER
      * creates student accounts with incomplete profiles (isProfileComplete=false)
      * frontend will detect incomplete profiles and redirect to completion form
+     * rows are committed in chunks; if the import fails, upload the same file again with resumeJobId
+     * to continue after the last committed chunk
      *
      * @param file uploaded CSV file
-     * @return list of migrated students with isProfileComplete=false
+     * @param resumeJobId id of an unfinished import job to resume (optional)
+     * @return import report with counts and per-row errors
      */
     @PostMapping("/students/csv")
     @PreAuthorize("hasRole('ADMIN_EXECUTIVE')")
-    public ResponseEntity<GlobalResponseBuilder<List<StudentResponseDTO>>> migrateStudentsFromCsv(
-            @RequestParam("file") MultipartFile file) {
-        try {
-            if (file.isEmpty()) {
-                return GlobalResponseBuilder.buildResponse("CSV file is empty", null, HttpStatus.BAD_REQUEST);
-            }
+    public ResponseEntity<GlobalResponseBuilder<StudentImportReportDTO>> migrateStudentsFromCsv(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) Long resumeJobId) {
+        if (file.isEmpty()) {
+            return GlobalResponseBuilder.buildResponse("CSV file is empty", null, HttpStatus.BAD_REQUEST);
+        }
 
-            List<StudentResponseDTO> migratedStudents = studentMigrationService
-                    .migrateStudentsFromCsv(file.getInputStream());
+        StudentImportReportDTO report = studentMigrationService
+                .importStudentsFromCsv(file.getOriginalFilename(), file, resumeJobId);
 
-            String message = String.format("Successfully migrated %d students. They will need to complete their profiles.",
-                    migratedStudents.size());
+        if (report.getStatus() == ImportJobStatus.COMPLETED) {
+            String message = String.format("Successfully migrated %d students (%d skipped, %d failed). They will need to complete their profiles.",
+                    report.getImportedCount(), report.getSkippedCount(), report.getFailedCount());
+            return GlobalResponseBuilder.buildResponse(message, report, HttpStatus.CREATED);
+        }
 
-            return GlobalResponseBuilder.buildResponse(message, migratedStudents, HttpStatus.CREATED);
+        String message = String.format("CSV migration stopped after row %d: %s. Upload the same file with resumeJobId=%d to continue.",
+                report.getProcessedRows(), report.getErrorMessage(), report.getJobId());
+        return GlobalResponseBuilder.buildResponse(message, report, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
 
-        } catch (Exception e) {
-            return GlobalResponseBuilder.buildResponse("CSV migration failed: " + e.getMessage(), null, HttpStatus.BAD_REQUEST);
-        }
+    /**
+     * progress of an import job; can be polled while the import request is still running
+     *
+     * @param jobId import job id from the import report
+     * @return job counters and status (row errors are only returned by the import request itself)
+     */
+    @GetMapping("/students/jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN_EXECUTIVE')")
+    public ResponseEntity<GlobalResponseBuilder<StudentImportReportDTO>> getImportJob(@PathVariable Long jobId) {
+        StudentImportReportDTO report = studentMigrationService.getImportJob(jobId);
+        return GlobalResponseBuilder.buildResponse("Import job " + report.getStatus(), report, HttpStatus.OK);
     }
 }
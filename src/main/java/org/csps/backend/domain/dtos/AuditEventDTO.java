@@ -0,0 +1,28 @@
+package org.csps.backend.domain.dtos;
+
+import java.time.LocalDateTime;
+
+import org.csps.backend.domain.enums.AuditAction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * dto for a pending audit log entry.
+ * captured on the request thread (admin id, request uri, timestamp) and written later
+ * by the background audit writer, so it holds no entity references.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditEventDTO {
+    private Long adminId;
+    private AuditAction action;
+    private String resourceType;
+    private String resourceId;
+    private String description;
+    private LocalDateTime timestamp;
+}
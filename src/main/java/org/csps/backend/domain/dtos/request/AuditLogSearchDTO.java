@@ -0,0 +1,32 @@
+package org.csps.backend.domain.dtos.request;
+
+import java.time.LocalDateTime;
+
+import org.csps.backend.domain.enums.AuditAction;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AuditLogSearchDTO {
+
+    private Long adminId;
+
+    private AuditAction action;
+
+    private String resourceType;
+
+    /* inclusive lower bound */
+    @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime startTime;
+
+    /* exclusive upper bound */
+    @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime endTime;
+}
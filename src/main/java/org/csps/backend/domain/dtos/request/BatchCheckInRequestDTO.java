@@ -0,0 +1,22 @@
+package org.csps.backend.domain.dtos.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/* a scanner's buffered scans; resending the same scans never records a check-in twice */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BatchCheckInRequestDTO {
+    @NotEmpty(message = "At least one scan is required")
+    @Size(max = 1000, message = "At most 1000 scans are allowed per request")
+    private List<@Valid CheckInScanDTO> scans;
+}
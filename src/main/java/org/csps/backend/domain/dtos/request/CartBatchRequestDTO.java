@@ -0,0 +1,20 @@
+package org.csps.backend.domain.dtos.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/* cart operations applied in order and committed all together */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CartBatchRequestDTO {
+    @NotEmpty(message = "At least one cart operation is required")
+    private List<@Valid CartItemOperationDTO> operations;
+}
@@ -0,0 +1,23 @@
+package org.csps.backend.domain.dtos.request;
+
+import org.csps.backend.domain.enums.CartOperationType;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CartItemOperationDTO {
+    @NotNull(message = "Operation type cannot be null")
+    private CartOperationType type;
+
+    @NotNull(message = "Merch variant item ID cannot be null")
+    private Long merchVariantItemId;
+
+    private int quantity;
+}
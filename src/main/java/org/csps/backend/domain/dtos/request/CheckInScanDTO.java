@@ -0,0 +1,26 @@
+package org.csps.backend.domain.dtos.request;
+
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/* one QR scan buffered by a scanner, with the time it was taken on the device */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CheckInScanDTO {
+    @NotNull(message = "Session ID cannot be null")
+    private Long sessionId;
+
+    @NotBlank(message = "QR token cannot be blank")
+    private String qrToken;
+
+    @NotNull(message = "Scan time cannot be null")
+    private LocalDateTime scannedAt;
+}
@@ -0,0 +1,21 @@
+package org.csps.backend.domain.dtos.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BatchCheckInResponseDTO {
+    private int accepted;
+    private int duplicates;
+    private int invalid;
+    private int notParticipant;
+    /* one result per scan, in request order */
+    private List<CheckInResultDTO> results;
+}
@@ -22,6 +22,7 @@ public class CartItemResponseDTO {
     private Double unitPrice;        // Current price
     private int quantity;
     private Double subTotal;         // unitPrice * quantity
+    private boolean available;       // merch still on sale and enough stock for the quantity
 
     private MerchType merchType;
 }
\ No newline at end of file
@@ -20,4 +20,7 @@ public class CartResponseDTO {
 
     @JsonProperty("items")
     private List<CartItemResponseDTO> cartItemResponseDTOs;
+
+    private int totalQuantity;
+    private Double total;
 }
@@ -0,0 +1,22 @@
+package org.csps.backend.domain.dtos.response;
+
+import org.csps.backend.domain.enums.CheckInResultStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/* result of the scan at the same index of the request; studentId is null when the token could not be read */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CheckInResultDTO {
+    private int index;
+    private Long sessionId;
+    private String studentId;
+    private CheckInResultStatus status;
+    private String message;
+    private Long attendanceId;
+}
@@ -0,0 +1,23 @@
+package org.csps.backend.domain.dtos.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * slice of a keyset-paginated result.
+ * no total count is computed; pass nextCursor back as ?cursor= to fetch the following page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponseDTO<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
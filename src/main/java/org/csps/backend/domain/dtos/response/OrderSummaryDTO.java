@@ -3,9 +3,13 @@ package org.csps.backend.domain.dtos.response;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class OrderSummaryDTO {
     private Long orderItemId;
     private Long orderId;
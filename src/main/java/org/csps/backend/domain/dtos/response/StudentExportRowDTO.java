@@ -0,0 +1,44 @@
+package org.csps.backend.domain.dtos.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of the member / non-member CSV exports, filled by a JPQL constructor expression
+ * so streaming an export never materialises Student or StudentMembership entities.
+ * Membership fields are null for non-members.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentExportRowDTO {
+
+    private String studentId;
+
+    private String lastName;
+
+    private String firstName;
+
+    private String middleName;
+
+    private Byte yearLevel;
+
+    private String email;
+
+    private Long membershipId;
+
+    private LocalDateTime dateJoined;
+
+    private Integer yearStart;
+
+    private Integer yearEnd;
+
+    /* non-member rows carry no membership columns */
+    public StudentExportRowDTO(String studentId, String lastName, String firstName, String middleName,
+                               Byte yearLevel, String email) {
+        this(studentId, lastName, firstName, middleName, yearLevel, email, null, null, null, null);
+    }
+}
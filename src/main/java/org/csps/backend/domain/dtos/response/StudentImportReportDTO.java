@@ -0,0 +1,40 @@
+package org.csps.backend.domain.dtos.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.csps.backend.domain.enums.ImportJobStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress / result of a bulk student import job.
+ * Counters cover the whole job, including runs before a resume; errors only cover the current run
+ * and are capped at csps.migration.import.max-reported-errors.
+ *
+ * @field processedRows   data rows checkpointed so far; a resume continues after this row
+ * @field resumedFromRow  processedRows at the start of this run (0 for a fresh import)
+ * @field errorsTruncated true when more row errors occurred than are listed
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentImportReportDTO {
+    private Long jobId;
+    private String fileName;
+    private ImportJobStatus status;
+    private int processedRows;
+    private int importedCount;
+    private int skippedCount;
+    private int failedCount;
+    private int resumedFromRow;
+    private String errorMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private List<StudentImportRowErrorDTO> errors;
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,25 @@
+package org.csps.backend.domain.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of a bulk student import that was not imported.
+ *
+ * @field line      physical CSV line the record starts on
+ * @field studentId the ID_NUMBER column when it could be read
+ * @field skipped   true when the row was valid but the student already exists, false when it was rejected
+ * @field message   reason shown to the admin
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentImportRowErrorDTO {
+    private int line;
+    private String studentId;
+    private boolean skipped;
+    private String message;
+}
@@ -10,9 +10,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,12 +29,18 @@ import lombok.NoArgsConstructor;
 @Table(
     uniqueConstraints = {
         @UniqueConstraint(columnNames = {"event_participant_id", "session_id"}, name = "uk_participant_session")
+    },
+    indexes = {
+        @Index(name = "idx_attendance_session_checked_in", columnList = "session_id, checked_in_at, attendance_id")
     }
 )
 public class AttendanceRecord {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdGenerators.ATTENDANCE_RECORD)
+    @TableGenerator(name = IdGenerators.ATTENDANCE_RECORD, table = IdGenerators.TABLE,
+        pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+        pkColumnValue = IdGenerators.ATTENDANCE_RECORD, allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long attendanceId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,55 @@
+package org.csps.backend.domain.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/* one archived month of audit_log rows, stored as a gzip ndjson file (optionally mirrored to S3) */
+@Entity
+@Data
+@Table(name = "audit_log_archive", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_audit_archive_period", columnNames = "period_start")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AuditLogArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /* first instant of the archived month (inclusive) */
+    @Column(nullable = false)
+    private LocalDateTime periodStart;
+
+    /* first instant of the following month (exclusive) */
+    @Column(nullable = false)
+    private LocalDateTime periodEnd;
+
+    @Column(nullable = false)
+    private Long rowCount;
+
+    /* highest audit_log id written to the archive - only rows up to it are purged */
+    private Long maxAuditLogId;
+
+    /* file name inside csps.audit.archive.dir */
+    @Column(nullable = false)
+    private String fileName;
+
+    /* S3 object key when the archive was uploaded */
+    private String s3Key;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
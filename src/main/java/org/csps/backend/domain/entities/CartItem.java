@@ -5,7 +5,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
 import org.csps.backend.domain.entities.composites.CartItemId;
+import org.hibernate.annotations.UpdateTimestamp;
 
 
 @Entity
@@ -30,5 +34,9 @@ public class CartItem {
     private MerchVariantItem merchVariantItem;
 
     private int quantity;
+
+    /* last time the line was added or changed; null for lines written before it was tracked */
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
 }
 
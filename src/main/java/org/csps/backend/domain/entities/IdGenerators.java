@@ -0,0 +1,24 @@
+package org.csps.backend.domain.entities;
+
+/*
+ * shared settings of the pooled table id generator.
+ * entities that are inserted in bulk through JPA take their ids from the id_generator table instead of
+ * AUTO_INCREMENT, because Hibernate cannot batch inserts whose ids only exist after the INSERT.
+ * with the pooled-lo optimizer one row update hands out ALLOCATION_SIZE ids.
+ * tables that are also written with plain JDBC inserts (order_item, audit_log, user_profile, user_account)
+ * must stay on IDENTITY, otherwise AUTO_INCREMENT and the generator would hand out the same ids.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generator";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String ORDERS = "orders";
+    public static final String STUDENT_MEMBERSHIP = "student_membership";
+    public static final String ATTENDANCE_RECORD = "attendance_record";
+
+    private IdGenerators() {
+    }
+}
@@ -22,6 +22,7 @@ import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -31,7 +32,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "orders", indexes = 
 {
-    @Index(name = "idx_student_id", columnList = "student_id")
+    @Index(name = "idx_student_id", columnList = "student_id"),
+    @Index(name = "idx_order_date", columnList = "order_date, order_id")
 }
 )
 @NamedEntityGraph(
@@ -79,7 +81,10 @@ import lombok.NoArgsConstructor;
 @Builder
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdGenerators.ORDERS)
+    @TableGenerator(name = IdGenerators.ORDERS, table = IdGenerators.TABLE,
+        pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+        pkColumnValue = IdGenerators.ORDERS, allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long orderId;
 
     @OneToMany(mappedBy = "order")
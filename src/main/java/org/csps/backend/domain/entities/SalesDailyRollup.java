@@ -0,0 +1,67 @@
+package org.csps.backend.domain.entities;
+
+import java.time.LocalDate;
+
+import org.csps.backend.domain.enums.MerchType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+ * claimed sales pre-aggregated per day and merch.
+ * maintained incrementally when an order becomes CLAIMED (or stops being CLAIMED) and rebuilt
+ * from orders on demand, so sales charts never have to scan the orders table.
+ */
+@Entity
+@Data
+@Table(name = "sales_daily_rollup",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_sales_rollup_day_merch", columnNames = {"sales_date", "merch_id"})
+    },
+    indexes = {
+        @Index(name = "idx_sales_rollup_type_day", columnList = "merch_type, sales_date")
+    })
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SalesDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /* calendar day of the order date */
+    @Column(nullable = false)
+    private LocalDate salesDate;
+
+    /* plain id, not a relation: rollup rows must survive merch edits and never join back */
+    @Column(nullable = false)
+    private Long merchId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MerchType merchType;
+
+    /* sum of quantity * price_at_purchase over the claimed orders' items */
+    @Column(nullable = false)
+    private Double revenue;
+
+    /* number of claimed orders containing this merch on this day */
+    @Column(nullable = false)
+    private Long orderCount;
+
+    @Column(nullable = false)
+    private Long itemCount;
+}
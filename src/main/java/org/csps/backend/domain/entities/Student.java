@@ -1,7 +1,10 @@
 package org.csps.backend.domain.entities;
 
+import org.csps.backend.security.PrincipalRemovalListener;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
@@ -13,6 +16,7 @@ import lombok.NoArgsConstructor;
 
 @Data
 @Entity
+@EntityListeners(PrincipalRemovalListener.class)
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
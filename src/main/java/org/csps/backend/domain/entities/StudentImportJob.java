@@ -0,0 +1,70 @@
+package org.csps.backend.domain.entities;
+
+import java.time.LocalDateTime;
+
+import org.csps.backend.domain.enums.ImportJobStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+ * progress of one bulk student CSV import.
+ * the counters are advanced in the same transaction as each committed chunk, so processedRows is an exact
+ * checkpoint: resuming the job with the same file skips that many data rows and continues from there.
+ */
+@Entity
+@Data
+@Table(name = "student_import_job")
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class StudentImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long jobId;
+
+    private String fileName;
+
+    /* sha-256 of the uploaded file; a resume must upload the same bytes */
+    @Column(nullable = false, length = 64)
+    private String fileChecksum;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportJobStatus status;
+
+    /* data rows (header excluded) covered by committed chunks */
+    @Column(nullable = false)
+    private int processedRows;
+
+    @Column(nullable = false)
+    private int importedCount;
+
+    /* rows not imported because the student or username already exists, or the id repeats in the file */
+    @Column(nullable = false)
+    private int skippedCount;
+
+    /* rows rejected as malformed */
+    @Column(nullable = false)
+    private int failedCount;
+
+    /* cause of the last failure, cleared when the job is resumed */
+    @Column(length = 1000)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+}
@@ -13,6 +13,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -34,7 +35,10 @@ uniqueConstraints = {
 @NoArgsConstructor
 public class StudentMembership {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdGenerators.STUDENT_MEMBERSHIP)
+    @TableGenerator(name = IdGenerators.STUDENT_MEMBERSHIP, table = IdGenerators.TABLE,
+        pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+        pkColumnValue = IdGenerators.STUDENT_MEMBERSHIP, allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long membershipId;
 
     @ManyToOne(fetch=FetchType.LAZY)
@@ -1,9 +1,11 @@
 package org.csps.backend.domain.entities;
 
 import org.csps.backend.domain.enums.UserRole;
+import org.csps.backend.security.PrincipalRemovalListener;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -21,6 +23,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@EntityListeners(PrincipalRemovalListener.class)
 @Table(indexes={
     @Index(name = "idx_username", columnList = "username")
 })
@@ -0,0 +1,7 @@
+package org.csps.backend.domain.enums;
+
+public enum CartOperationType {
+    ADD,        // add quantity to the line, creating it if needed
+    UPDATE,     // set the line's quantity; 0 removes it
+    REMOVE      // drop the line
+}
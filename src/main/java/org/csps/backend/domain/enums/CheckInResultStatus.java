@@ -0,0 +1,9 @@
+package org.csps.backend.domain.enums;
+
+/* outcome of one scan in a batch check-in */
+public enum CheckInResultStatus {
+    ACCEPTED,
+    DUPLICATE,
+    INVALID,
+    NOT_PARTICIPANT
+}
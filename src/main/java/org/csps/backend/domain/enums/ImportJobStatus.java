@@ -0,0 +1,7 @@
+package org.csps.backend.domain.enums;
+
+public enum ImportJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
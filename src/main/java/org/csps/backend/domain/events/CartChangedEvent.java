@@ -0,0 +1,17 @@
+package org.csps.backend.domain.events;
+
+import java.util.Collection;
+import java.util.List;
+
+import lombok.Getter;
+
+/* cart lines of one or more students were added, changed or removed */
+@Getter
+public class CartChangedEvent {
+
+    private final List<String> studentIds;
+
+    public CartChangedEvent(Collection<String> studentIds) {
+        this.studentIds = List.copyOf(studentIds);
+    }
+}
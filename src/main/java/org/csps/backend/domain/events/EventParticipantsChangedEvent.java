@@ -0,0 +1,14 @@
+package org.csps.backend.domain.events;
+
+import lombok.Getter;
+
+/* students joined or left an event */
+@Getter
+public class EventParticipantsChangedEvent {
+
+    private final Long eventId;
+
+    public EventParticipantsChangedEvent(Long eventId) {
+        this.eventId = eventId;
+    }
+}
@@ -0,0 +1,18 @@
+package org.csps.backend.domain.events;
+
+import org.csps.backend.domain.enums.SessionStatus;
+
+import lombok.Getter;
+
+/* an event session moved to a new status */
+@Getter
+public class EventSessionStatusChangedEvent {
+
+    private final Long sessionId;
+    private final SessionStatus sessionStatus;
+
+    public EventSessionStatusChangedEvent(Long sessionId, SessionStatus sessionStatus) {
+        this.sessionId = sessionId;
+        this.sessionStatus = sessionStatus;
+    }
+}
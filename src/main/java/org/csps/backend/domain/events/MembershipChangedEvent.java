@@ -0,0 +1,17 @@
+package org.csps.backend.domain.events;
+
+import java.util.Collection;
+import java.util.List;
+
+import lombok.Getter;
+
+/* student memberships were created or updated */
+@Getter
+public class MembershipChangedEvent {
+
+    private final List<String> studentIds;
+
+    public MembershipChangedEvent(Collection<String> studentIds) {
+        this.studentIds = List.copyOf(studentIds);
+    }
+}
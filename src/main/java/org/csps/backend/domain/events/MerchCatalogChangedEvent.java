@@ -0,0 +1,18 @@
+package org.csps.backend.domain.events;
+
+import lombok.Getter;
+
+/* catalog data of a merch (its own fields, variants, items, prices or images) was created, changed or removed */
+@Getter
+public class MerchCatalogChangedEvent {
+
+    private final Long merchId;
+
+    /* the set of active merch changed (created, archived, reverted or retyped) */
+    private final boolean listingChanged;
+
+    public MerchCatalogChangedEvent(Long merchId, boolean listingChanged) {
+        this.merchId = merchId;
+        this.listingChanged = listingChanged;
+    }
+}
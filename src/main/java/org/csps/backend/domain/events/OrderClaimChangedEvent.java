@@ -0,0 +1,21 @@
+package org.csps.backend.domain.events;
+
+import java.util.Collection;
+import java.util.List;
+
+import lombok.Getter;
+
+/* orders (or their items) moved into or out of CLAIMED */
+@Getter
+public class OrderClaimChangedEvent {
+
+    private final List<Long> orderIds;
+
+    /* true when the orders became CLAIMED, false when they were rejected, unclaimed or deleted */
+    private final boolean claimed;
+
+    public OrderClaimChangedEvent(Collection<Long> orderIds, boolean claimed) {
+        this.orderIds = List.copyOf(orderIds);
+        this.claimed = claimed;
+    }
+}
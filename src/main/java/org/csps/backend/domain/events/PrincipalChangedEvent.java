@@ -0,0 +1,14 @@
+package org.csps.backend.domain.events;
+
+import lombok.Getter;
+
+/* the access of a user account changed or the account (or its student/admin) was deleted */
+@Getter
+public class PrincipalChangedEvent {
+
+    private final Long userAccountId;
+
+    public PrincipalChangedEvent(Long userAccountId) {
+        this.userAccountId = userAccountId;
+    }
+}
@@ -0,0 +1,17 @@
+package org.csps.backend.domain.events;
+
+import java.util.Collection;
+import java.util.List;
+
+import lombok.Getter;
+
+/* stock of one or more merch variant items changed (checkout, rejection, admin edit, new item) */
+@Getter
+public class StockChangedEvent {
+
+    private final List<Long> merchVariantItemIds;
+
+    public StockChangedEvent(Collection<Long> merchVariantItemIds) {
+        this.merchVariantItemIds = List.copyOf(merchVariantItemIds);
+    }
+}
@@ -0,0 +1,17 @@
+package org.csps.backend.domain.events;
+
+import java.util.Collection;
+import java.util.List;
+
+import lombok.Getter;
+
+/* orders of one or more students were placed, changed status or deleted */
+@Getter
+public class StudentOrdersChangedEvent {
+
+    private final List<String> studentIds;
+
+    public StudentOrdersChangedEvent(Collection<String> studentIds) {
+        this.studentIds = List.copyOf(studentIds);
+    }
+}
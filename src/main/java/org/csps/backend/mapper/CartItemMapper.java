@@ -3,6 +3,8 @@ package org.csps.backend.mapper;
 import org.csps.backend.domain.dtos.request.CartItemRequestDTO;
 import org.csps.backend.domain.dtos.response.CartItemResponseDTO;
 import org.csps.backend.domain.entities.CartItem;
+import org.csps.backend.domain.entities.MerchVariantItem;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -19,11 +21,20 @@ public interface CartItemMapper {
     @Mapping(source = "quantity", target = "quantity")
     @Mapping(source = "merchVariantItem.merchVariant.merch.merchType", target = "merchType")
     @Mapping(target = "subTotal", expression = "java(cartItem.getQuantity() * (cartItem.getMerchVariantItem() != null ? cartItem.getMerchVariantItem().getPrice() : 0.0))")
-    CartItemResponseDTO toResponseDTO(CartItem cartItem);
+    @Mapping(target = "available", expression = "java(CartItemMapper.isAvailable(cartItem, stockQuantity))")
+    CartItemResponseDTO toResponseDTO(CartItem cartItem, @Context int stockQuantity);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "cart", ignore = true)
     @Mapping(target = "merchVariantItem", ignore = true)
     @Mapping(source = "quantity", target = "quantity")
     CartItem toEntity(CartItemRequestDTO cartItemRequestDTO);
+
+    /* same rule as the cart view: merch still on sale and enough live stock for the quantity */
+    static boolean isAvailable(CartItem cartItem, int stockQuantity) {
+        MerchVariantItem item = cartItem.getMerchVariantItem();
+        return item != null && item.getMerchVariant() != null && item.getMerchVariant().getMerch() != null
+                && Boolean.TRUE.equals(item.getMerchVariant().getMerch().getIsActive())
+                && stockQuantity >= cartItem.getQuantity();
+    }
 }
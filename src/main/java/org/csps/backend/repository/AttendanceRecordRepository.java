@@ -1,5 +1,7 @@
 package org.csps.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,6 +10,7 @@ import org.csps.backend.domain.entities.EventParticipant;
 import org.csps.backend.domain.entities.EventSession;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -16,6 +19,12 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AttendanceRecordRepository extends JpaRepository<AttendanceRecord, Long>, JpaSpecificationExecutor<AttendanceRecord> {
+
+    /* (session, participant) of an existing check-in */
+    interface CheckInKey {
+        Long getSessionId();
+        Long getParticipantId();
+    }
     
     /* check if participant already checked in for a session */
     Optional<AttendanceRecord> findByEventParticipantAndEventSession(EventParticipant participant, EventSession session);
@@ -25,7 +34,31 @@ public interface AttendanceRecordRepository extends JpaRepository<AttendanceReco
     
     /* get all attendance records for a session with pagination */
     Page<AttendanceRecord> findByEventSessionSessionId(Long sessionId, Pageable pageable);
+
+    /* keyset page of a session's attendance, latest check-in first, strictly after the cursor position */
+    @EntityGraph(attributePaths = {"eventParticipant", "eventParticipant.student", "eventParticipant.student.userAccount",
+            "eventParticipant.student.userAccount.userProfile", "eventSession"})
+    @Query("SELECT a FROM AttendanceRecord a WHERE a.eventSession.sessionId = :sessionId " +
+       "AND (:cursorCheckedInAt IS NULL OR a.checkedInAt < :cursorCheckedInAt " +
+       "OR (a.checkedInAt = :cursorCheckedInAt AND a.attendanceId < :cursorId)) " +
+       "ORDER BY a.checkedInAt DESC, a.attendanceId DESC")
+    List<AttendanceRecord> findSessionPageBefore(
+        @Param("sessionId") Long sessionId,
+        @Param("cursorCheckedInAt") LocalDateTime cursorCheckedInAt,
+        @Param("cursorId") Long cursorId,
+        Pageable limit
+    );
     
+    /* participants already checked in to a session */
+    @Query("SELECT a.eventParticipant.participantId FROM AttendanceRecord a WHERE a.eventSession.sessionId = :sessionId")
+    List<Long> findCheckedInParticipantIds(@Param("sessionId") Long sessionId);
+
+    /* existing check-ins among the given sessions and participants; pairs that do not match are filtered by the caller */
+    @Query("SELECT a.eventSession.sessionId AS sessionId, a.eventParticipant.participantId AS participantId " +
+       "FROM AttendanceRecord a WHERE a.eventSession.sessionId IN :sessionIds AND a.eventParticipant.participantId IN :participantIds")
+    List<CheckInKey> findCheckInKeys(@Param("sessionIds") Collection<Long> sessionIds,
+                                     @Param("participantIds") Collection<Long> participantIds);
+
     /* get all attendance records for a participant */
     List<AttendanceRecord> findByEventParticipantParticipantId(Long participantId);
     
@@ -0,0 +1,23 @@
+package org.csps.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.csps.backend.domain.entities.AuditLogArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AuditLogArchiveRepository extends JpaRepository<AuditLogArchive, Long> {
+
+    /* archives newest first, the order audit search walks them */
+    List<AuditLogArchive> findAllByOrderByPeriodStartDesc();
+
+    Optional<AuditLogArchive> findByPeriodStart(LocalDateTime periodStart);
+
+    /* everything before this instant lives in archives, not in audit_log */
+    @Query("SELECT MAX(a.periodEnd) FROM AuditLogArchive a")
+    Optional<LocalDateTime> findArchiveBoundary();
+}
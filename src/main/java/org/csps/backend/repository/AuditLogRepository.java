@@ -2,39 +2,112 @@ package org.csps.backend.repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.csps.backend.domain.dtos.response.AuditLogResponseDTO;
 import org.csps.backend.domain.entities.AuditLog;
 import org.csps.backend.domain.enums.AuditAction;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
 
+    /* shared projection: admin name resolved in the same query, no managed entities.
+       outer joins throughout so rows whose admin account is gone are still listed and archived */
+    String PROJECTION = "SELECT new org.csps.backend.domain.dtos.response.AuditLogResponseDTO("
+        + "a.id, ad.adminId, CONCAT(up.firstName, ' ', up.lastName), a.action, a.resourceType, a.resourceId, a.description, a.timestamp) "
+        + "FROM AuditLog a LEFT JOIN a.admin ad LEFT JOIN ad.userAccount ua LEFT JOIN ua.userProfile up ";
+
+    String FILTERS = "WHERE (:adminId IS NULL OR ad.adminId = :adminId) "
+        + "AND (:action IS NULL OR a.action = :action) "
+        + "AND (:resourceType IS NULL OR a.resourceType = :resourceType) "
+        + "AND (:startTime IS NULL OR a.timestamp >= :startTime) "
+        + "AND (:endTime IS NULL OR a.timestamp < :endTime) ";
+
     /* find all audit logs for a specific admin */
-    @Query("SELECT a FROM AuditLog a WHERE a.admin.adminId = :adminId")
+    @Query("SELECT a FROM AuditLog a JOIN FETCH a.admin ad JOIN FETCH ad.userAccount ua LEFT JOIN FETCH ua.userProfile WHERE ad.adminId = :adminId")
     List<AuditLog> findByAdminId(@Param("adminId") Long adminId);
 
     /* find all audit logs for a specific action type */
+    @EntityGraph(attributePaths = {"admin", "admin.userAccount", "admin.userAccount.userProfile"})
     List<AuditLog> findByAction(AuditAction action);
 
     /* find all audit logs for a specific resource */
+    @EntityGraph(attributePaths = {"admin", "admin.userAccount", "admin.userAccount.userProfile"})
     List<AuditLog> findByResourceTypeAndResourceId(String resourceType, String resourceId);
 
     /* find all audit logs within a time range */
-    @Query("SELECT a FROM AuditLog a WHERE a.timestamp BETWEEN :startTime AND :endTime ORDER BY a.timestamp DESC")
+    @Query("SELECT a FROM AuditLog a JOIN FETCH a.admin ad JOIN FETCH ad.userAccount ua LEFT JOIN FETCH ua.userProfile WHERE a.timestamp BETWEEN :startTime AND :endTime ORDER BY a.timestamp DESC")
     List<AuditLog> findByTimestampBetween(
         @Param("startTime") LocalDateTime startTime,
         @Param("endTime") LocalDateTime endTime
     );
 
     /* find all audit logs for a specific admin within a time range */
-    @Query("SELECT a FROM AuditLog a WHERE a.admin.adminId = :adminId AND a.timestamp BETWEEN :startTime AND :endTime ORDER BY a.timestamp DESC")
+    @Query("SELECT a FROM AuditLog a JOIN FETCH a.admin ad JOIN FETCH ad.userAccount ua LEFT JOIN FETCH ua.userProfile WHERE ad.adminId = :adminId AND a.timestamp BETWEEN :startTime AND :endTime ORDER BY a.timestamp DESC")
     List<AuditLog> findByAdminIdAndTimestampBetween(
         @Param("adminId") Long adminId,
         @Param("startTime") LocalDateTime startTime,
         @Param("endTime") LocalDateTime endTime
     );
+
+    /* keyset page ordered by (timestamp, id) desc - seeks through idx_audit_timestamp instead of OFFSET.
+       pass null cursor values for the first page; pageable only carries the limit */
+    @Query(PROJECTION + FILTERS
+        + "AND (:cursorTimestamp IS NULL OR a.timestamp < :cursorTimestamp OR (a.timestamp = :cursorTimestamp AND a.id < :cursorId)) "
+        + "ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLogResponseDTO> searchPage(
+        @Param("adminId") Long adminId,
+        @Param("action") AuditAction action,
+        @Param("resourceType") String resourceType,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime,
+        @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+        @Param("cursorId") Long cursorId,
+        Pageable limit
+    );
+
+    /* forward-only stream for exports; MySQL streams rows one at a time with fetch size Integer.MIN_VALUE.
+       must be consumed inside a transaction and closed */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"))
+    @Query(PROJECTION + FILTERS + "ORDER BY a.timestamp DESC, a.id DESC")
+    Stream<AuditLogResponseDTO> streamForExport(
+        @Param("adminId") Long adminId,
+        @Param("action") AuditAction action,
+        @Param("resourceType") String resourceType,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime
+    );
+
+    /* oldest row still in the live table, drives which months the retention job archives */
+    @Query("SELECT MIN(a.timestamp) FROM AuditLog a")
+    Optional<LocalDateTime> findOldestTimestamp();
+
+    /* rows a purge of the window would delete; must not exceed what the archive holds */
+    @Query("SELECT COUNT(a) FROM AuditLog a WHERE a.timestamp >= :start AND a.timestamp < :end AND a.id <= :maxId")
+    long countPurgeable(
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end,
+        @Param("maxId") Long maxId
+    );
+
+    /* purge one bounded chunk of an archived month; call repeatedly until it returns 0 */
+    @Modifying
+    @Query(value = "DELETE FROM audit_log WHERE `timestamp` >= :start AND `timestamp` < :end AND id <= :maxId LIMIT :limit", nativeQuery = true)
+    int deleteArchivedChunk(
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end,
+        @Param("maxId") Long maxId,
+        @Param("limit") int limit
+    );
 }
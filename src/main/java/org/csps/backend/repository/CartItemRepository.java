@@ -1,9 +1,12 @@
 package org.csps.backend.repository;
 
+import java.util.Collection;
+
 import org.csps.backend.domain.entities.CartItem;
 import org.csps.backend.domain.entities.composites.CartItemId;
 import org.csps.backend.domain.enums.MerchType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,4 +20,10 @@ public interface CartItemRepository extends JpaRepository<CartItem, CartItemId>{
            "JOIN mv.merch m " +
            "WHERE ci.cart.student.studentId = :studentId AND m.merchType = :merchType")
     boolean existsByStudentIdAndMerchType(@Param("studentId") String studentId, @Param("merchType") MerchType merchType);
+
+    /* remove several lines from one cart in a single statement (used after checkout) */
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.id.cartId = :studentId AND ci.id.merchVariantItemId IN :merchVariantItemIds")
+    int deleteByCartIdAndMerchVariantItemIds(@Param("studentId") String studentId,
+                                             @Param("merchVariantItemIds") Collection<Long> merchVariantItemIds);
 }
@@ -1,17 +1,49 @@
 package org.csps.backend.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.csps.backend.domain.entities.Cart;
+import org.csps.backend.domain.enums.ClothingSizing;
+import org.csps.backend.domain.enums.MerchType;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CartRepository extends JpaRepository<Cart, String>{
 
+    /* one cart line joined with its item, variant and merch; line fields are null for the row of an empty cart */
+    interface CartLineView {
+        String getCartId();
+        Long getMerchVariantItemId();
+        String getMerchName();
+        MerchType getMerchType();
+        Boolean getMerchActive();
+        String getColor();
+        String getDesign();
+        ClothingSizing getSize();
+        String getS3ImageKey();
+        Double getPrice();
+        Integer getQuantity();
+    }
+
     @EntityGraph(value = "Cart.withItemsAndVariants", type = EntityGraph.EntityGraphType.FETCH)
     @Query("SELECT c FROM Cart c WHERE c.cartId = :cartId")
     Optional<Cart> findByIdWithItems(String cartId);
+
+    /* whole cart in one query: no rows when the cart does not exist, one row with null lines when it is empty */
+    @Query("SELECT c.cartId AS cartId, mvi.merchVariantItemId AS merchVariantItemId, m.merchName AS merchName, " +
+           "m.merchType AS merchType, m.isActive AS merchActive, mv.color AS color, mv.design AS design, " +
+           "mvi.size AS size, mv.s3ImageKey AS s3ImageKey, mvi.price AS price, ci.quantity AS quantity " +
+           "FROM Cart c " +
+           "LEFT JOIN c.items ci " +
+           "LEFT JOIN ci.merchVariantItem mvi " +
+           "LEFT JOIN mvi.merchVariant mv " +
+           "LEFT JOIN mv.merch m " +
+           "WHERE c.cartId = :cartId " +
+           "ORDER BY m.merchName, mvi.merchVariantItemId")
+    List<CartLineView> findCartLines(@Param("cartId") String cartId);
 }
@@ -0,0 +1,135 @@
+package org.csps.backend.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Set-based JDBC statements for batch cart edits and the abandoned-cart sweeper.
+ * Each method is one statement no matter how many lines it touches, and runs in the caller's transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartWriteRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Create the student's cart if it does not exist yet (carts are created on first add).
+     * On an existing cart this takes a shared row lock, which keeps the sweeper from compacting it
+     * before the caller's new lines commit.
+     */
+    public void ensureCart(String studentId) {
+        jdbcTemplate.update("INSERT IGNORE INTO student_cart (cart_id) VALUES (?)", studentId);
+    }
+
+    /**
+     * Lock a cart and its lines and read merchVariantItemId -> quantity, so concurrent batches on the
+     * same cart apply one after another. Returns null when the student has no cart.
+     */
+    public Map<Long, Integer> lockQuantities(String studentId) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        boolean[] found = { false };
+        jdbcTemplate.query("SELECT ci.merch_variant_item_id, ci.quantity FROM student_cart c "
+                + "LEFT JOIN cart_item ci ON ci.student_id = c.cart_id "
+                + "WHERE c.cart_id = ? FOR UPDATE",
+                rs -> {
+                    found[0] = true;
+                    long merchVariantItemId = rs.getLong(1);
+                    if (!rs.wasNull()) {
+                        quantities.put(merchVariantItemId, rs.getInt(2));
+                    }
+                }, studentId);
+        return found[0] ? quantities : null;
+    }
+
+    /* insert or overwrite the given lines with one multi-row upsert on the (student_id, merch_variant_item_id) key */
+    public int upsertQuantities(String studentId, Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder("INSERT INTO cart_item (student_id, merch_variant_item_id, quantity, updated_at) VALUES ");
+        Object[] args = new Object[quantities.size() * 4];
+        Timestamp timestamp = Timestamp.valueOf(LocalDateTime.now());
+        int i = 0;
+        for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+            sql.append(i == 0 ? "(?, ?, ?, ?)" : ", (?, ?, ?, ?)");
+            args[i++] = studentId;
+            args[i++] = line.getKey();
+            args[i++] = line.getValue();
+            args[i++] = timestamp;
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE quantity = VALUES(quantity), updated_at = VALUES(updated_at)");
+        return jdbcTemplate.update(sql.toString(), args);
+    }
+
+    /* up to limit lines untouched since olderThan whose merch is archived or whose item is out of stock */
+    public List<LineKey> findStaleLines(LocalDateTime olderThan, int limit) {
+        List<LineKey> keys = new ArrayList<>();
+        jdbcTemplate.query("SELECT ci.student_id, ci.merch_variant_item_id FROM cart_item ci "
+                + "JOIN merch_variant_item mvi ON mvi.merch_variant_item_id = ci.merch_variant_item_id "
+                + "JOIN merch_variant mv ON mv.merch_variant_id = mvi.merch_variant_id "
+                + "JOIN merch m ON m.merch_id = mv.merch_id "
+                + "WHERE (ci.updated_at IS NULL OR ci.updated_at < ?) "
+                + "AND (m.is_active = false OR mvi.stock_quantity <= 0) "
+                + "LIMIT ?",
+                rs -> { keys.add(new LineKey(rs.getString(1), rs.getLong(2))); },
+                Timestamp.valueOf(olderThan), limit);
+        return keys;
+    }
+
+    /* delete the given lines unless they were touched again after olderThan */
+    public int deleteLines(Collection<LineKey> keys, LocalDateTime olderThan) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        String sql = "DELETE FROM cart_item WHERE (student_id, merch_variant_item_id) IN ("
+                + String.join(", ", Collections.nCopies(keys.size(), "(?, ?)")) + ") "
+                + "AND (updated_at IS NULL OR updated_at < ?)";
+        Object[] args = new Object[keys.size() * 2 + 1];
+        int i = 0;
+        for (LineKey key : keys) {
+            args[i++] = key.getStudentId();
+            args[i++] = key.getMerchVariantItemId();
+        }
+        args[i] = Timestamp.valueOf(olderThan);
+        return jdbcTemplate.update(sql, args);
+    }
+
+    /* up to limit carts without any line */
+    public List<String> findEmptyCartIds(int limit) {
+        return jdbcTemplate.queryForList("SELECT c.cart_id FROM student_cart c "
+                + "WHERE NOT EXISTS (SELECT 1 FROM cart_item ci WHERE ci.student_id = c.cart_id) LIMIT ?",
+                String.class, limit);
+    }
+
+    /* delete the given carts, re-checking emptiness so a cart that just got a line is kept */
+    public int deleteEmptyCarts(Collection<String> cartIds) {
+        if (cartIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("DELETE FROM student_cart WHERE cart_id IN ("
+                + String.join(", ", Collections.nCopies(cartIds.size(), "?")) + ") "
+                + "AND NOT EXISTS (SELECT 1 FROM cart_item ci WHERE ci.student_id = student_cart.cart_id)",
+                cartIds.toArray());
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class LineKey {
+        private String studentId;
+        private Long merchVariantItemId;
+    }
+}
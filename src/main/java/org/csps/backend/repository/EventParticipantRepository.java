@@ -1,5 +1,6 @@
 package org.csps.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,10 +8,20 @@ import org.csps.backend.domain.entities.EventParticipant;
 import org.csps.backend.domain.enums.ParticipationStatus;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface EventParticipantRepository extends JpaRepository<EventParticipant, Long> {
+
+    /* one participant of an event as the check-in roster sees it */
+    interface RosterEntry {
+        Long getParticipantId();
+        Long getEventId();
+        String getStudentId();
+        String getFirstName();
+    }
     
     /* check if a student has already joined an event */
     @EntityGraph(attributePaths = {"event", "student", "student.userAccount", "student.userAccount.userProfile"}, type = EntityGraph.EntityGraphType.FETCH)
@@ -30,4 +41,17 @@ public interface EventParticipantRepository extends JpaRepository<EventParticipa
     
     /* count total participants for an event */
     long countByEventEventId(Long eventId);
+
+    /* every participant of an event with the name shown on check-in, in one query */
+    @Query("SELECT p.participantId AS participantId, p.event.eventId AS eventId, s.studentId AS studentId, up.firstName AS firstName " +
+           "FROM EventParticipant p JOIN p.student s LEFT JOIN s.userAccount ua LEFT JOIN ua.userProfile up " +
+           "WHERE p.event.eventId = :eventId")
+    List<RosterEntry> findRosterByEventId(@Param("eventId") Long eventId);
+
+    /* participants among the given students of the given events; pairs that do not match are filtered by the caller */
+    @Query("SELECT p.participantId AS participantId, p.event.eventId AS eventId, s.studentId AS studentId, up.firstName AS firstName " +
+           "FROM EventParticipant p JOIN p.student s LEFT JOIN s.userAccount ua LEFT JOIN ua.userProfile up " +
+           "WHERE p.event.eventId IN :eventIds AND s.studentId IN :studentIds")
+    List<RosterEntry> findRosterEntries(@Param("eventIds") Collection<Long> eventIds,
+                                        @Param("studentIds") Collection<String> studentIds);
 }
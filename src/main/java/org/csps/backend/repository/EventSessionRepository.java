@@ -1,16 +1,31 @@
 package org.csps.backend.repository;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.csps.backend.domain.entities.EventSession;
 import org.csps.backend.domain.enums.SessionStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface EventSessionRepository extends JpaRepository<EventSession, Long> {
+
+    /* the columns check-in needs from a session, without loading the event */
+    interface CheckInSession {
+        Long getSessionId();
+        String getSessionName();
+        SessionStatus getSessionStatus();
+        Long getEventId();
+        LocalDate getSessionDate();
+        LocalTime getStartTime();
+        LocalTime getEndTime();
+    }
     
     /* get all sessions for an event */
     List<EventSession> findByEventEventId(Long eventId);
@@ -23,4 +38,14 @@ public interface EventSessionRepository extends JpaRepository<EventSession, Long
     
     /* get active sessions for an event */
     List<EventSession> findByEventEventIdAndSessionStatus(Long eventId, SessionStatus status);
+
+    @Query("SELECT s.sessionId AS sessionId, s.sessionName AS sessionName, s.sessionStatus AS sessionStatus, " +
+           "s.event.eventId AS eventId, s.sessionDate AS sessionDate, s.startTime AS startTime, s.endTime AS endTime " +
+           "FROM EventSession s WHERE s.sessionId = :sessionId")
+    Optional<CheckInSession> findCheckInSession(@Param("sessionId") Long sessionId);
+
+    @Query("SELECT s.sessionId AS sessionId, s.sessionName AS sessionName, s.sessionStatus AS sessionStatus, " +
+           "s.event.eventId AS eventId, s.sessionDate AS sessionDate, s.startTime AS startTime, s.endTime AS endTime " +
+           "FROM EventSession s WHERE s.sessionId IN :sessionIds")
+    List<CheckInSession> findCheckInSessions(@Param("sessionIds") Collection<Long> sessionIds);
 }
@@ -1,5 +1,6 @@
 package org.csps.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,13 @@ public interface MerchRepository extends JpaRepository<Merch, Long>{
     @Query("SELECT m FROM Merch m WHERE m.merchId = :id AND m.isActive = true")
     Optional<Merch> findById(@Param("id") Long id);
 
+    /* catalog cache index and bulk reload */
+    @Query("SELECT m.merchId FROM Merch m WHERE m.isActive = true ORDER BY m.merchId")
+    List<Long> findActiveIds();
+
+    @Query("SELECT m FROM Merch m WHERE m.merchId IN :ids AND m.isActive = true")
+    List<Merch> findActiveByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT m FROM Merch m WHERE m.merchId = :id AND m.isActive = false")
     Optional<Merch> findByIdAndIsInactive(@Param("id") Long id);
     
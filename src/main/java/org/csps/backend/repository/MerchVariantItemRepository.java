@@ -6,10 +6,13 @@ import java.util.Optional;
 import org.csps.backend.domain.entities.MerchVariant;
 import org.csps.backend.domain.entities.MerchVariantItem;
 import org.csps.backend.domain.enums.ClothingSizing;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import jakarta.persistence.LockModeType;
 
@@ -39,7 +42,7 @@ public interface MerchVariantItemRepository extends JpaRepository<MerchVariantIt
      */
     @EntityGraph(attributePaths = {"merchVariant", "merchVariant.merch"}, type = EntityGraph.EntityGraphType.FETCH)
     @Query("SELECT mvi FROM MerchVariantItem mvi WHERE mvi.merchVariant.merch.isActive = true ORDER BY mvi.stockQuantity ASC")
-    List<MerchVariantItem> findTop5ByOrderByStockQuantityAsc();
+    List<MerchVariantItem> findLowestStock(Pageable limit);
 
     /**
      * Find by ID with pessimistic write lock.
@@ -49,4 +52,23 @@ public interface MerchVariantItemRepository extends JpaRepository<MerchVariantIt
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT mvi FROM MerchVariantItem mvi WHERE mvi.merchVariantItemId = :id")
     Optional<MerchVariantItem> findByIdWithLock(Long id);
-}
\ No newline at end of file
+
+    /**
+     * Atomically reserve stock with a single conditional UPDATE.
+     * The row lock is held only for this statement instead of the whole checkout.
+     * Returns 0 when the item does not exist or has less than the requested quantity.
+     */
+    @Modifying
+    @Query("UPDATE MerchVariantItem mvi SET mvi.stockQuantity = mvi.stockQuantity - :quantity " +
+           "WHERE mvi.merchVariantItemId = :id AND mvi.stockQuantity >= :quantity")
+    int decrementStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * Atomically release previously reserved stock (e.g. on rejection).
+     * Returns 0 when the item does not exist.
+     */
+    @Modifying
+    @Query("UPDATE MerchVariantItem mvi SET mvi.stockQuantity = mvi.stockQuantity + :quantity " +
+           "WHERE mvi.merchVariantItemId = :id")
+    int incrementStock(@Param("id") Long id, @Param("quantity") int quantity);
+}
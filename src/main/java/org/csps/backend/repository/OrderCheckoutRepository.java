@@ -0,0 +1,155 @@
+package org.csps.backend.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.csps.backend.domain.enums.OrderStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Set-based JDBC statements used by checkout.
+ * Every method issues exactly one statement regardless of how many lines the order has,
+ * and runs inside the caller's JPA transaction (same DataSource connection).
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderCheckoutRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Lock the requested variant items and read their stock and price.
+     * Rows are locked in ascending id order so concurrent checkouts cannot deadlock on each other.
+     */
+    public Map<Long, LockedStock> lockStock(Collection<Long> merchVariantItemIds) {
+        if (merchVariantItemIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String sql = "SELECT merch_variant_item_id, stock_quantity, price FROM merch_variant_item "
+                + "WHERE merch_variant_item_id IN (" + placeholders(merchVariantItemIds.size()) + ") "
+                + "ORDER BY merch_variant_item_id FOR UPDATE";
+
+        Map<Long, LockedStock> locked = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            long id = rs.getLong("merch_variant_item_id");
+            locked.put(id, new LockedStock(id, rs.getInt("stock_quantity"), rs.getDouble("price")));
+        }, merchVariantItemIds.toArray());
+        return locked;
+    }
+
+    /* plain (non-locking) stock read; pass null to read every variant item */
+    public Map<Long, Integer> readStock(Collection<Long> merchVariantItemIds) {
+        Map<Long, Integer> stock = new LinkedHashMap<>();
+        if (merchVariantItemIds == null) {
+            jdbcTemplate.query("SELECT merch_variant_item_id, stock_quantity FROM merch_variant_item",
+                    rs -> { stock.put(rs.getLong(1), rs.getInt(2)); });
+        } else if (!merchVariantItemIds.isEmpty()) {
+            jdbcTemplate.query("SELECT merch_variant_item_id, stock_quantity FROM merch_variant_item "
+                    + "WHERE merch_variant_item_id IN (" + placeholders(merchVariantItemIds.size()) + ")",
+                    rs -> { stock.put(rs.getLong(1), rs.getInt(2)); }, merchVariantItemIds.toArray());
+        }
+        return stock;
+    }
+
+    /* subtract every line's quantity in a single UPDATE; rows must already be locked by lockStock */
+    public int decrementStock(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder("UPDATE merch_variant_item SET stock_quantity = stock_quantity - CASE merch_variant_item_id");
+        Object[] args = new Object[quantities.size() * 3];
+        int i = 0;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            sql.append(" WHEN ? THEN ?");
+            args[i++] = entry.getKey();
+            args[i++] = entry.getValue();
+        }
+        sql.append(" END WHERE merch_variant_item_id IN (").append(placeholders(quantities.size())).append(")");
+        for (Long id : quantities.keySet()) {
+            args[i++] = id;
+        }
+        return jdbcTemplate.update(sql.toString(), args);
+    }
+
+    /* insert all order items of one order with a single multi-row INSERT */
+    public int insertOrderItems(Long orderId, List<CheckoutLine> lines, LocalDateTime now) {
+        if (lines.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder("INSERT INTO order_item "
+                + "(order_id, merch_variant_item_id, quantity, price_at_purchase, order_status, created_at, updated_at) VALUES ");
+        Object[] args = new Object[lines.size() * 7];
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int i = 0;
+        for (CheckoutLine line : lines) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(?, ?, ?, ?, ?, ?, ?)");
+            args[i++] = orderId;
+            args[i++] = line.getMerchVariantItemId();
+            args[i++] = line.getQuantity();
+            args[i++] = line.getPriceAtPurchase();
+            args[i++] = OrderStatus.PENDING.name();
+            args[i++] = timestamp;
+            args[i++] = timestamp;
+        }
+        return jdbcTemplate.update(sql.toString(), args);
+    }
+
+    /* the same single line for each of the given orders with one multi-row INSERT (bulk payment recording) */
+    public int insertSingleLineOrders(Collection<Long> orderIds, CheckoutLine line, OrderStatus status, LocalDateTime now) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder("INSERT INTO order_item "
+                + "(order_id, merch_variant_item_id, quantity, price_at_purchase, order_status, created_at, updated_at) VALUES ");
+        Object[] args = new Object[orderIds.size() * 7];
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int i = 0;
+        for (Long orderId : orderIds) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(?, ?, ?, ?, ?, ?, ?)");
+            args[i++] = orderId;
+            args[i++] = line.getMerchVariantItemId();
+            args[i++] = line.getQuantity();
+            args[i++] = line.getPriceAtPurchase();
+            args[i++] = status.name();
+            args[i++] = timestamp;
+            args[i++] = timestamp;
+        }
+        return jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class LockedStock {
+        private Long merchVariantItemId;
+        private int stockQuantity;
+        private double price;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class CheckoutLine {
+        private Long merchVariantItemId;
+        private int quantity;
+        private double priceAtPurchase;
+    }
+}
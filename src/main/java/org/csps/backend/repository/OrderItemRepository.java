@@ -1,7 +1,12 @@
 package org.csps.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.csps.backend.domain.dtos.response.MerchCustomerResponseDTO;
+import org.csps.backend.domain.dtos.response.OrderItemResponseDTO;
+import org.csps.backend.domain.dtos.response.OrderSummaryDTO;
 import org.csps.backend.domain.entities.OrderItem;
 import org.csps.backend.domain.enums.MerchType;
 import org.csps.backend.domain.enums.OrderStatus;
@@ -10,11 +15,37 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+
+    /*
+     * read-only projections: select only the columns a view renders, straight into DTOs.
+     * nothing is loaded into the persistence context, so there is no entity graph to hydrate or dirty-check.
+     */
+    String ITEM_JOINS = "FROM OrderItem oi JOIN oi.order o JOIN o.student s JOIN s.userAccount ua LEFT JOIN ua.userProfile up "
+        + "JOIN oi.merchVariantItem mvi JOIN mvi.merchVariant mv JOIN mv.merch m ";
+
+    String ITEM_VIEW = "SELECT new org.csps.backend.domain.dtos.response.OrderItemResponseDTO("
+        + "oi.orderItemId, o.orderId, s.studentId, CONCAT(COALESCE(up.firstName, ''), ' ', COALESCE(up.lastName, '')), "
+        + "m.merchName, mv.color, mv.design, CAST(mvi.size AS String), oi.quantity, oi.quantity * oi.priceAtPurchase, "
+        + "oi.orderStatus, mv.s3ImageKey, m.merchType, oi.createdAt, oi.updatedAt) " + ITEM_JOINS;
+
+    String CUSTOMER_VIEW = "SELECT new org.csps.backend.domain.dtos.response.MerchCustomerResponseDTO("
+        + "s.studentId, TRIM(CONCAT(COALESCE(up.firstName, ''), ' ', COALESCE(up.lastName, ''))), s.yearLevel, "
+        + "m.merchName, mv.color, mv.design, mvi.size, oi.quantity, oi.quantity * oi.priceAtPurchase, "
+        + "oi.orderStatus, o.orderDate, mv.s3ImageKey) " + ITEM_JOINS;
+
+    String SUMMARY_VIEW = "SELECT new org.csps.backend.domain.dtos.response.OrderSummaryDTO("
+        + "oi.orderItemId, o.orderId, CONCAT(COALESCE(up.firstName, ''), ' ', COALESCE(up.lastName, '')), "
+        + "CONCAT('ORD-', CAST(o.orderId AS String)), m.merchName, mv.s3ImageKey, CAST(oi.orderStatus AS String), "
+        + "CAST(oi.priceAtPurchase AS BigDecimal), oi.createdAt) " + ITEM_JOINS;
+
     
     @EntityGraph(attributePaths = {"order", "order.student", "order.student.userAccount", "order.student.userAccount.userProfile", "merchVariantItem", "merchVariantItem.merchVariant", "merchVariantItem.merchVariant.merch"}, type = EntityGraph.EntityGraphType.FETCH)
     List<OrderItem> findByOrderOrderId(Long orderId);
@@ -22,18 +53,45 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     @EntityGraph(attributePaths = {"order", "order.student", "order.student.userAccount", "order.student.userAccount.userProfile", "merchVariantItem", "merchVariantItem.merchVariant", "merchVariantItem.merchVariant.merch"}, type = EntityGraph.EntityGraphType.FETCH)
     Page<OrderItem> findByOrderOrderId(Long orderId, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"order", "order.student", "order.student.userAccount", "order.student.userAccount.userProfile", "merchVariantItem", "merchVariantItem.merchVariant", "merchVariantItem.merchVariant.merch"}, type = EntityGraph.EntityGraphType.FETCH)
-    Page<OrderItem> findByOrderStatusAndOrderStudentStudentId(OrderStatus status, String studentId, Pageable pageable);
-    
-    @EntityGraph(attributePaths = {"order", "order.student", "order.student.userAccount", "order.student.userAccount.userProfile", "merchVariantItem", "merchVariantItem.merchVariant", "merchVariantItem.merchVariant.merch"}, type = EntityGraph.EntityGraphType.FETCH)
-    Page<OrderItem> findByOrderStudentStudentIdOrderByUpdatedAtDesc(String studentId, Pageable pageable);
-    
-    @EntityGraph(attributePaths = {"order", "order.student", "order.student.userAccount", "order.student.userAccount.userProfile", "merchVariantItem", "merchVariantItem.merchVariant", "merchVariantItem.merchVariant.merch"}, type = EntityGraph.EntityGraphType.FETCH)
-    Page<OrderItem> findByOrderStudentStudentIdAndOrderStatusOrderByUpdatedAtDesc(String studentId, OrderStatus status, Pageable pageable);
-    
-    /* eager load related entities to prevent N+1 queries in dashboard */
-    @EntityGraph(attributePaths = {"order", "order.student", "order.student.userAccount", "order.student.userAccount.userProfile", "merchVariantItem", "merchVariantItem.merchVariant", "merchVariantItem.merchVariant.merch"}, type = EntityGraph.EntityGraphType.FETCH)
-    List<OrderItem> findTop5ByOrderStatusInOrderByCreatedAtDesc(List<OrderStatus> statuses);
+    /* a student's items with a required status; sort comes from the pageable */
+    @Query(value = ITEM_VIEW + "WHERE s.studentId = :studentId AND oi.orderStatus = :status",
+           countQuery = "SELECT COUNT(oi) FROM OrderItem oi WHERE oi.order.student.studentId = :studentId AND oi.orderStatus = :status")
+    Page<OrderItemResponseDTO> findItemViewsByStudentIdAndStatus(
+        @Param("studentId") String studentId,
+        @Param("status") OrderStatus status,
+        Pageable pageable);
+
+    /* a student's items, most recently updated first; null status returns every status */
+    @Query(value = ITEM_VIEW + "WHERE s.studentId = :studentId AND (:status IS NULL OR oi.orderStatus = :status) "
+                 + "ORDER BY oi.updatedAt DESC, oi.orderItemId DESC",
+           countQuery = "SELECT COUNT(oi) FROM OrderItem oi WHERE oi.order.student.studentId = :studentId "
+                 + "AND (:status IS NULL OR oi.orderStatus = :status)")
+    Page<OrderItemResponseDTO> findItemViewsByStudentIdOrderByUpdatedAtDesc(
+        @Param("studentId") String studentId,
+        @Param("status") OrderStatus status,
+        Pageable pageable);
+
+    /*
+     * keyset page of a student's items, newest first by orderItemId; a null cursor starts from the top.
+     * seeks on the immutable id: updatedAt changes with every status update and would skip or repeat rows
+     */
+    @Query(ITEM_VIEW + "WHERE s.studentId = :studentId " +
+           "AND (:status IS NULL OR oi.orderStatus = :status) " +
+           "AND (:cursorId IS NULL OR oi.orderItemId < :cursorId) " +
+           "ORDER BY oi.orderItemId DESC")
+    List<OrderItemResponseDTO> findItemViewsByStudentIdBefore(
+        @Param("studentId") String studentId,
+        @Param("status") OrderStatus status,
+        @Param("cursorId") Long cursorId,
+        Pageable limit);
+
+    /* item rows for a page of orders, used to assemble order history without loading the Order graph */
+    @Query(ITEM_VIEW + "WHERE o.orderId IN :orderIds ORDER BY oi.orderItemId")
+    List<OrderItemResponseDTO> findItemViewsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    /* latest items in the given statuses for the finance dashboard; pageable only carries the limit */
+    @Query(SUMMARY_VIEW + "WHERE oi.orderStatus IN :statuses ORDER BY oi.createdAt DESC, oi.orderItemId DESC")
+    List<OrderSummaryDTO> findRecentSummaries(@Param("statuses") List<OrderStatus> statuses, Pageable limit);
     
     /* eagerly load order item with student profile and merch details for notifications */
     @EntityGraph(attributePaths = {"order", "order.student", "order.student.userAccount", "order.student.userAccount.userProfile", "merchVariantItem", "merchVariantItem.merchVariant", "merchVariantItem.merchVariant.merch"}, type = EntityGraph.EntityGraphType.FETCH)
@@ -41,29 +99,29 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     java.util.Optional<OrderItem> findByIdWithStudentAndMerchDetails(@Param("id") Long id);
 
     /**
-     * Find all order items for a specific merch (paginated) with eager loading.
+     * Find the customers (one row per order item) of a specific merch, projected straight into DTOs.
      * Used by admin to see which customers purchased a particular merch product.
      *
      * @param merchId the merch ID to filter by
      * @param pageable pagination details
-     * @return paginated list of order items for the specified merch
+     * @return paginated list of customer rows for the specified merch
      */
-    @EntityGraph(attributePaths = {"order", "order.student", "order.student.userAccount", "order.student.userAccount.userProfile", "merchVariantItem", "merchVariantItem.merchVariant", "merchVariantItem.merchVariant.merch"}, type = EntityGraph.EntityGraphType.FETCH)
-    @Query("SELECT oi FROM OrderItem oi WHERE oi.merchVariantItem.merchVariant.merch.merchId = :merchId")
-    Page<OrderItem> findByMerchId(@Param("merchId") Long merchId, Pageable pageable);
+    @Query(value = CUSTOMER_VIEW + "WHERE m.merchId = :merchId",
+           countQuery = "SELECT COUNT(oi) FROM OrderItem oi WHERE oi.merchVariantItem.merchVariant.merch.merchId = :merchId")
+    Page<MerchCustomerResponseDTO> findCustomerViewsByMerchId(@Param("merchId") Long merchId, Pageable pageable);
 
     /**
-     * Find all order items for a specific merch filtered by order status (paginated).
+     * Find the customers of a specific merch filtered by order status, projected straight into DTOs.
      * Allows admin to filter merch customers by status (e.g., only CLAIMED orders).
      *
      * @param merchId the merch ID to filter by
      * @param status  the order status to filter by
      * @param pageable pagination details
-     * @return paginated list of order items matching merch and status
+     * @return paginated list of customer rows matching merch and status
      */
-    @EntityGraph(attributePaths = {"order", "order.student", "order.student.userAccount", "order.student.userAccount.userProfile", "merchVariantItem", "merchVariantItem.merchVariant", "merchVariantItem.merchVariant.merch"}, type = EntityGraph.EntityGraphType.FETCH)
-    @Query("SELECT oi FROM OrderItem oi WHERE oi.merchVariantItem.merchVariant.merch.merchId = :merchId AND oi.orderStatus = :status")
-    Page<OrderItem> findByMerchIdAndOrderStatus(@Param("merchId") Long merchId, @Param("status") OrderStatus status, Pageable pageable);
+    @Query(value = CUSTOMER_VIEW + "WHERE m.merchId = :merchId AND oi.orderStatus = :status",
+           countQuery = "SELECT COUNT(oi) FROM OrderItem oi WHERE oi.merchVariantItem.merchVariant.merch.merchId = :merchId AND oi.orderStatus = :status")
+    Page<MerchCustomerResponseDTO> findCustomerViewsByMerchIdAndStatus(@Param("merchId") Long merchId, @Param("status") OrderStatus status, Pageable pageable);
 
     /**
      * Check if a student has any order items of a given merch type with a specific status.
@@ -102,13 +160,18 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     boolean existsByMerch(@Param("merchId") Long merchId);
 
     /**
-     * Find ALL order items for a specific merch (unpaginated) with eager loading.
+     * Find ALL customers of a specific merch (unpaginated), projected straight into DTOs.
      * Used for CSV export of merch customer data.
      *
      * @param merchId the merch ID to filter by
-     * @return full list of order items for the specified merch
+     * @return full list of customer rows for the specified merch
      */
-    @EntityGraph(attributePaths = {"order", "order.student", "order.student.userAccount", "order.student.userAccount.userProfile", "merchVariantItem", "merchVariantItem.merchVariant", "merchVariantItem.merchVariant.merch"}, type = EntityGraph.EntityGraphType.FETCH)
-    @Query("SELECT oi FROM OrderItem oi WHERE oi.merchVariantItem.merchVariant.merch.merchId = :merchId")
-    List<OrderItem> findAllByMerchId(@Param("merchId") Long merchId);
+    @Query(CUSTOMER_VIEW + "WHERE m.merchId = :merchId")
+    List<MerchCustomerResponseDTO> findAllCustomerViewsByMerchId(@Param("merchId") Long merchId);
+
+    /* forward-only stream of a merch's customers for CSV export; MySQL streams rows one at a time with
+       fetch size Integer.MIN_VALUE. must be consumed inside a transaction and closed */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"))
+    @Query(CUSTOMER_VIEW + "WHERE m.merchId = :merchId ORDER BY o.orderDate, oi.orderItemId")
+    Stream<MerchCustomerResponseDTO> streamCustomerViewsByMerchId(@Param("merchId") Long merchId);
 }
\ No newline at end of file
@@ -1,16 +1,23 @@
 package org.csps.backend.repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import org.csps.backend.domain.entities.Order;
 import org.csps.backend.domain.enums.OrderStatus;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -19,24 +26,97 @@ public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecific
     @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems oi LEFT JOIN FETCH oi.merchVariantItem mvi LEFT JOIN FETCH mvi.merchVariant mv LEFT JOIN FETCH mv.merch LEFT JOIN FETCH o.student s LEFT JOIN FETCH s.userAccount ua LEFT JOIN FETCH ua.userProfile WHERE o.student.studentId = :studentId")
     List<Order> findByStudentId(String studentId);
     
-    @EntityGraph(value = "Order.withItemsAndDetails", type = EntityGraph.EntityGraphType.FETCH)
-    @Query("SELECT o FROM Order o WHERE o.student.studentId = :studentId ORDER BY o.orderDate DESC")
-    Page<Order> findByStudentId(String studentId, Pageable pageable);
+    /*
+     * paginated order graphs are loaded in two phases: page the ids with a plain query, then fetch the
+     * full graph for just those ids. putting the orderItems collection in a fetch graph together with a
+     * Pageable makes Hibernate load every matching row and paginate in memory.
+     */
+
+    @Query("SELECT o.orderId FROM Order o")
+    Page<Long> findOrderIds(Pageable pageable);
+
+    @Query("SELECT o.orderId FROM Order o ORDER BY o.orderDate DESC, o.orderId DESC")
+    Page<Long> findOrderIdsOrderByOrderDateDesc(Pageable pageable);
+
+    @Query(value = "SELECT o.orderId FROM Order o WHERE o.student.studentId = :studentId ORDER BY o.orderDate DESC, o.orderId DESC",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.student.studentId = :studentId")
+    Page<Long> findOrderIdsByStudentId(@Param("studentId") String studentId, Pageable pageable);
+
+    /* keyset variants ordered by (orderDate, orderId) desc; null cursor values start from the top, pageable only carries the limit */
+    @Query("SELECT o.orderId FROM Order o " +
+           "WHERE (:cursorDate IS NULL OR o.orderDate < :cursorDate OR (o.orderDate = :cursorDate AND o.orderId < :cursorId)) " +
+           "ORDER BY o.orderDate DESC, o.orderId DESC")
+    List<Long> findOrderIdsBefore(@Param("cursorDate") LocalDateTime cursorDate, @Param("cursorId") Long cursorId, Pageable limit);
+
+    @Query("SELECT o.orderId FROM Order o WHERE o.student.studentId = :studentId " +
+           "AND (:cursorDate IS NULL OR o.orderDate < :cursorDate OR (o.orderDate = :cursorDate AND o.orderId < :cursorId)) " +
+           "ORDER BY o.orderDate DESC, o.orderId DESC")
+    List<Long> findOrderIdsByStudentIdBefore(@Param("studentId") String studentId, @Param("cursorDate") LocalDateTime cursorDate,
+                                             @Param("cursorId") Long cursorId, Pageable limit);
 
     @EntityGraph(value = "Order.withItemsAndDetails", type = EntityGraph.EntityGraphType.FETCH)
-    Page<Order> findAllByOrderByOrderDateDesc(Pageable pageable);
-    
-    /* efficient paginated query for transactions with eager loading to prevent N+1 queries */
-    @EntityGraph(attributePaths = {"student", "student.userAccount", "student.userAccount.userProfile", "orderItems", "orderItems.merchVariantItem", "orderItems.merchVariantItem.merchVariant", "orderItems.merchVariantItem.merchVariant.merch"}, type = EntityGraph.EntityGraphType.FETCH)
-    Page<Order> findAll(Pageable pageable);
+    @Query("SELECT DISTINCT o FROM Order o WHERE o.orderId IN :orderIds")
+    List<Order> findAllWithDetailsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    default Page<Order> findAllWithDetails(Pageable pageable) {
+        Page<Long> ids = findOrderIds(pageable);
+        return toOrderedPage(ids, ids.isEmpty() ? List.of() : findAllWithDetailsByOrderIdIn(ids.getContent()));
+    }
+
+    default Page<Order> findAllWithDetailsOrderByOrderDateDesc(Pageable pageable) {
+        Page<Long> ids = findOrderIdsOrderByOrderDateDesc(pageable);
+        return toOrderedPage(ids, ids.isEmpty() ? List.of() : findAllWithDetailsByOrderIdIn(ids.getContent()));
+    }
+
+    /* read-only order header for history views; the items are projected separately by OrderItemRepository */
+    interface OrderHeaderView {
+        Long getOrderId();
+        String getStudentName();
+        Double getTotalPrice();
+        LocalDateTime getOrderDate();
+        OrderStatus getOrderStatus();
+    }
+
+    @Query("SELECT o.orderId AS orderId, " +
+           "CONCAT(COALESCE(up.firstName, ''), ' ', " +
+           "CASE WHEN up.middleName IS NULL OR up.middleName = '' THEN '' ELSE CONCAT(SUBSTRING(up.middleName, 1, 1), '. ') END, " +
+           "COALESCE(up.lastName, '')) AS studentName, " +
+           "o.totalPrice AS totalPrice, o.orderDate AS orderDate, o.orderStatus AS orderStatus " +
+           "FROM Order o JOIN o.student s JOIN s.userAccount ua LEFT JOIN ua.userProfile up WHERE o.orderId IN :orderIds")
+    List<OrderHeaderView> findHeaderViewsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    default List<Order> findAllWithDetailsInOrder(List<Long> orderIds) {
+        return orderIds.isEmpty() ? List.of() : inIdOrder(orderIds, findAllWithDetailsByOrderIdIn(orderIds));
+    }
+
+    static Page<Order> toOrderedPage(Page<Long> ids, List<Order> orders) {
+        return new PageImpl<>(inIdOrder(ids.getContent(), orders), ids.getPageable(), ids.getTotalElements());
+    }
+
+    /* the IN query does not keep the page order, so re-apply it from the id list */
+    static List<Order> inIdOrder(List<Long> ids, List<Order> orders) {
+        Map<Long, Order> byId = new HashMap<>();
+        orders.forEach(order -> byId.put(order.getOrderId(), order));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
     
     List<Order> findByOrderDateBetween(LocalDateTime start, LocalDateTime end);
-    
-    @EntityGraph(attributePaths = {"student", "student.userAccount", "student.userAccount.userProfile"}, type = EntityGraph.EntityGraphType.FETCH)
-    List<Order> findByOrderDateBetweenAndOrderStatus(LocalDateTime start, LocalDateTime end, OrderStatus status);
-    
-    @EntityGraph(attributePaths = {"student", "student.userAccount", "student.userAccount.userProfile"}, type = EntityGraph.EntityGraphType.FETCH)
-    List<Order> findByOrderStatus(OrderStatus status);
+
+    /* per-day order count and revenue for dashboard charts */
+    interface DailyOrderTotals {
+        LocalDate getDay();
+        Long getOrderCount();
+        Double getRevenue();
+    }
+
+    @Query("SELECT CAST(o.orderDate AS LocalDate) AS day, COUNT(o) AS orderCount, SUM(o.totalPrice) AS revenue FROM Order o " +
+           "WHERE o.orderDate >= :start AND o.orderDate < :end AND o.orderStatus = :status " +
+           "GROUP BY CAST(o.orderDate AS LocalDate)")
+    List<DailyOrderTotals> sumByDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end,
+                                    @Param("status") OrderStatus status);
 }
 
     
\ No newline at end of file
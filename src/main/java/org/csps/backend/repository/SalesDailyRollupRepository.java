@@ -0,0 +1,42 @@
+package org.csps.backend.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.csps.backend.domain.entities.SalesDailyRollup;
+import org.csps.backend.domain.enums.MerchType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/* read side of the sales rollup; writes go through SalesRollupRepository (set-based JDBC) */
+@Repository
+public interface SalesDailyRollupRepository extends JpaRepository<SalesDailyRollup, Long> {
+
+    /* one revenue bucket of a sales chart; only the fields selected by the query are populated */
+    interface RevenueBucket {
+        LocalDate getDay();
+        Integer getYear();
+        Integer getMonth();
+        Double getRevenue();
+    }
+
+    @Query("SELECT r.salesDate AS day, SUM(r.revenue) AS revenue FROM SalesDailyRollup r " +
+           "WHERE (:merchType IS NULL OR r.merchType = :merchType) " +
+           "GROUP BY r.salesDate ORDER BY r.salesDate")
+    List<RevenueBucket> sumRevenueByDay(@Param("merchType") MerchType merchType);
+
+    @Query("SELECT YEAR(r.salesDate) AS year, MONTH(r.salesDate) AS month, SUM(r.revenue) AS revenue FROM SalesDailyRollup r " +
+           "WHERE (:merchType IS NULL OR r.merchType = :merchType) " +
+           "GROUP BY YEAR(r.salesDate), MONTH(r.salesDate) ORDER BY YEAR(r.salesDate), MONTH(r.salesDate)")
+    List<RevenueBucket> sumRevenueByMonth(@Param("merchType") MerchType merchType);
+
+    @Query("SELECT YEAR(r.salesDate) AS year, SUM(r.revenue) AS revenue FROM SalesDailyRollup r " +
+           "WHERE (:merchType IS NULL OR r.merchType = :merchType) " +
+           "GROUP BY YEAR(r.salesDate) ORDER BY YEAR(r.salesDate)")
+    List<RevenueBucket> sumRevenueByYear(@Param("merchType") MerchType merchType);
+
+    @Query("SELECT SUM(r.revenue) FROM SalesDailyRollup r WHERE (:merchType IS NULL OR r.merchType = :merchType)")
+    Double sumRevenue(@Param("merchType") MerchType merchType);
+}
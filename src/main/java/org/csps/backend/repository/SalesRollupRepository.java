@@ -0,0 +1,67 @@
+package org.csps.backend.repository;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.csps.backend.domain.enums.OrderStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Set-based JDBC statements maintaining sales_daily_rollup.
+ * Each method is a single statement that aggregates straight from orders/order_item, so applying
+ * any number of orders costs one round trip, and runs in the caller's transaction.
+ * An order contributes its items that are not REJECTED, so an item rejected inside a claimed order
+ * does not count as a sale.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SalesRollupRepository {
+
+    /* per (day, merch) contribution of a set of orders; sign is +1 to add them, -1 to take them out */
+    private static final String CONTRIBUTION = "SELECT DATE(o.order_date), m.merch_id, m.merch_type, "
+            + "? * SUM(oi.quantity * oi.price_at_purchase), ? * COUNT(DISTINCT o.order_id), ? * SUM(oi.quantity) "
+            + "FROM orders o "
+            + "JOIN order_item oi ON oi.order_id = o.order_id AND oi.order_status <> '" + OrderStatus.REJECTED.name() + "' "
+            + "JOIN merch_variant_item mvi ON mvi.merch_variant_item_id = oi.merch_variant_item_id "
+            + "JOIN merch_variant mv ON mv.merch_variant_id = mvi.merch_variant_id "
+            + "JOIN merch m ON m.merch_id = mv.merch_id ";
+
+    private static final String INSERT = "INSERT INTO sales_daily_rollup "
+            + "(sales_date, merch_id, merch_type, revenue, order_count, item_count) ";
+
+    private static final String GROUP = "GROUP BY DATE(o.order_date), m.merch_id, m.merch_type";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /* add (sign = 1) or remove (sign = -1) the given orders' items from the rollup */
+    public int apply(Collection<Long> orderIds, int sign) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        String sql = INSERT + CONTRIBUTION
+                + "WHERE o.order_id IN (" + String.join(", ", Collections.nCopies(orderIds.size(), "?")) + ") "
+                + GROUP + " "
+                + "ON DUPLICATE KEY UPDATE revenue = revenue + VALUES(revenue), "
+                + "order_count = order_count + VALUES(order_count), item_count = item_count + VALUES(item_count)";
+
+        Object[] args = new Object[orderIds.size() + 3];
+        args[0] = sign;
+        args[1] = sign;
+        args[2] = sign;
+        int i = 3;
+        for (Long orderId : orderIds) {
+            args[i++] = orderId;
+        }
+        return jdbcTemplate.update(sql, args);
+    }
+
+    /* recompute the whole rollup from every claimed order; returns the number of rollup rows written */
+    public int rebuild() {
+        jdbcTemplate.update("DELETE FROM sales_daily_rollup");
+        return jdbcTemplate.update(INSERT + CONTRIBUTION + "WHERE o.order_status = ? " + GROUP,
+                1, 1, 1, OrderStatus.CLAIMED.name());
+    }
+}
@@ -0,0 +1,22 @@
+package org.csps.backend.repository;
+
+import org.csps.backend.domain.entities.StudentImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StudentImportJobRepository extends JpaRepository<StudentImportJob, Long> {
+
+    /* checkpoint written inside each chunk's transaction, so it commits or rolls back with the chunk's rows */
+    @Modifying
+    @Query("UPDATE StudentImportJob j SET j.processedRows = :processedRows, j.importedCount = :importedCount, " +
+           "j.skippedCount = :skippedCount, j.failedCount = :failedCount WHERE j.jobId = :jobId")
+    int saveProgress(@Param("jobId") Long jobId,
+                     @Param("processedRows") int processedRows,
+                     @Param("importedCount") int importedCount,
+                     @Param("skippedCount") int skippedCount,
+                     @Param("failedCount") int failedCount);
+}
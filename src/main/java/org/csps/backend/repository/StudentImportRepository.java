@@ -0,0 +1,129 @@
+package org.csps.backend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.csps.backend.domain.enums.UserRole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Set-based JDBC statements used by the bulk student import.
+ * Each method is one multi-row statement per chunk, whatever the chunk size, and runs inside the
+ * caller's transaction. Generated ids come back in row order from a single multi-row INSERT.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudentImportRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /* the subset of the given ids that already belong to a student */
+    public Set<String> findExistingStudentIds(Collection<String> studentIds) {
+        return findExisting("SELECT student_id FROM student WHERE student_id IN ", studentIds);
+    }
+
+    /* the subset of the given usernames that are already taken */
+    public Set<String> findExistingUsernames(Collection<String> usernames) {
+        return findExisting("SELECT username FROM user_account WHERE username IN ", usernames);
+    }
+
+    /* create incomplete profiles (names only) and return their ids in row order */
+    public List<Long> insertProfiles(List<ImportRow> rows) {
+        StringBuilder sql = new StringBuilder("INSERT INTO user_profile (first_name, last_name, is_profile_complete) VALUES ");
+        Object[] args = new Object[rows.size() * 3];
+        int i = 0;
+        for (ImportRow row : rows) {
+            sql.append(i > 0 ? ", " : "").append("(?, ?, ?)");
+            args[i++] = row.getFirstName();
+            args[i++] = row.getLastName();
+            args[i++] = false;
+        }
+        return insertReturningKeys(sql.toString(), args, rows.size());
+    }
+
+    /* create unverified student accounts pointing at the given profiles; returns the account ids in row order */
+    public List<Long> insertAccounts(List<ImportRow> rows, List<Long> profileIds) {
+        StringBuilder sql = new StringBuilder("INSERT INTO user_account (username, password, role, is_verified, user_profile_id) VALUES ");
+        Object[] args = new Object[rows.size() * 5];
+        int i = 0;
+        for (int r = 0; r < rows.size(); r++) {
+            ImportRow row = rows.get(r);
+            sql.append(r > 0 ? ", " : "").append("(?, ?, ?, ?, ?)");
+            args[i++] = row.getUsername();
+            args[i++] = row.getPasswordHash();
+            args[i++] = UserRole.STUDENT.name();
+            args[i++] = false;
+            args[i++] = profileIds.get(r);
+        }
+        return insertReturningKeys(sql.toString(), args, rows.size());
+    }
+
+    public int insertStudents(List<ImportRow> rows, List<Long> accountIds) {
+        StringBuilder sql = new StringBuilder("INSERT INTO student (student_id, year_level, user_account_id) VALUES ");
+        Object[] args = new Object[rows.size() * 3];
+        int i = 0;
+        for (int r = 0; r < rows.size(); r++) {
+            ImportRow row = rows.get(r);
+            sql.append(r > 0 ? ", " : "").append("(?, ?, ?)");
+            args[i++] = row.getStudentId();
+            args[i++] = row.getYearLevel();
+            args[i++] = accountIds.get(r);
+        }
+        return jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private Set<String> findExisting(String sqlPrefix, Collection<String> values) {
+        Set<String> existing = new HashSet<>();
+        if (values.isEmpty()) {
+            return existing;
+        }
+        jdbcTemplate.query(sqlPrefix + "(" + String.join(", ", Collections.nCopies(values.size(), "?")) + ")",
+                rs -> { existing.add(rs.getString(1)); }, values.toArray());
+        return existing;
+    }
+
+    private List<Long> insertReturningKeys(String sql, Object[] args, int expectedRows) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        }, keyHolder);
+
+        List<Long> ids = new ArrayList<>(expectedRows);
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        if (ids.size() != expectedRows) {
+            throw new IllegalStateException("Expected " + expectedRows + " generated keys but got " + ids.size());
+        }
+        return ids;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class ImportRow {
+        private String studentId;
+        private String firstName;
+        private String lastName;
+        private Byte yearLevel;
+        private String username;
+        private String passwordHash;
+    }
+}
@@ -2,17 +2,24 @@ package org.csps.backend.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.csps.backend.domain.dtos.response.StudentExportRowDTO;
 import org.csps.backend.domain.entities.StudentMembership;
+import org.csps.backend.domain.enums.MerchType;
+import org.csps.backend.domain.enums.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface StudentMembershipRepository extends JpaRepository<StudentMembership, Long>, JpaSpecificationExecutor<StudentMembership> {
     
@@ -48,10 +55,40 @@ public interface StudentMembershipRepository extends JpaRepository<StudentMember
     @EntityGraph(attributePaths = {"student", "student.userAccount", "student.userAccount.userProfile"}, type = EntityGraph.EntityGraphType.FETCH)
     Page<StudentMembership> findByActiveTrue(Pageable pageable);
 
+    /**
+     * Keyset page of memberships, newest first, strictly after the given cursor id.
+     * Seeks on the primary key so deep pages cost the same as the first one.
+     *
+     * @param activeOnly only return active memberships
+     * @param cursorId membership id of the last row of the previous page, or null for the first page
+     * @param limit page size (callers request one extra row to detect a next page)
+     * @return the memberships of the page
+     */
+    @EntityGraph(attributePaths = {"student", "student.userAccount", "student.userAccount.userProfile"}, type = EntityGraph.EntityGraphType.FETCH)
+    @Query("SELECT sm FROM StudentMembership sm WHERE (:activeOnly = false OR sm.active = true) " +
+           "AND (:cursorId IS NULL OR sm.membershipId < :cursorId) ORDER BY sm.membershipId DESC")
+    List<StudentMembership> findPageBefore(@Param("activeOnly") boolean activeOnly,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable limit);
+
     /* check if student has active membership */
     @Query("SELECT CASE WHEN COUNT(sm) > 0 THEN true ELSE false END FROM StudentMembership sm WHERE sm.student.studentId = :studentId AND sm.active = true")
     boolean hasActiveMembership(@Param("studentId") String studentId);
 
+    /**
+     * Single round trip for the store's membership visibility: true when the student already has an
+     * active membership, has membership merch in their cart, or has it in an order item with the given status.
+     */
+    @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM Student s WHERE s.studentId = :studentId AND (" +
+           "EXISTS (SELECT 1 FROM StudentMembership sm WHERE sm.student = s AND sm.active = true) " +
+           "OR EXISTS (SELECT 1 FROM CartItem ci WHERE ci.id.cartId = s.studentId " +
+           "AND ci.merchVariantItem.merchVariant.merch.merchType = :merchType) " +
+           "OR EXISTS (SELECT 1 FROM OrderItem oi WHERE oi.order.student = s " +
+           "AND oi.merchVariantItem.merchVariant.merch.merchType = :merchType AND oi.orderStatus = :status))")
+    boolean hasMembershipOrPendingPurchase(@Param("studentId") String studentId,
+                                           @Param("merchType") MerchType merchType,
+                                           @Param("status") OrderStatus status);
+
     /**
      * Find ALL active student memberships (unpaginated) with eager loading.
      * Used for CSV export of active member data.
@@ -61,6 +98,16 @@ public interface StudentMembershipRepository extends JpaRepository<StudentMember
     @EntityGraph(attributePaths = {"student", "student.userAccount", "student.userAccount.userProfile"}, type = EntityGraph.EntityGraphType.FETCH)
     List<StudentMembership> findByActiveTrue();
 
+    /* forward-only stream of active members for CSV export, projected straight into rows (no managed entities).
+       MySQL streams rows one at a time with fetch size Integer.MIN_VALUE; must be consumed inside a transaction and closed */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"))
+    @Query("SELECT new org.csps.backend.domain.dtos.response.StudentExportRowDTO(" +
+           "s.studentId, up.lastName, up.firstName, up.middleName, s.yearLevel, up.email, " +
+           "sm.membershipId, sm.dateJoined, sm.yearStart, sm.yearEnd) " +
+           "FROM StudentMembership sm JOIN sm.student s LEFT JOIN s.userAccount ua LEFT JOIN ua.userProfile up " +
+           "WHERE sm.active = true ORDER BY s.studentId, sm.membershipId")
+    Stream<StudentExportRowDTO> streamActiveMembersForExport();
+
     /**
      * Find memberships for a set of student IDs in a specific academic year range.
      * Used for bulk creation to detect existing memberships and avoid duplicates.
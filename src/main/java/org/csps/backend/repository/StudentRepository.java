@@ -2,16 +2,21 @@ package org.csps.backend.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.csps.backend.domain.dtos.response.StudentExportRowDTO;
 import org.csps.backend.domain.entities.Student;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface StudentRepository extends JpaRepository<Student, String> {
     
@@ -26,6 +31,17 @@ public interface StudentRepository extends JpaRepository<Student, String> {
            "up.lastName LIKE CONCAT('%', :search, '%')) " +
            "AND (:yearLevel IS NULL OR s.yearLevel = :yearLevel)")
     Page<Student> searchStudents(@Param("search") String search, @Param("yearLevel") Byte yearLevel, Pageable pageable);
+
+    /* keyset page ordered by studentId, strictly after the cursor id; search and yearLevel are optional */
+    @Query("SELECT s FROM Student s LEFT JOIN FETCH s.userAccount ua LEFT JOIN FETCH ua.userProfile up " +
+           "WHERE (:search IS NULL OR s.studentId LIKE CONCAT('%', :search, '%') OR " +
+           "up.firstName LIKE CONCAT('%', :search, '%') OR " +
+           "up.lastName LIKE CONCAT('%', :search, '%')) " +
+           "AND (:yearLevel IS NULL OR s.yearLevel = :yearLevel) " +
+           "AND (:cursorId IS NULL OR s.studentId > :cursorId) " +
+           "ORDER BY s.studentId ASC")
+    List<Student> findPageAfter(@Param("search") String search, @Param("yearLevel") Byte yearLevel,
+                                @Param("cursorId") String cursorId, Pageable limit);
     
     @Query("SELECT s FROM Student s LEFT JOIN FETCH s.userAccount ua LEFT JOIN FETCH ua.userProfile WHERE s.studentId = :studentId")
     Optional<Student> findByStudentId(@Param("studentId") String studentId);
@@ -60,4 +76,14 @@ public interface StudentRepository extends JpaRepository<Student, String> {
     @Query("SELECT s FROM Student s WHERE s.studentId NOT IN " +
            "(SELECT sm.student.studentId FROM StudentMembership sm WHERE sm.active = true)")
     List<Student> findAllStudentsWithoutActiveMembership();
+
+    /* forward-only stream of non-members for CSV export, projected straight into rows (no managed entities).
+       MySQL streams rows one at a time with fetch size Integer.MIN_VALUE; must be consumed inside a transaction and closed */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"))
+    @Query("SELECT new org.csps.backend.domain.dtos.response.StudentExportRowDTO(" +
+           "s.studentId, up.lastName, up.firstName, up.middleName, s.yearLevel, up.email) " +
+           "FROM Student s LEFT JOIN s.userAccount ua LEFT JOIN ua.userProfile up " +
+           "WHERE NOT EXISTS (SELECT 1 FROM StudentMembership sm WHERE sm.student = s AND sm.active = true) " +
+           "ORDER BY s.studentId")
+    Stream<StudentExportRowDTO> streamNonMembersForExport();
 }
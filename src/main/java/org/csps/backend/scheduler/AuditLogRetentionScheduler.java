@@ -0,0 +1,28 @@
+package org.csps.backend.scheduler;
+
+import org.csps.backend.service.AuditLogArchiveService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditLogRetentionScheduler {
+
+    private final AuditLogArchiveService auditLogArchiveService;
+
+    /* daily at 03:30; only months past the retention window are touched, so re-runs are no-ops */
+    @Scheduled(cron = "${csps.audit.retention.cron:0 30 3 * * *}")
+    public void archiveExpiredAuditLogs() {
+        try {
+            log.info("starting scheduled audit log archival");
+            int archived = auditLogArchiveService.archiveExpiredMonths();
+            log.info("scheduled audit log archival completed, {} month(s) archived", archived);
+        } catch (Exception e) {
+            log.error("failed to archive audit logs: {}", e.getMessage(), e);
+        }
+    }
+}
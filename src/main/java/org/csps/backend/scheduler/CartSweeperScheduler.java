@@ -0,0 +1,28 @@
+package org.csps.backend.scheduler;
+
+import org.csps.backend.service.CartSweeperService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CartSweeperScheduler {
+
+    private final CartSweeperService cartSweeperService;
+
+    /* hourly by default; each run works in bounded batches and is a no-op when nothing is stale */
+    @Scheduled(cron = "${csps.cart.sweeper.cron:0 15 * * * *}")
+    public void sweepAbandonedCarts() {
+        try {
+            log.info("starting scheduled cart sweep");
+            int reclaimed = cartSweeperService.sweep();
+            log.info("scheduled cart sweep completed, {} row(s) reclaimed", reclaimed);
+        } catch (Exception e) {
+            log.error("failed to sweep carts: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.csps.backend.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
+import org.csps.backend.exception.InvalidRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opaque, signed cursors for keyset pagination.
+ * A cursor is base64url(sort keys of the last row) + "." + truncated HMAC over the scope and payload,
+ * so clients cannot forge a position or replay a cursor from one listing against another.
+ * Listings fetch pageSize + 1 rows and hand them to {@link #toPage} to build the slice.
+ */
+@Component
+public class CursorCodec {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_BYTES = 16;
+    private static final String SEPARATOR = "|";
+
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final SecretKeySpec key;
+
+    /* a dedicated secret: cursors are handed to every client, so they must not be signed with the JWT key */
+    public CursorCodec(@Value("${csps.pagination.cursor-secret:}") String secret,
+                       @Value("${csps.jwtToken.secretKey:}") String jwtSecret) {
+        if (secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("csps.pagination.cursor-secret (CURSOR_SECRET) must be set to at least "
+                + MIN_SECRET_BYTES + " bytes");
+        }
+        if (secret.equals(jwtSecret)) {
+            throw new IllegalStateException("csps.pagination.cursor-secret must differ from the JWT secret");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+    }
+
+    /* clamp a client supplied page size to 1..MAX_PAGE_SIZE */
+    public static int pageSize(int requested) {
+        return Math.max(1, Math.min(requested, MAX_PAGE_SIZE));
+    }
+
+    public String encode(String scope, Object... keys) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(keys[i]);
+        }
+        byte[] payload = raw.toString().getBytes(StandardCharsets.UTF_8);
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload) + "." + encoder.encodeToString(sign(scope, payload));
+    }
+
+    /**
+     * Verify and split a cursor. Returns null for a missing cursor (first page).
+     * @throws InvalidRequestException if the cursor is malformed, tampered with or from another scope
+     */
+    public String[] decode(String scope, String cursor, int expectedParts) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            int dot = cursor.indexOf('.');
+            byte[] payload = Base64.getUrlDecoder().decode(cursor.substring(0, dot));
+            byte[] signature = Base64.getUrlDecoder().decode(cursor.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(scope, payload), signature)) {
+                throw new InvalidRequestException("Invalid cursor");
+            }
+            String[] parts = new String(payload, StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new InvalidRequestException("Invalid cursor");
+            }
+            return parts;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
+    public static LocalDateTime parseTimestamp(String part) {
+        try {
+            return LocalDateTime.parse(part);
+        } catch (DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
+    public static Long parseId(String part) {
+        try {
+            return Long.valueOf(part);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
+    /* turn pageSize + 1 fetched rows into a slice, with the cursor taken from the last returned row */
+    public <E, T> CursorPageResponseDTO<T> toPage(String scope, List<E> rows, int pageSize,
+                                                  Function<E, Object[]> sortKeys, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > pageSize;
+        return toPage(scope, hasNext ? rows.subList(0, pageSize) : rows, hasNext, sortKeys, mapper);
+    }
+
+    /* same as above when the caller already knows whether a following page exists */
+    public <E, T> CursorPageResponseDTO<T> toPage(String scope, List<E> pageRows, boolean hasNext,
+                                                  Function<E, Object[]> sortKeys, Function<E, T> mapper) {
+        String nextCursor = hasNext && !pageRows.isEmpty() ? encode(scope, sortKeys.apply(pageRows.get(pageRows.size() - 1))) : null;
+
+        List<T> content = pageRows.stream().map(mapper).toList();
+        return CursorPageResponseDTO.<T>builder()
+            .content(content)
+            .size(content.size())
+            .hasNext(nextCursor != null)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    private byte[] sign(String scope, byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            mac.update(scope.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Arrays.copyOf(mac.doFinal(payload), SIGNATURE_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cursor signing unavailable", e);
+        }
+    }
+}
@@ -26,7 +26,20 @@ public class CustomUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         // Fetch base user account
         UserAccount user = userAccountRepository.findByUsername(username);
-            
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found");
+        }
+        return buildPrincipal(user);
+    }
+
+    /* load principal by account id (token subject) without a second lookup by username */
+    public UserPrincipal loadUserByAccountId(Long userAccountId) throws UsernameNotFoundException {
+        UserAccount user = userAccountRepository.findById(userAccountId)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        return buildPrincipal(user);
+    }
+
+    private UserPrincipal buildPrincipal(UserAccount user) {
         String domainId = null;
         String role = user.getRole().name();
         String position = null;
@@ -40,6 +53,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 
                 return UserPrincipal.builder()
                         .user(user)
+                        .userAccountId(user.getUserAccountId())
                         .domainId(domainId)
                         .role(role)
                         .build();
@@ -52,6 +66,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 
                 return UserPrincipal.builder()
                         .user(user)
+                        .userAccountId(user.getUserAccountId())
                         .domainId(domainId)
                         .role(role)
                         .position(AdminPosition.valueOf(position))
@@ -0,0 +1,45 @@
+package org.csps.backend.security;
+
+import java.time.Duration;
+
+import org.csps.backend.configs.RateLimitingConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.local.LocalBucketBuilder;
+
+/**
+ * Per-JVM bucket store (default).
+ * Size-capped and evicts buckets that have been idle longer than the configured window,
+ * so a flood of distinct (or spoofed) client ids cannot grow the heap without bound.
+ */
+@Component
+@ConditionalOnProperty(prefix = "rate-limiting", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitBucketStore implements RateLimitBucketStore {
+
+    private final Cache<String, Bucket> buckets;
+
+    public InMemoryRateLimitBucketStore(RateLimitingConfig rateLimitingConfig) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(rateLimitingConfig.getMaxTrackedClients())
+                .expireAfterAccess(Duration.ofMinutes(rateLimitingConfig.getIdleEvictionMinutes()))
+                .build();
+    }
+
+    @Override
+    public Bucket resolveBucket(String key, BucketConfiguration configuration) {
+        return buckets.get(key, k -> {
+            LocalBucketBuilder builder = Bucket.builder();
+            for (Bandwidth bandwidth : configuration.getBandwidths()) {
+                builder.addLimit(bandwidth);
+            }
+            return builder.build();
+        });
+    }
+}
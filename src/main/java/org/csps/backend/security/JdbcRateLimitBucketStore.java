@@ -0,0 +1,79 @@
+package org.csps.backend.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.csps.backend.configs.RateLimitingConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.jdbc.BucketTableSettings;
+import io.github.bucket4j.distributed.jdbc.SQLProxyConfiguration;
+import io.github.bucket4j.mysql.MySQLSelectForUpdateBasedProxyManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MySQL-backed bucket store shared by every instance (rate-limiting.store=jdbc).
+ * Bucket state lives in the rate_limit_bucket table and is updated with SELECT ... FOR UPDATE
+ * through Bucket4j's proxy manager, so limits hold across the whole cluster.
+ * Rows idle longer than the eviction window are purged on a schedule to keep the table bounded.
+ */
+@Component
+@ConditionalOnProperty(prefix = "rate-limiting", name = "store", havingValue = "jdbc")
+@Slf4j
+public class JdbcRateLimitBucketStore implements RateLimitBucketStore {
+
+    private static final String TABLE_NAME = "rate_limit_bucket";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RateLimitingConfig rateLimitingConfig;
+    private final MySQLSelectForUpdateBasedProxyManager proxyManager;
+
+    public JdbcRateLimitBucketStore(DataSource dataSource, RateLimitingConfig rateLimitingConfig) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.rateLimitingConfig = rateLimitingConfig;
+
+        /* not a JPA entity, so ddl-auto will not create it */
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE_NAME + " ("
+                + "id BIGINT NOT NULL PRIMARY KEY, "
+                + "state BLOB, "
+                + "updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, "
+                + "INDEX idx_rate_limit_bucket_updated_at (updated_at))");
+
+        SQLProxyConfiguration configuration = new SQLProxyConfiguration(
+                dataSource, BucketTableSettings.customSettings(TABLE_NAME, "id", "state"));
+        this.proxyManager = new MySQLSelectForUpdateBasedProxyManager(configuration);
+    }
+
+    @Override
+    public Bucket resolveBucket(String key, BucketConfiguration configuration) {
+        return proxyManager.builder().build(toRowId(key), configuration);
+    }
+
+    /* purge buckets nobody has touched within the idle window */
+    @Scheduled(fixedRate = 600000)
+    public void purgeIdleBuckets() {
+        try {
+            int purged = jdbcTemplate.update(
+                    "DELETE FROM " + TABLE_NAME + " WHERE updated_at < NOW() - INTERVAL ? MINUTE",
+                    rateLimitingConfig.getIdleEvictionMinutes());
+            if (purged > 0) {
+                log.info("purged {} idle rate limit buckets", purged);
+            }
+        } catch (Exception e) {
+            log.error("failed to purge idle rate limit buckets: {}", e.getMessage(), e);
+        }
+    }
+
+    /* the JDBC proxy manager keys rows by BIGINT - fold the client key into 64 bits */
+    private static Long toRowId(String key) {
+        UUID uuid = UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8));
+        return uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits();
+    }
+}
@@ -1,15 +1,13 @@
 package org.csps.backend.security;
 
-import org.csps.backend.domain.entities.UserAccount;
-import org.csps.backend.service.UserAccountService;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,8 +18,7 @@ import lombok.RequiredArgsConstructor;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
-    private final UserAccountService userService;
-    private final CustomUserDetailsService customUserDetailsService;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -44,38 +41,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            final Long userId = jwtService.extractUsernameId(accessToken); // Parse userId from token
-
             Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 
             // Authenticate only if no authentication exists
             if (auth == null) {
-                // Load user from DB
-                UserAccount user = userService.findById(userId)
-                        .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+                // Verify signature + expiry once, every later read comes from these claims
+                Claims claims = jwtService.extractAllClaims(accessToken);
+                final Long userId = Long.valueOf(claims.getSubject());
 
-                // Validate token
-                if (!jwtService.isTokenValid(accessToken, user)) {
-                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                    response.getWriter().write("Invalid token");
-                    return;
-                }
+                // Resolve principal from claims / principal cache (DB only on cache miss)
+                UserPrincipal userPrincipal = principalCache.get(userId, claims);
 
-                // If token is valid
-                
-                // Load principal (with role + authorities)
-                UserPrincipal userPrincipal =
-                (UserPrincipal) customUserDetailsService.loadUserByUsername(user.getUsername());
-                
                 // Decide which domainId to use (Student/Admin)
                 Object domainId;
                 if ("STUDENT".equalsIgnoreCase(userPrincipal.getRole())) {
-                    domainId = jwtService.getStudentIdFromToken(accessToken);
+                    domainId = userPrincipal.getStudentId();
                 } else if ("ADMIN".equalsIgnoreCase(userPrincipal.getRole())) {
                     domainId = userPrincipal.getAdminId();
                 } else {
                     throw new RuntimeException("Role not recognized: " + userPrincipal.getRole());
-                }                
+                }
                 // Build authentication object
                 UsernamePasswordAuthenticationToken authToken =
                 new UsernamePasswordAuthenticationToken(
@@ -0,0 +1,100 @@
+package org.csps.backend.security;
+
+import java.security.Key;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+
+/**
+ * Holds the HMAC signing keys and a single thread-safe JwtParser, built once at startup.
+ * Shared by JwtService and QRTokenService.
+ *
+ * Key rotation: new tokens are signed with the active key and carry its id in the "kid" header.
+ * Keys listed in csps.jwtToken.previousKeys ("kid:base64,kid:base64") keep verifying old tokens
+ * during a rollover. Tokens without a "kid" header (issued before rotation support) verify with
+ * the active key.
+ */
+@Component
+public class JwtKeyProvider {
+
+    private final String activeKeyId;
+    private final SecretKey activeKey;
+    private final Map<String, SecretKey> verificationKeys;
+    private final JwtParser parser;
+
+    public JwtKeyProvider(@Value("${csps.jwtToken.secretKey}") String secretKey,
+                          @Value("${csps.jwtToken.keyId:primary}") String keyId,
+                          @Value("${csps.jwtToken.previousKeys:}") String previousKeys) {
+        this.activeKeyId = keyId;
+        this.activeKey = decode(secretKey);
+
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        keys.put(keyId, activeKey);
+        for (String entry : previousKeys.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalStateException("Invalid csps.jwtToken.previousKeys entry, expected kid:base64");
+            }
+            keys.putIfAbsent(entry.substring(0, separator).trim(), decode(entry.substring(separator + 1).trim()));
+        }
+        this.verificationKeys = Collections.unmodifiableMap(keys);
+
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(ProtectedHeader header) {
+                        String kid = header.getKeyId();
+                        if (kid == null) {
+                            return activeKey;
+                        }
+                        SecretKey key = verificationKeys.get(kid);
+                        if (key == null) {
+                            throw new SecurityException("Unknown signing key id: " + kid);
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
+
+    /* key used to sign newly issued tokens */
+    public SecretKey getSigningKey() {
+        return activeKey;
+    }
+
+    /* key id written to the "kid" header of newly issued tokens */
+    public String getKeyId() {
+        return activeKeyId;
+    }
+
+    /* shared parser - JwtParser is immutable and safe to reuse across threads */
+    public JwtParser getParser() {
+        return parser;
+    }
+
+    /* verify signature + expiry and return the payload */
+    public Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private static SecretKey decode(String base64Secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
+    }
+}
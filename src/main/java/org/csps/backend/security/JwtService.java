@@ -4,46 +4,30 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
-import javax.crypto.SecretKey;
-
 import org.csps.backend.domain.entities.UserAccount;
 import org.csps.backend.domain.enums.AdminPosition;
 import org.csps.backend.domain.enums.UserRole;
 import org.csps.backend.repository.AdminRepository;
 import org.csps.backend.repository.StudentRepository;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class JwtService {
 
-    @Value("${csps.jwtToken.secretKey}")
-    private String secretKey; // Base64-encoded secret key
-
     private long jwtAccessTokenExpirationMs = 90000000; // Expiration time in ms
 
     private final StudentRepository studentRepository;
     private final AdminRepository adminRepository;
-
-    // Decode secret key into HMAC-SHA key
-    private SecretKey getSignInKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
-    }
+    private final JwtKeyProvider jwtKeyProvider; // signing key + shared parser, built once
 
     // Extract all claims (payload) from JWT
     public Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtKeyProvider.parseClaims(token);
     }
 
     // Extract userAccountId (subject) from token
@@ -56,11 +40,6 @@ public class JwtService {
         return extractAllClaims(token).getExpiration();
     }
 
-    // Check if token is expired
-    private Boolean isTokenExpired(String token) {
-        return getExpiration(token).before(new Date());
-    }
-
 
     public String getStudentIdFromToken(String token) {
         return extractAllClaims(token).get("studentId", String.class);
@@ -102,11 +81,12 @@ public class JwtService {
     
         // Generate and sign token
         return Jwts.builder()
+                .header().keyId(jwtKeyProvider.getKeyId()).and()
                 .claims(customClaim)
                 .subject(String.valueOf(user.getUserAccountId())) // subject = accountId
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + jwtAccessTokenExpirationMs))
-                .signWith(getSignInKey())
+                .signWith(jwtKeyProvider.getSigningKey())
                 .compact();
     }
 
@@ -126,8 +106,9 @@ public class JwtService {
 
     // Validate token: check subject matches and not expired
     public Boolean isTokenValid(String token, UserAccount user) {
-        final Long usernameId = extractUsernameId(token);
+        final Claims claims = extractAllClaims(token);
 
-        return (usernameId.equals(user.getUserAccountId()) && !isTokenExpired(token));
+        return (Long.valueOf(claims.getSubject()).equals(user.getUserAccountId())
+                && !claims.getExpiration().before(new Date()));
     }
 }
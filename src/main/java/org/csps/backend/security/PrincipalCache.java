@@ -0,0 +1,111 @@
+package org.csps.backend.security;
+
+import java.time.Duration;
+
+import org.csps.backend.domain.entities.Admin;
+import org.csps.backend.domain.enums.UserRole;
+import org.csps.backend.domain.events.PrincipalChangedEvent;
+import org.csps.backend.repository.AdminRepository;
+import org.csps.backend.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Bounded, TTL'd cache of authenticated principals keyed by userAccountId.
+ * Student principals are built from the token claims after a single scalar lookup confirms
+ * the account still belongs to that student; admin principals need the adminId, so they are
+ * loaded once from the DB. Either way the DB is hit once per account per TTL, and entries are
+ * invalidated by admin access changes and account deletions once those commit, so the next
+ * request with a deleted account's token fails the lookup.
+ */
+@Component
+public class PrincipalCache {
+
+    private final AdminRepository adminRepository;
+    private final StudentRepository studentRepository;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final Cache<Long, UserPrincipal> cache;
+
+    public PrincipalCache(AdminRepository adminRepository,
+                          StudentRepository studentRepository,
+                          CustomUserDetailsService customUserDetailsService,
+                          @Value("${csps.security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${csps.security.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.adminRepository = adminRepository;
+        this.studentRepository = studentRepository;
+        this.customUserDetailsService = customUserDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /* resolve principal for an already verified token, hitting the DB only on a cache miss */
+    public UserPrincipal get(Long userAccountId, Claims claims) {
+        UserPrincipal principal = cache.get(userAccountId, id -> resolve(id, claims));
+
+        /* a token minted for another role must not reuse the cached principal */
+        String role = claims.get("role", String.class);
+        if (role != null && !role.equalsIgnoreCase(principal.getRole())) {
+            throw new UsernameNotFoundException("Token role does not match account");
+        }
+        return principal;
+    }
+
+    /* drop the cached principal once the access change or deletion has committed */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPrincipalChanged(PrincipalChangedEvent event) {
+        invalidate(event.getUserAccountId());
+    }
+
+    /* drop cached principal when the account's access changes */
+    public void invalidate(Long userAccountId) {
+        if (userAccountId != null) {
+            cache.invalidate(userAccountId);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private UserPrincipal resolve(Long userAccountId, Claims claims) {
+        String role = claims.get("role", String.class);
+
+        /* students: every field we need is already embedded in the token, the DB only confirms the account still exists */
+        String studentId = claims.get("studentId", String.class);
+        if (UserRole.STUDENT.name().equals(role) && studentId != null) {
+            studentRepository.findStudentIdByUserAccountId(userAccountId)
+                    .filter(studentId::equals)
+                    .orElseThrow(() -> new UsernameNotFoundException("Student not found"));
+            return UserPrincipal.builder()
+                    .userAccountId(userAccountId)
+                    .domainId(studentId)
+                    .role(role)
+                    .build();
+        }
+
+        /* admins: adminId is not in the token, single fetch-joined lookup */
+        if (UserRole.ADMIN.name().equals(role)) {
+            Admin admin = adminRepository.findByUserAccountUserAccountId(userAccountId)
+                    .orElseThrow(() -> new UsernameNotFoundException("Admin not found"));
+            return UserPrincipal.builder()
+                    .user(admin.getUserAccount())
+                    .userAccountId(userAccountId)
+                    .domainId(admin.getAdminId().toString())
+                    .role(role)
+                    .position(admin.getPosition())
+                    .build();
+        }
+
+        /* tokens issued without role claims fall back to the full lookup */
+        return customUserDetailsService.loadUserByAccountId(userAccountId);
+    }
+}
@@ -0,0 +1,62 @@
+package org.csps.backend.security;
+
+import java.io.IOException;
+
+import org.csps.backend.configs.RateLimitingConfig;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Route rate limit policies for authenticated requests, keyed by the principal's domainId
+ * (studentId or adminId) instead of the IP, so students behind one NAT each get their own budget
+ * and a single logged-in scraper cannot spread its traffic over several addresses.
+ * Runs right after JwtAuthenticationFilter; anonymous requests were already limited by RateLimitingFilter.
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalRateLimitingFilter extends OncePerRequestFilter {
+
+    private final RateLimitingConfig rateLimitingConfig;
+    private final RateLimitPolicyResolver policyResolver;
+    private final RateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (!rateLimitingConfig.isEnabled() || auth == null || !auth.isAuthenticated()
+                || auth instanceof AnonymousAuthenticationToken) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        if (policyResolver.isExcluded(path)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitPolicyResolver.CompiledPolicy policy = policyResolver.resolve(request, path);
+        if (rateLimiter.tryConsume(policy.getName() + ":" + principalKey(auth), policy, response, true)) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    /* student and admin ids come from different sequences, so the role is part of the key */
+    private static String principalKey(Authentication auth) {
+        boolean admin = auth.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        return (admin ? "admin:" : "student:") + auth.getPrincipal();
+    }
+}
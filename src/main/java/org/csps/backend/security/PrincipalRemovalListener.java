@@ -0,0 +1,34 @@
+package org.csps.backend.security;
+
+import org.csps.backend.domain.entities.Student;
+import org.csps.backend.domain.entities.UserAccount;
+import org.csps.backend.domain.events.PrincipalChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JPA listener on Student and UserAccount: however they get deleted, the cached principal of the
+ * account goes with them. The event is handled after commit, so a rolled-back delete keeps its principal.
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalRemovalListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        Long userAccountId = null;
+        if (entity instanceof Student student && student.getUserAccount() != null) {
+            userAccountId = student.getUserAccount().getUserAccountId();
+        } else if (entity instanceof UserAccount userAccount) {
+            userAccountId = userAccount.getUserAccountId();
+        }
+        if (userAccountId != null) {
+            eventPublisher.publishEvent(new PrincipalChangedEvent(userAccountId));
+        }
+    }
+}
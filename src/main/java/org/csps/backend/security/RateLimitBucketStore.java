@@ -0,0 +1,14 @@
+package org.csps.backend.security;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+
+/**
+ * Storage backend for rate limit buckets.
+ * Implementations must keep memory/storage bounded regardless of how many distinct keys are seen.
+ */
+public interface RateLimitBucketStore {
+
+    /* get or create the bucket for a client key using the given limits */
+    Bucket resolveBucket(String key, BucketConfiguration configuration);
+}
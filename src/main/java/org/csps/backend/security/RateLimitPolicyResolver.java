@@ -0,0 +1,138 @@
+package org.csps.backend.security;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.csps.backend.configs.RateLimitingConfig;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConfigurationBuilder;
+import io.github.bucket4j.Refill;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Compiles rate limit policies and excluded paths into PathPatterns once at startup
+ * and resolves the policy for each request.
+ */
+@Component
+public class RateLimitPolicyResolver {
+
+    private static final String DEFAULT_POLICY = "default";
+    private static final String PRE_AUTH_POLICY = "pre-auth";
+
+    private final List<PathPattern> excludedPatterns;
+    private final List<CompiledPolicy> policies;
+    private final CompiledPolicy defaultPolicy;
+    @Getter
+    private final CompiledPolicy preAuthPolicy;
+
+    public RateLimitPolicyResolver(RateLimitingConfig rateLimitingConfig) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+
+        /* excluded entries are prefixes: match the path itself and everything below it */
+        List<PathPattern> excluded = new ArrayList<>();
+        for (String path : rateLimitingConfig.getExcludedPaths()) {
+            excluded.add(parser.parse(path));
+            excluded.add(parser.parse(path.endsWith("/") ? path + "**" : path + "/**"));
+        }
+        this.excludedPatterns = List.copyOf(excluded);
+
+        List<CompiledPolicy> compiled = new ArrayList<>();
+        for (RateLimitingConfig.Policy policy : rateLimitingConfig.getPolicies()) {
+            compiled.add(new CompiledPolicy(
+                    policy.getName(),
+                    policy.getPaths().stream().map(parser::parse).toList(),
+                    policy.getMethods().stream().map(m -> m.toUpperCase(Locale.ROOT)).collect(Collectors.toSet()),
+                    policy.getRequestsPerMinute(),
+                    capacity(policy.getRequestsPerMinute(), policy.getBurstCapacity()),
+                    buildConfiguration(policy.getRequestsPerMinute(), policy.getBurstCapacity(), policy.getRequestsPerHour())));
+        }
+        this.policies = List.copyOf(compiled);
+
+        this.defaultPolicy = new CompiledPolicy(
+                DEFAULT_POLICY,
+                List.of(),
+                Set.of(),
+                rateLimitingConfig.getRequestsPerMinute(),
+                capacity(rateLimitingConfig.getRequestsPerMinute(), 0),
+                buildConfiguration(rateLimitingConfig.getRequestsPerMinute(), 0, rateLimitingConfig.getRequestsPerHour()));
+
+        this.preAuthPolicy = new CompiledPolicy(
+                PRE_AUTH_POLICY,
+                List.of(),
+                Set.of(),
+                rateLimitingConfig.getPreAuthRequestsPerMinute(),
+                capacity(rateLimitingConfig.getPreAuthRequestsPerMinute(), 0),
+                buildConfiguration(rateLimitingConfig.getPreAuthRequestsPerMinute(), 0, 0));
+    }
+
+    /* check if request path should skip rate limiting */
+    public boolean isExcluded(PathContainer path) {
+        for (PathPattern pattern : excludedPatterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /* first matching policy, or the global default */
+    public CompiledPolicy resolve(HttpServletRequest request, PathContainer path) {
+        for (CompiledPolicy policy : policies) {
+            if (policy.matches(request.getMethod(), path)) {
+                return policy;
+            }
+        }
+        return defaultPolicy;
+    }
+
+    /* the burst capacity when set, otherwise a full minute's worth */
+    private static int capacity(int requestsPerMinute, int burstCapacity) {
+        return burstCapacity > 0 ? burstCapacity : requestsPerMinute;
+    }
+
+    private static BucketConfiguration buildConfiguration(int requestsPerMinute, int burstCapacity, int requestsPerHour) {
+        int capacity = capacity(requestsPerMinute, burstCapacity);
+        ConfigurationBuilder builder = BucketConfiguration.builder()
+                .addLimit(Bandwidth.classic(capacity, Refill.greedy(requestsPerMinute, Duration.ofMinutes(1))));
+        if (requestsPerHour > 0) {
+            builder.addLimit(Bandwidth.simple(requestsPerHour, Duration.ofHours(1)));
+        }
+        return builder.build();
+    }
+
+    /* policy with its path patterns and bucket limits pre-built */
+    @Getter
+    @AllArgsConstructor
+    public static class CompiledPolicy {
+        private final String name;
+        private final List<PathPattern> patterns;
+        private final Set<String> methods;
+        private final int requestsPerMinute;
+        private final int capacity;
+        private final BucketConfiguration configuration;
+
+        boolean matches(String method, PathContainer path) {
+            if (!methods.isEmpty() && !methods.contains(method)) {
+                return false;
+            }
+            for (PathPattern pattern : patterns) {
+                if (pattern.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
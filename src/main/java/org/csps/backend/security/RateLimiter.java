@@ -0,0 +1,59 @@
+package org.csps.backend.security;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Consumes one token for a client key under a policy and writes the RateLimit-* headers,
+ * or a 429 response when the bucket is empty. Shared by the IP-keyed and principal-keyed filters.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private final RateLimitBucketStore bucketStore;
+
+    /* true when the request may proceed; otherwise the 429 response has been written */
+    public boolean tryConsume(String key, RateLimitPolicyResolver.CompiledPolicy policy,
+                              HttpServletResponse response, boolean reportLimits) throws IOException {
+        Bucket bucket = bucketStore.resolveBucket(key, policy.getConfiguration());
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+
+        if (probe.isConsumed()) {
+            if (reportLimits) {
+                writeLimitHeaders(response, policy, probe);
+                response.addHeader("RateLimit-Reset", String.valueOf(toSeconds(probe.getNanosToWaitForReset())));
+            }
+            return true;
+        }
+
+        /* no token available - reject request with 429 Too Many Requests */
+        long retryAfterSeconds = toSeconds(probe.getNanosToWaitForRefill());
+        writeLimitHeaders(response, policy, probe);
+        response.addHeader("RateLimit-Reset", String.valueOf(retryAfterSeconds));
+        response.addHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setStatus(429); /* HTTP 429 Too Many Requests */
+        response.setContentType("application/json");
+        response.getWriter().write("{\"error\": \"Too many requests. Please retry after " + retryAfterSeconds + " seconds.\"}");
+        return false;
+    }
+
+    /* the bucket holds at most capacity tokens and refills requestsPerMinute per 60s */
+    private static void writeLimitHeaders(HttpServletResponse response, RateLimitPolicyResolver.CompiledPolicy policy,
+                                          ConsumptionProbe probe) {
+        response.setHeader("RateLimit-Limit", String.valueOf(policy.getCapacity()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(probe.getRemainingTokens()));
+        response.setHeader("RateLimit-Policy", policy.getCapacity() + ";w=60;refill=" + policy.getRequestsPerMinute());
+    }
+
+    private static long toSeconds(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+}
@@ -3,10 +3,10 @@ package org.csps.backend.security;
 import java.io.IOException;
 
 import org.csps.backend.configs.RateLimitingConfig;
+import org.springframework.http.server.PathContainer;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import io.github.bucket4j.Bucket;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,67 +16,62 @@ import lombok.RequiredArgsConstructor;
 /**
  * Rate limiting filter to prevent DDoS attacks
  * Uses Bucket4j token bucket algorithm
- * Applies limits per client IP address
+ * Runs before JwtAuthenticationFilter, keyed by client IP:
+ * anonymous requests (login included) get their route policy here; requests carrying a bearer token
+ * only pass a coarse per-IP flood guard, their route policy is applied per principal by
+ * PrincipalRateLimitingFilter once the token is verified
  */
 @Component
 @RequiredArgsConstructor
 public class RateLimitingFilter extends OncePerRequestFilter {
 
     private final RateLimitingConfig rateLimitingConfig;
+    private final RateLimitPolicyResolver policyResolver;
+    private final RateLimiter rateLimiter;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        
+
         /* skip rate limiting if disabled */
         if (!rateLimitingConfig.isEnabled()) {
             filterChain.doFilter(request, response);
             return;
         }
 
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+
         /* skip rate limiting for excluded paths */
-        if (rateLimitingConfig.isPathExcluded(request.getRequestURI())) {
+        if (policyResolver.isExcluded(path)) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        /* get client IP for rate limiting */
-        String clientId = getClientIp(request);
-        
-        /* get or create bucket for this client */
-        Bucket bucket = rateLimitingConfig.resolveBucket(clientId);
-        
-        /* consume a token from bucket */
-        if (bucket.tryConsume(1)) {
-            /* token available - request allowed */
-            response.addHeader("X-Rate-Limit-Limit", String.valueOf(rateLimitingConfig.getRequestsPerMinute()));
-            filterChain.doFilter(request, response);
+        String clientIp = getClientIp(request);
+        boolean allowed;
+        if (hasBearerToken(request)) {
+            /* campus NATs put many students behind one IP, so this budget is far larger than any route policy */
+            RateLimitPolicyResolver.CompiledPolicy guard = policyResolver.getPreAuthPolicy();
+            allowed = rateLimiter.tryConsume(guard.getName() + ":ip:" + clientIp, guard, response, false);
         } else {
-            /* no token available - reject request with 429 Too Many Requests */
-            response.addHeader("X-Rate-Limit-Retry-After-Seconds", "60");
-            response.setStatus(429); /* HTTP 429 Too Many Requests */
-            response.setContentType("application/json");
-            response.getWriter().write("{\"error\": \"Too many requests. Please retry after 60 seconds.\"}");
+            RateLimitPolicyResolver.CompiledPolicy policy = policyResolver.resolve(request, path);
+            allowed = rateLimiter.tryConsume(policy.getName() + ":ip:" + clientIp, policy, response, true);
+        }
+
+        if (allowed) {
+            filterChain.doFilter(request, response);
         }
     }
 
-    /* extract client IP from request, considering proxies */
+    private static boolean hasBearerToken(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+        return authHeader != null && authHeader.startsWith("Bearer ");
+    }
+
+    /* client IP as seen by the servlet container. forwarded headers are never read here: the container
+       only applies X-Forwarded-For when the request came through a trusted proxy
+       (server.forward-headers-strategy / server.tomcat.remoteip.internal-proxies), so clients cannot pick their own bucket */
     private String getClientIp(HttpServletRequest request) {
-        String clientIp = request.getHeader("X-Forwarded-For");
-        
-        if (clientIp == null || clientIp.isEmpty() || "unknown".equalsIgnoreCase(clientIp)) {
-            clientIp = request.getHeader("X-Real-IP");
-        }
-        
-        if (clientIp == null || clientIp.isEmpty() || "unknown".equalsIgnoreCase(clientIp)) {
-            clientIp = request.getRemoteAddr();
-        }
-        
-        /* handle X-Forwarded-For which can contain multiple IPs */
-        if (clientIp != null && clientIp.contains(",")) {
-            clientIp = clientIp.split(",")[0].trim();
-        }
-        
-        return clientIp;
+        return request.getRemoteAddr();
     }
 }
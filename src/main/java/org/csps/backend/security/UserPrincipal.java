@@ -19,7 +19,8 @@ import lombok.Data;
 @AllArgsConstructor
 public class UserPrincipal implements UserDetails {
 
-    private final UserAccount user;  // underlying user entity
+    private final UserAccount user;  // underlying user entity (null when built from token claims)
+    private final Long userAccountId; // account id (token subject)
     private final String domainId;   // role-specific identifier (studentId/adminId)
     private final String role;       // role name (STUDENT / ADMIN)
     private final AdminPosition position; 
@@ -78,12 +79,12 @@ public class UserPrincipal implements UserDetails {
     // Delegate to UserAccount for credentials
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return user != null ? user.getPassword() : null;
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return user != null ? user.getUsername() : null;
     }
 
     // Default: account is always active/valid
@@ -0,0 +1,12 @@
+package org.csps.backend.service;
+
+import java.util.List;
+
+import org.csps.backend.domain.dtos.request.CheckInScanDTO;
+import org.csps.backend.domain.dtos.response.BatchCheckInResponseDTO;
+
+public interface AttendanceIngestionService {
+
+    /* record a scanner's buffered scans with one result per scan; resending is safe, recorded scans come back as DUPLICATE */
+    BatchCheckInResponseDTO ingestScans(List<CheckInScanDTO> scans);
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.csps.backend.domain.dtos.request.AttendanceRecordSearchDTO;
 import org.csps.backend.domain.dtos.response.AttendanceRecordResponseDTO;
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,6 +15,9 @@ public interface AttendanceRecordService {
     
     /* get all attendance records for a session with pagination, page size of 6 per page */
     Page<AttendanceRecordResponseDTO> getSessionAttendance(Long sessionId, Pageable pageable);
+
+    /* get attendance records for a session, latest first, using keyset pagination (no total count) */
+    CursorPageResponseDTO<AttendanceRecordResponseDTO> getSessionAttendanceByCursor(Long sessionId, String cursor, int size);
     
     /* get all attendance records for a participant */
     List<AttendanceRecordResponseDTO> getParticipantAttendance(Long participantId);
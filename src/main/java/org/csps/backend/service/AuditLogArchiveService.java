@@ -0,0 +1,27 @@
+package org.csps.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.csps.backend.domain.dtos.request.AuditLogSearchDTO;
+import org.csps.backend.domain.dtos.response.AuditLogResponseDTO;
+
+public interface AuditLogArchiveService {
+
+    /* parameters: none
+       return type: number of months archived in this run
+       logic: rolls every month older than the retention window into a gzip ndjson archive
+              (optionally uploaded to S3) and purges those rows from audit_log in bounded chunks */
+    int archiveExpiredMonths();
+
+    /* parameters: none
+       return type: instant before which audit data lives only in archives, empty if nothing is archived
+       logic: lets the live search know when it has to continue into archived months */
+    Optional<LocalDateTime> getArchiveBoundary();
+
+    /* parameters: search filters, keyset cursor (timestamp + id of the last row already returned), max rows
+       return type: archived audit rows newest first, after the cursor
+       logic: walks the archive files that overlap the filters newest month first */
+    List<AuditLogResponseDTO> searchArchived(AuditLogSearchDTO searchDTO, LocalDateTime cursorTimestamp, Long cursorId, int limit);
+}
@@ -1,8 +1,13 @@
 package org.csps.backend.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.csps.backend.domain.dtos.request.AuditLogSearchDTO;
+import org.csps.backend.domain.dtos.response.AuditLogResponseDTO;
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
 import org.csps.backend.domain.entities.AuditLog;
 import org.csps.backend.domain.enums.AuditAction;
 
@@ -37,4 +42,14 @@ public interface AuditLogService {
        return type: list of AuditLog entities
        logic: retrieves audit logs for a specific admin within a specified time range */
     List<AuditLog> getAuditLogsByAdminAndTimeRange(Long adminId, LocalDateTime startTime, LocalDateTime endTime);
+
+    /* parameters: combinable filters, opaque cursor from the previous page (null for the first page), page size
+       return type: slice of audit log DTOs with the cursor for the next page
+       logic: keyset pagination on (timestamp, id) newest first, no OFFSET scan and no COUNT query */
+    CursorPageResponseDTO<AuditLogResponseDTO> searchAuditLogs(AuditLogSearchDTO searchDTO, String cursor, int size);
+
+    /* parameters: combinable filters, export format (ndjson or csv), response output stream
+       return type: none
+       logic: streams matching rows from a forward-only DB cursor straight to the output as they are read */
+    void exportAuditLogs(AuditLogSearchDTO searchDTO, String format, OutputStream outputStream) throws IOException;
 }
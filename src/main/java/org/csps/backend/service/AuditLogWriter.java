@@ -0,0 +1,21 @@
+package org.csps.backend.service;
+
+import org.csps.backend.domain.dtos.AuditEventDTO;
+
+public interface AuditLogWriter {
+
+    /**
+     * queues an audit event for the background writer.
+     * never blocks and never touches the database on the caller's thread;
+     * if the queue is full the event is spilled to disk instead of being dropped.
+     *
+     * @param event the audit event captured on the request thread
+     */
+    void enqueue(AuditEventDTO event);
+
+    /**
+     * drains the queue and writes pending events in multi-row batches.
+     * events that cannot be written are spilled to disk and replayed on a later flush.
+     */
+    void flush();
+}
@@ -1,5 +1,6 @@
 package org.csps.backend.service;
 
+import org.csps.backend.domain.dtos.request.CartItemOperationDTO;
 import org.csps.backend.domain.dtos.request.CartItemRequestDTO;
 import org.csps.backend.domain.dtos.response.CartItemResponseDTO;
 import java.util.List;
@@ -26,6 +27,12 @@ public interface CartItemService {
      */
     List<CartItemResponseDTO> getCartItems(String studentId);
     
+    /**
+     * Apply add/update/remove operations in order, all or nothing.
+     * Stock is validated for every grown line with one query and the lines are written with one upsert.
+     */
+    void applyCartOperations(String studentId, List<CartItemOperationDTO> operations);
+
     /**
      * Clear entire cart.
      */
@@ -0,0 +1,11 @@
+package org.csps.backend.service;
+
+public interface CartSweeperService {
+
+    /**
+     * Remove cart lines untouched for the configured age whose merch is archived or whose item is out of stock,
+     * then drop carts left without any line. Works in bounded batches, each committed on its own.
+     * @return number of cart lines and carts reclaimed
+     */
+    int sweep();
+}
@@ -0,0 +1,13 @@
+package org.csps.backend.service;
+
+import org.csps.backend.domain.dtos.response.CartResponseDTO;
+
+public interface CartViewService {
+
+    /**
+     * Whole cart of a student with current prices, availability, subtotals and totals.
+     * Served from a per-student cache that cart mutations evict; stock is always live.
+     * A student without a cart gets an empty one.
+     */
+    CartResponseDTO getCart(String studentId);
+}
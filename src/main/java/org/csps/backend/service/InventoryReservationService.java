@@ -0,0 +1,47 @@
+package org.csps.backend.service;
+
+import java.util.Map;
+
+public interface InventoryReservationService {
+
+    /**
+     * Hold a quantity of an item for a student, replacing any hold the student already has on it.
+     * Holds are advisory: they only gate adding to carts on this instance, checkout does not consult them.
+     * A hold expires hold-ttl after it was first taken; changing its quantity does not extend it.
+     * Returns false when not enough stock is available; the previous hold is kept in that case.
+     * Throws InvalidRequestException when the quantity or the student's number of held items is over its cap.
+     * Inside a transaction the hold is taken right away and put back as it was if the transaction rolls back.
+     */
+    boolean hold(String studentId, Long merchVariantItemId, int quantity);
+
+    /**
+     * Release the student's hold on an item, returning it to the available count.
+     * Inside a transaction the release only happens once the transaction commits.
+     */
+    void release(String studentId, Long merchVariantItemId);
+
+    /**
+     * Release every hold the student has; deferred to commit like release.
+     */
+    void releaseAll(String studentId);
+
+    /**
+     * Turn the student's holds into sales once the checkout transaction commits.
+     */
+    void confirmSale(String studentId, Map<Long, Integer> quantities);
+
+    /**
+     * Live available count (stock minus active holds), or 0 for unknown items.
+     */
+    int getAvailable(Long merchVariantItemId);
+
+    /**
+     * Return expired holds to the available counts.
+     */
+    void expireHolds();
+
+    /**
+     * Poll the database for the current stock of every tracked item.
+     */
+    void reconcile();
+}
@@ -1,5 +1,8 @@
 package org.csps.backend.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import org.csps.backend.domain.dtos.request.BulkMerchPaymentRequestDTO;
 import org.csps.backend.domain.dtos.response.MerchCustomerResponseDTO;
 import org.csps.backend.domain.dtos.response.OrderResponseDTO;
@@ -74,4 +77,14 @@ public interface MerchCustomerService {
      * @return complete list of MerchCustomerResponseDTO
      */
     List<MerchCustomerResponseDTO> getAllCustomersByMerchId(Long merchId);
+
+    /**
+     * Stream every customer of a merch as CSV straight to the given output stream.
+     * Rows are read from a forward-only database cursor, so memory use does not grow with the customer count.
+     *
+     * @param merchId      the merch ID to export customers for
+     * @param outputStream response body to write to
+     * @param gzip         whether to gzip the CSV
+     */
+    void exportCustomersByMerchIdCsv(Long merchId, OutputStream outputStream, boolean gzip) throws IOException;
 }
@@ -3,6 +3,7 @@ package org.csps.backend.service;
 import java.util.List;
 
 import org.csps.backend.domain.dtos.request.OrderItemRequestDTO;
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
 import org.csps.backend.domain.dtos.response.OrderItemResponseDTO;
 import org.csps.backend.domain.enums.OrderStatus;
 import org.springframework.data.domain.Page;
@@ -49,6 +50,11 @@ public interface OrderItemService {
      */
     Page<OrderItemResponseDTO> getOrderItemsByStudentIdAndStatusPaginated(String studentId, OrderStatus status, Pageable pageable);
 
+    /**
+     * Keyset page of a student's order items, most recently updated first, with optional status filter.
+     */
+    CursorPageResponseDTO<OrderItemResponseDTO> getOrderItemsByStudentIdByCursor(String studentId, OrderStatus status, String cursor, int size);
+
     /**
      * Update order item status.
      */
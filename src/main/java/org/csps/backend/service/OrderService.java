@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.csps.backend.domain.dtos.request.OrderPostRequestDTO;
 import org.csps.backend.domain.dtos.request.OrderSearchDTO;
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
 import org.csps.backend.domain.dtos.response.OrderResponseDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -42,6 +43,17 @@ public interface OrderService {
     Page<OrderResponseDTO> getOrdersByStudentIdPaginated(String studentId, Pageable pageable);
     
     Page<OrderResponseDTO> getAllOrdersPaginatedSortByDate(Pageable pageable);
+
+    /**
+     * Keyset page of all orders, newest first (admin only).
+     * Pass the previous page's nextCursor to continue; no total count is computed.
+     */
+    CursorPageResponseDTO<OrderResponseDTO> getAllOrdersByCursor(String cursor, int size);
+
+    /**
+     * Keyset page of a student's orders, newest first.
+     */
+    CursorPageResponseDTO<OrderResponseDTO> getOrdersByStudentIdByCursor(String studentId, String cursor, int size);
     
     /**
      * Search orders by filters (student name, id, status, date range).
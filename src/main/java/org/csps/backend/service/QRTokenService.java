@@ -1,20 +1,20 @@
 package org.csps.backend.service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
-import javax.crypto.SecretKey;
-
+import org.csps.backend.exception.InvalidQRTokenException;
+import org.csps.backend.security.JwtKeyProvider;
 import org.csps.backend.security.JwtService;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -22,47 +22,87 @@ import lombok.RequiredArgsConstructor;
 public class QRTokenService {
 
     private final JwtService jwtService;
-
-    @Value("${csps.jwtToken.secretKey}")
-    private String secretKey;
+    private final JwtKeyProvider jwtKeyProvider;
 
     private static final long QR_TOKEN_EXPIRATION_MS = 86400000; // 24 hours
 
-    /* decode secret key for HMAC-SHA */
-    private SecretKey getSignInKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
-    }
-
     /* generate QR token with session id and student id extracted from JWT token */
     public String generateQRToken(Long sessionId, String studentToken) {
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("sessionId", sessionId);
-
         /* extract student id from the authenticated JWT token if provided */
+        String studentId = null;
         if (studentToken != null && !studentToken.isEmpty()) {
-            String extractedStudentId = jwtService.getStudentIdFromToken(studentToken);
-            if (extractedStudentId != null) {
-                claims.put("studentId", extractedStudentId);
-            }
+            studentId = jwtService.getStudentIdFromToken(studentToken);
+        }
+        return generateStudentQRToken(sessionId, studentId);
+    }
+
+    /* generate QR token for a known student id; a null student id gives a session-only token */
+    public String generateStudentQRToken(Long sessionId, String studentId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("sessionId", sessionId);
+        if (studentId != null) {
+            claims.put("studentId", studentId);
         }
 
         return Jwts.builder()
+                .header().keyId(jwtKeyProvider.getKeyId()).and()
                 .claims(claims)
                 .subject("qr-token")
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + QR_TOKEN_EXPIRATION_MS))
-                .signWith(getSignInKey())
+                .signWith(jwtKeyProvider.getSigningKey())
                 .compact();
     }
 
+    /* student id of a check-in QR token, verifying signature and expiry in a single parse */
+    public String resolveCheckInStudentId(String qrToken) {
+        String studentId;
+        try {
+            studentId = jwtKeyProvider.parseClaims(qrToken).get("studentId", String.class);
+        } catch (ExpiredJwtException ex) {
+            throw new InvalidQRTokenException("QR code is expired, please scan a new one or ask for assistance");
+        } catch (JwtException | IllegalArgumentException ex) {
+            throw new InvalidQRTokenException("QR code is invalid or has been tampered with");
+        }
+        if (studentId == null) {
+            throw new InvalidQRTokenException("QR code does not contain valid student information");
+        }
+        return studentId;
+    }
+
+    /*
+     * student id of a check-in QR token scanned offline at scannedAt: expiry is judged at the scan time, not now,
+     * and the scan time must fall within the token's lifetime give or take the scanner's allowed clock skew
+     */
+    public String resolveCheckInStudentId(String qrToken, Instant scannedAt, Duration allowedClockSkew) {
+        Claims claims;
+        try {
+            claims = jwtKeyProvider.parseClaims(qrToken);
+        } catch (ExpiredJwtException ex) {
+            /* the signature is verified before expiry, so the claims can be trusted */
+            claims = ex.getClaims();
+            Date expiration = claims.getExpiration();
+            if (expiration == null || scannedAt.isAfter(expiration.toInstant().plus(allowedClockSkew))) {
+                throw new InvalidQRTokenException("QR code had already expired when it was scanned");
+            }
+        } catch (JwtException | IllegalArgumentException ex) {
+            throw new InvalidQRTokenException("QR code is invalid or has been tampered with");
+        }
+        Date issuedAt = claims.getIssuedAt();
+        if (issuedAt != null && scannedAt.isBefore(issuedAt.toInstant().minus(allowedClockSkew))) {
+            throw new InvalidQRTokenException("QR code was scanned before it was issued");
+        }
+        String studentId = claims.get("studentId", String.class);
+        if (studentId == null) {
+            throw new InvalidQRTokenException("QR code does not contain valid student information");
+        }
+        return studentId;
+    }
+
     /* validate QR token signature and extract claims */
     public Claims validateAndExtractClaims(String qrToken) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSignInKey())
-                    .build()
-                    .parseSignedClaims(qrToken)
-                    .getPayload();
+            return jwtKeyProvider.parseClaims(qrToken);
         } catch (Exception ex) {
             return null; // Token is invalid or expired
         }
@@ -1,6 +1,7 @@
 package org.csps.backend.service;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -63,6 +64,21 @@ public class S3Service {
     }
 
 
+    /**
+     * Upload a local file to S3 under the given key
+     */
+    public String uploadFile(Path file, String key, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build();
+
+        s3Client.putObject(putObjectRequest, RequestBody.fromFile(file));
+
+        return key;
+    }
+
     /**
      * Download file from S3
      */
@@ -0,0 +1,26 @@
+package org.csps.backend.service;
+
+import java.util.Collection;
+
+public interface SalesRollupService {
+
+    /**
+     * Add orders that just became CLAIMED to the sales rollup.
+     * Must be called in the transaction that changes the status.
+     */
+    void recordClaimed(Collection<Long> orderIds);
+
+    /**
+     * Take orders that are no longer CLAIMED (rejected or deleted) out of the sales rollup.
+     * Must be called before their items are removed or rejected.
+     * A claimed order whose items change is taken out before the change and recorded again after it.
+     */
+    void recordUnclaimed(Collection<Long> orderIds);
+
+    /**
+     * Recompute the rollup from every claimed order.
+     *
+     * @return number of rollup rows written
+     */
+    int rebuild();
+}
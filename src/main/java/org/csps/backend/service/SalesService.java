@@ -3,12 +3,13 @@ package org.csps.backend.service;
 import org.csps.backend.domain.dtos.request.OrderSearchDTO;
 import org.csps.backend.domain.dtos.response.sales.SalesStatsDTO;
 import org.csps.backend.domain.dtos.response.sales.TransactionDTO;
+import org.csps.backend.domain.enums.MerchType;
 import org.csps.backend.domain.enums.SalesPeriod;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface SalesService {
-    SalesStatsDTO getSalesStats(SalesPeriod period);
+    SalesStatsDTO getSalesStats(SalesPeriod period, MerchType merchType);
     
     Page<TransactionDTO> getTransactions(Pageable pageable, OrderSearchDTO searchDTO);
     
@@ -1,11 +1,14 @@
 package org.csps.backend.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
 
 import org.csps.backend.domain.dtos.request.BulkStudentMembershipRequestDTO;
 import org.csps.backend.domain.dtos.request.StudentMembershipRequestDTO;
 import org.csps.backend.domain.dtos.request.StudentMembershipSearchDTO;
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
 import org.csps.backend.domain.dtos.response.StudentMembershipResponseDTO;
 import org.csps.backend.domain.dtos.response.StudentResponseDTO;
 import org.csps.backend.domain.dtos.response.MembershipRatioDTO;
@@ -44,6 +47,16 @@ public interface StudentMembershipService {
      */
     Page<StudentMembershipResponseDTO> getActiveMembersPaginated(Pageable pageable);
 
+    /**
+     * Get memberships newest first using keyset pagination (no total count).
+     *
+     * @param activeOnly only return active memberships
+     * @param cursor opaque cursor from the previous page, or null for the first page
+     * @param size number of items per page
+     * @return one page of membership response DTOs plus the cursor of the next page
+     */
+    CursorPageResponseDTO<StudentMembershipResponseDTO> getMembershipsByCursor(boolean activeOnly, String cursor, int size);
+
     /**
      * Get all students who do NOT have an active membership (non-members), paginated.
      * Uses a NOT IN subquery to exclude students with active memberships.
@@ -93,6 +106,23 @@ public interface StudentMembershipService {
      */
     List<StudentResponseDTO> getAllNonMembers();
 
+    /**
+     * Stream every active member as CSV straight to the given output stream.
+     * Rows are read from a forward-only database cursor, so memory use does not grow with the member count.
+     *
+     * @param outputStream response body to write to
+     * @param gzip         whether to gzip the CSV
+     */
+    void exportActiveMembersCsv(OutputStream outputStream, boolean gzip) throws IOException;
+
+    /**
+     * Stream every student without an active membership as CSV straight to the given output stream.
+     *
+     * @param outputStream response body to write to
+     * @param gzip         whether to gzip the CSV
+     */
+    void exportNonMembersCsv(OutputStream outputStream, boolean gzip) throws IOException;
+
     /**
      * Bulk create memberships for multiple students in a single academic year.
      * Duplicates and non-existent students are silently skipped.
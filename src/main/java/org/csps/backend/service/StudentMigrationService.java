@@ -1,17 +1,21 @@
 package org.csps.backend.service;
 
-import java.io.InputStream;
-import java.util.List;
-
 import org.csps.backend.domain.dtos.request.StudentMigrationRequestDTO;
+import org.csps.backend.domain.dtos.response.StudentImportReportDTO;
 import org.csps.backend.domain.dtos.response.StudentResponseDTO;
+import org.springframework.core.io.InputStreamSource;
 
 /* service for bulk student migration from CSV */
 public interface StudentMigrationService {
-    
-    /* parse CSV and migrate students in bulk */
-    List<StudentResponseDTO> migrateStudentsFromCsv(InputStream csvFile);
-    
+
+    /* parse CSV (YEAR_LEVEL, LASTNAME, FIRSTNAME, ID_NUMBER) and import students in committed chunks.
+       pass the id of an unfinished job together with the same file to resume after its last committed chunk.
+       returns the job report with per-row errors; a failed run returns status FAILED instead of throwing */
+    StudentImportReportDTO importStudentsFromCsv(String fileName, InputStreamSource csvFile, Long resumeJobId);
+
+    /* progress of an import job, readable while the import is still running */
+    StudentImportReportDTO getImportJob(Long jobId);
+
     /* migrate single student from migration DTO */
     StudentResponseDTO migrateSingleStudent(StudentMigrationRequestDTO dto);
 }
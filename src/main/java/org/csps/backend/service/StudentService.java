@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import org.csps.backend.domain.dtos.request.StudentRequestDTO;
 import org.csps.backend.domain.dtos.request.UserRequestDTO;
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
 import org.csps.backend.domain.dtos.response.StudentResponseDTO;
 import org.csps.backend.domain.entities.Student;
 import org.springframework.data.domain.Page;
@@ -14,6 +15,7 @@ public interface StudentService {
    StudentResponseDTO createStudent(StudentRequestDTO studentRequestDTO);
    public Page<StudentResponseDTO> getAllStudents(Pageable pageable);
    public Page<StudentResponseDTO> searchStudents(String search, Byte yearLevel, Pageable pageable);
+   public CursorPageResponseDTO<StudentResponseDTO> getStudentsByCursor(String search, Byte yearLevel, String cursor, int size);
    StudentResponseDTO getStudentProfile(String studentId);
    Optional<Student> findByAccountId(Long accountId);
    Optional<StudentResponseDTO> findById(String id);
@@ -15,6 +15,7 @@ import org.csps.backend.domain.entities.UserAccount;
 import org.csps.backend.domain.entities.UserProfile;
 import org.csps.backend.domain.enums.AdminPosition;
 import org.csps.backend.domain.enums.UserRole;
+import org.csps.backend.domain.events.PrincipalChangedEvent;
 import org.csps.backend.exception.AdminNotFoundException;
 import org.csps.backend.exception.PositionAlreadyTakenException;
 import org.csps.backend.exception.StudentNotFoundException;
@@ -26,6 +27,7 @@ import org.csps.backend.repository.UserAccountRepository;
 import org.csps.backend.repository.UserProfileRepository;
 import org.csps.backend.service.AdminService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -43,6 +45,7 @@ public class AdminServiceImpl implements AdminService {
     private final StudentRepository studentRepository;
     private final UserProfileRepository userProfileRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     private final UserMapper userMapper;
@@ -170,6 +173,7 @@ public class AdminServiceImpl implements AdminService {
         Admin admin = adminRepository.findById(adminId)
                 .orElseThrow(() -> new AdminNotFoundException("Admin not found"));
         adminRepository.delete(admin);
+        eventPublisher.publishEvent(new PrincipalChangedEvent(admin.getUserAccount().getUserAccountId()));
         return adminMapper.toResponseDTO(admin);
     }
 
@@ -218,6 +222,9 @@ public class AdminServiceImpl implements AdminService {
         
         // Save the admin
         admin = adminRepository.save(admin);
+
+        // Drop any principal cached for the account before it was an admin, once the grant commits
+        eventPublisher.publishEvent(new PrincipalChangedEvent(adminUserAccount.getUserAccountId()));
         
         return adminMapper.toResponseDTO(admin);
     }
@@ -262,6 +269,9 @@ public class AdminServiceImpl implements AdminService {
         
         // Delete the admin user account (student account remains untouched)
         userAccountRepository.delete(adminUserAccount);
+
+        // Revoked tokens must stop authenticating right after commit, not after the cache TTL
+        eventPublisher.publishEvent(new PrincipalChangedEvent(adminUserAccount.getUserAccountId()));
         
         return adminMapper.toResponseDTO(admin);
     }
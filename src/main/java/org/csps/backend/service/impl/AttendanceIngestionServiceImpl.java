@@ -0,0 +1,343 @@
+package org.csps.backend.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.csps.backend.domain.dtos.request.CheckInScanDTO;
+import org.csps.backend.domain.dtos.response.BatchCheckInResponseDTO;
+import org.csps.backend.domain.dtos.response.CheckInResultDTO;
+import org.csps.backend.domain.entities.AttendanceRecord;
+import org.csps.backend.domain.enums.CheckInResultStatus;
+import org.csps.backend.domain.enums.SessionStatus;
+import org.csps.backend.exception.InvalidQRTokenException;
+import org.csps.backend.repository.AttendanceRecordRepository;
+import org.csps.backend.repository.EventParticipantRepository;
+import org.csps.backend.repository.EventParticipantRepository.RosterEntry;
+import org.csps.backend.repository.EventSessionRepository;
+import org.csps.backend.repository.EventSessionRepository.CheckInSession;
+import org.csps.backend.service.AttendanceIngestionService;
+import org.csps.backend.service.QRTokenService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ingests the scans a venue scanner buffered while offline.
+ * Tokens are verified in parallel, then the whole batch costs a fixed number of statements: one IN query
+ * for the sessions, one for the participants, one for existing check-ins and a batched insert of the new
+ * records (attendance_record takes pooled ids, so Hibernate sends the inserts as JDBC batches).
+ * Scans already recorded, by an earlier upload or a single check-in, come back as DUPLICATE and are never
+ * inserted twice, so a scanner can resend its whole buffer after reconnecting.
+ * Token expiry is judged at the time of the scan, within the scanner's allowed clock skew.
+ */
+@Service
+@Slf4j
+public class AttendanceIngestionServiceImpl implements AttendanceIngestionService {
+
+    /* a concurrent check-in of the same participant fails the batched insert; re-read and try again */
+    private static final int MAX_INSERT_ATTEMPTS = 3;
+
+    private final AttendanceRecordRepository attendanceRecordRepository;
+    private final EventSessionRepository eventSessionRepository;
+    private final EventParticipantRepository eventParticipantRepository;
+    private final QRTokenService qrTokenService;
+    private final CheckInRosterCache checkInRosterCache;
+    private final ExecutorService qrValidationExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration clockSkew;
+
+    public AttendanceIngestionServiceImpl(AttendanceRecordRepository attendanceRecordRepository,
+                                          EventSessionRepository eventSessionRepository,
+                                          EventParticipantRepository eventParticipantRepository,
+                                          QRTokenService qrTokenService,
+                                          CheckInRosterCache checkInRosterCache,
+                                          @Qualifier("qrValidationExecutor") ExecutorService qrValidationExecutor,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${csps.attendance.batch.clock-skew-seconds:120}") long clockSkewSeconds) {
+        this.attendanceRecordRepository = attendanceRecordRepository;
+        this.eventSessionRepository = eventSessionRepository;
+        this.eventParticipantRepository = eventParticipantRepository;
+        this.qrTokenService = qrTokenService;
+        this.checkInRosterCache = checkInRosterCache;
+        this.qrValidationExecutor = qrValidationExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clockSkew = Duration.ofSeconds(clockSkewSeconds);
+    }
+
+    @Override
+    public BatchCheckInResponseDTO ingestScans(List<CheckInScanDTO> scanDTOs) {
+        List<Scan> scans = new ArrayList<>(scanDTOs.size());
+        for (int i = 0; i < scanDTOs.size(); i++) {
+            scans.add(new Scan(i, scanDTOs.get(i)));
+        }
+
+        /* stage 1: signature checks are CPU-bound, so verify every token across all cores */
+        verifyTokens(scans);
+
+        /* stage 2: sessions in one query; a scan counts if the session is ACTIVE or was open when it was taken */
+        Map<Long, CheckInSession> sessions = new HashMap<>();
+        Set<Long> sessionIds = new HashSet<>();
+        for (Scan scan : scans) {
+            if (scan.status == null) {
+                sessionIds.add(scan.sessionId);
+            }
+        }
+        if (!sessionIds.isEmpty()) {
+            for (CheckInSession session : eventSessionRepository.findCheckInSessions(sessionIds)) {
+                sessions.put(session.getSessionId(), session);
+            }
+        }
+        for (Scan scan : scans) {
+            if (scan.status != null) {
+                continue;
+            }
+            CheckInSession session = sessions.get(scan.sessionId);
+            if (session == null) {
+                scan.reject(CheckInResultStatus.INVALID, "Session not found with ID: " + scan.sessionId);
+            } else if (!acceptsScan(session, scan.scannedAt)) {
+                scan.reject(CheckInResultStatus.INVALID, "Session was not active at the time of the scan. Status: " + session.getSessionStatus());
+            } else {
+                scan.eventId = session.getEventId();
+            }
+        }
+
+        /* stage 3: participants of every (event, student) pair in one IN query */
+        Set<Long> eventIds = new HashSet<>();
+        Set<String> studentIds = new HashSet<>();
+        for (Scan scan : scans) {
+            if (scan.status == null) {
+                eventIds.add(scan.eventId);
+                studentIds.add(scan.studentId);
+            }
+        }
+        Map<String, Long> participantIds = new HashMap<>();
+        if (!eventIds.isEmpty()) {
+            for (RosterEntry entry : eventParticipantRepository.findRosterEntries(eventIds, studentIds)) {
+                participantIds.put(entry.getEventId() + ":" + entry.getStudentId(), entry.getParticipantId());
+            }
+        }
+        List<Scan> candidates = new ArrayList<>();
+        for (Scan scan : scans) {
+            if (scan.status != null) {
+                continue;
+            }
+            scan.participantId = participantIds.get(scan.eventId + ":" + scan.studentId);
+            if (scan.participantId == null) {
+                scan.reject(CheckInResultStatus.NOT_PARTICIPANT, "Student " + scan.studentId + " is not registered for this event");
+            } else {
+                candidates.add(scan);
+            }
+        }
+
+        /* stage 4: drop what is already recorded and insert the rest in one batch */
+        if (!candidates.isEmpty()) {
+            insertNewCheckIns(candidates);
+        }
+
+        return toResponse(scans);
+    }
+
+    private void verifyTokens(List<Scan> scans) {
+        List<Callable<Void>> tasks = new ArrayList<>(scans.size());
+        LocalDateTime latest = LocalDateTime.now().plus(clockSkew);
+        for (Scan scan : scans) {
+            if (scan.scannedAt.isAfter(latest)) {
+                scan.reject(CheckInResultStatus.INVALID, "Scan time is in the future, check the scanner's clock");
+                continue;
+            }
+            tasks.add(() -> {
+                try {
+                    scan.studentId = qrTokenService.resolveCheckInStudentId(scan.qrToken,
+                        scan.scannedAt.atZone(ZoneId.systemDefault()).toInstant(), clockSkew);
+                } catch (InvalidQRTokenException ex) {
+                    scan.reject(CheckInResultStatus.INVALID, ex.getMessage());
+                }
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> done : qrValidationExecutor.invokeAll(tasks)) {
+                done.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Check-in batch interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("QR token verification failed", e.getCause());
+        }
+    }
+
+    /* ACTIVE sessions take any scan; closed ones only scans taken on the session's date within its hours */
+    private static boolean acceptsScan(CheckInSession session, LocalDateTime scannedAt) {
+        if (session.getSessionStatus() == SessionStatus.ACTIVE) {
+            return true;
+        }
+        if (session.getSessionStatus() != SessionStatus.COMPLETED || !scannedAt.toLocalDate().equals(session.getSessionDate())) {
+            return false;
+        }
+        return !scannedAt.toLocalTime().isBefore(session.getStartTime()) && !scannedAt.toLocalTime().isAfter(session.getEndTime());
+    }
+
+    private void insertNewCheckIns(List<Scan> candidates) {
+        Set<Long> sessionIds = new HashSet<>();
+        Set<Long> participantIds = new HashSet<>();
+        for (Scan scan : candidates) {
+            sessionIds.add(scan.sessionId);
+            participantIds.add(scan.participantId);
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    dropRecorded(candidates, sessionIds, participantIds);
+                    List<AttendanceRecord> records = new ArrayList<>();
+                    for (Scan scan : candidates) {
+                        if (scan.status == CheckInResultStatus.ACCEPTED) {
+                            scan.record = newRecord(scan);
+                            records.add(scan.record);
+                        }
+                    }
+                    attendanceRecordRepository.saveAll(records);
+                    attendanceRecordRepository.flush();
+                });
+                break;
+            } catch (DataIntegrityViolationException ex) {
+                if (AttendanceRecordServiceImpl.isDuplicateCheckIn(ex) && attempt < MAX_INSERT_ATTEMPTS) {
+                    log.debug("check-in batch raced a concurrent check-in, retrying (attempt {})", attempt);
+                    continue;
+                }
+                /* not a racing check-in (e.g. a participant removed meanwhile), or one that keeps racing:
+                   record the scans one by one so only the offending ones fail */
+                log.warn("check-in batch insert failed, recording scans one by one: {}", ex.getMostSpecificCause().getMessage());
+                insertOneByOne(candidates, sessionIds, participantIds);
+                break;
+            }
+        }
+
+        /* single scans for these sessions can now be turned away from memory */
+        Map<Long, List<Long>> accepted = new LinkedHashMap<>();
+        for (Scan scan : candidates) {
+            if (scan.status == CheckInResultStatus.ACCEPTED) {
+                accepted.computeIfAbsent(scan.sessionId, id -> new ArrayList<>()).add(scan.participantId);
+            }
+        }
+        accepted.forEach(checkInRosterCache::markCheckedIn);
+    }
+
+    /* re-read what is recorded; the first scan of a participant in the batch wins, later and recorded ones are duplicates */
+    private void dropRecorded(List<Scan> candidates, Set<Long> sessionIds, Set<Long> participantIds) {
+        Set<String> recorded = new HashSet<>();
+        for (AttendanceRecordRepository.CheckInKey key : attendanceRecordRepository.findCheckInKeys(sessionIds, participantIds)) {
+            recorded.add(key.getSessionId() + ":" + key.getParticipantId());
+        }
+        for (Scan scan : candidates) {
+            scan.record = null;
+            if (recorded.add(scan.sessionId + ":" + scan.participantId)) {
+                scan.status = CheckInResultStatus.ACCEPTED;
+                scan.message = null;
+            } else {
+                scan.reject(CheckInResultStatus.DUPLICATE, "Already checked in for this session");
+            }
+        }
+    }
+
+    /* one transaction per scan, each failure reported on its own scan */
+    private void insertOneByOne(List<Scan> candidates, Set<Long> sessionIds, Set<Long> participantIds) {
+        transactionTemplate.executeWithoutResult(status -> dropRecorded(candidates, sessionIds, participantIds));
+        for (Scan scan : candidates) {
+            if (scan.status != CheckInResultStatus.ACCEPTED) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    scan.record = newRecord(scan);
+                    attendanceRecordRepository.saveAndFlush(scan.record);
+                });
+            } catch (DataIntegrityViolationException ex) {
+                scan.record = null;
+                if (AttendanceRecordServiceImpl.isDuplicateCheckIn(ex)) {
+                    scan.reject(CheckInResultStatus.DUPLICATE, "Already checked in for this session");
+                } else {
+                    scan.reject(CheckInResultStatus.INVALID, "Check-in could not be recorded, the session or participant no longer exists");
+                }
+            }
+        }
+    }
+
+    private AttendanceRecord newRecord(Scan scan) {
+        LocalDateTime now = LocalDateTime.now();
+        return AttendanceRecord.builder()
+            .eventParticipant(eventParticipantRepository.getReferenceById(scan.participantId))
+            .eventSession(eventSessionRepository.getReferenceById(scan.sessionId))
+            .checkedInAt(scan.scannedAt.isAfter(now) ? now : scan.scannedAt)
+            .qrTokenUsed(scan.qrToken)
+            .build();
+    }
+
+    private static BatchCheckInResponseDTO toResponse(List<Scan> scans) {
+        Map<CheckInResultStatus, Integer> counts = new HashMap<>();
+        List<CheckInResultDTO> results = new ArrayList<>(scans.size());
+        for (Scan scan : scans) {
+            counts.merge(scan.status, 1, Integer::sum);
+            results.add(CheckInResultDTO.builder()
+                .index(scan.index)
+                .sessionId(scan.sessionId)
+                .studentId(scan.studentId)
+                .status(scan.status)
+                .message(scan.status == CheckInResultStatus.ACCEPTED ? "Checked in successfully" : scan.message)
+                .attendanceId(scan.record != null ? scan.record.getAttendanceId() : null)
+                .build());
+        }
+        return BatchCheckInResponseDTO.builder()
+            .accepted(counts.getOrDefault(CheckInResultStatus.ACCEPTED, 0))
+            .duplicates(counts.getOrDefault(CheckInResultStatus.DUPLICATE, 0))
+            .invalid(counts.getOrDefault(CheckInResultStatus.INVALID, 0))
+            .notParticipant(counts.getOrDefault(CheckInResultStatus.NOT_PARTICIPANT, 0))
+            .results(results)
+            .build();
+    }
+
+    /* one scan of the batch and what happened to it; status stays null while the scan is still in the running */
+    private static final class Scan {
+
+        private final int index;
+        private final Long sessionId;
+        private final String qrToken;
+        private final LocalDateTime scannedAt;
+        private String studentId;
+        private Long eventId;
+        private Long participantId;
+        private AttendanceRecord record;
+        private CheckInResultStatus status;
+        private String message;
+
+        private Scan(int index, CheckInScanDTO dto) {
+            this.index = index;
+            this.sessionId = dto.getSessionId();
+            this.qrToken = dto.getQrToken();
+            this.scannedAt = dto.getScannedAt();
+        }
+
+        private void reject(CheckInResultStatus status, String message) {
+            this.status = status;
+            this.message = message;
+        }
+    }
+}
@@ -5,27 +5,31 @@ import java.util.List;
 
 import org.csps.backend.domain.dtos.request.AttendanceRecordSearchDTO;
 import org.csps.backend.domain.dtos.response.AttendanceRecordResponseDTO;
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
 import org.csps.backend.domain.entities.AttendanceRecord;
-import org.csps.backend.domain.entities.EventParticipant;
-import org.csps.backend.domain.entities.EventSession;
-import org.csps.backend.domain.enums.SessionStatus;
 import org.csps.backend.exception.DuplicateCheckInException;
 import org.csps.backend.exception.EventSessionNotFoundException;
-import org.csps.backend.exception.InvalidQRTokenException;
 import org.csps.backend.exception.ParticipantNotFoundException;
-import org.csps.backend.exception.SessionNotActiveException;
 import org.csps.backend.exception.StudentNotParticipantException;
 import org.csps.backend.mapper.AttendanceRecordMapper;
 import org.csps.backend.repository.AttendanceRecordRepository;
 import org.csps.backend.repository.EventParticipantRepository;
 import org.csps.backend.repository.EventSessionRepository;
 import org.csps.backend.repository.specification.AttendanceRecordSpecification;
+import org.csps.backend.security.CursorCodec;
 import org.csps.backend.service.AttendanceRecordService;
 import org.csps.backend.service.QRTokenService;
+import org.csps.backend.service.impl.CheckInRosterCache.Participant;
+import org.csps.backend.service.impl.CheckInRosterCache.Roster;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -34,61 +38,63 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AttendanceRecordServiceImpl implements AttendanceRecordService {
 
+    private static final String CURSOR_SCOPE = "session-attendance:";
+
     private final AttendanceRecordRepository attendanceRecordRepository;
     private final EventSessionRepository eventSessionRepository;
     private final EventParticipantRepository eventParticipantRepository;
     private final AttendanceRecordMapper attendanceRecordMapper;
     private final QRTokenService qrTokenService;
+    private final CursorCodec cursorCodec;
+    private final CheckInRosterCache checkInRosterCache;
 
     @Override
     @Transactional
     public AttendanceRecordResponseDTO checkInWithQR(Long sessionId, String qrToken) {
-        /* 1. validate QR token signature and extract claims */
-        if (!qrTokenService.isQRTokenValid(qrToken)) {
-            throw new InvalidQRTokenException("QR code is invalid or has been tampered with");
-        }
-
-        /* 2. check if QR token is expired */
-        if (qrTokenService.isQRTokenExpired(qrToken)) {
-            throw new InvalidQRTokenException("QR code is expired, please scan a new one or ask for assistance");
-        }
-
-        /* 3. extract student id from QR token */
-        String studentId = qrTokenService.extractStudentId(qrToken);
-        if (studentId == null) {
-            throw new InvalidQRTokenException("QR code does not contain valid student information");
-        }
-
-        /* 4. get and verify session exists */
-        EventSession session = eventSessionRepository.findById(sessionId)
-            .orElseThrow(() -> new EventSessionNotFoundException("Session not found with ID: " + sessionId));
-
-        /* 5. verify session is ACTIVE (matches current time and date) */
-        if (session.getSessionStatus() != SessionStatus.ACTIVE) {
-            throw new SessionNotActiveException("Session is not currently active. Status: " + session.getSessionStatus());
+        /* 1. verify signature and expiry with a single parse and take the student id from it */
+        String studentId = qrTokenService.resolveCheckInStudentId(qrToken);
+
+        /* 2. session status and event membership come from the in-memory roster of the active session */
+        Roster roster = checkInRosterCache.getActiveRoster(sessionId);
+        Participant participant = roster.find(studentId);
+        if (participant == null) {
+            throw new StudentNotParticipantException("Student " + studentId + " is not registered for this event");
         }
 
-        /* 6. verify student is a participant in this event */
-        EventParticipant participant = eventParticipantRepository.findByEventEventIdAndStudent_StudentId(
-            session.getEvent().getEventId(), 
-            studentId)
-            .orElseThrow(() -> new StudentNotParticipantException("Student " + studentId + " is not registered for this event"));
-
-        /* 7. check no duplicate check-in for this session */
-        if (attendanceRecordRepository.existsByEventParticipantAndEventSession(participant, session)) {
+        /* 3. only the first scan of a participant gets past the roster's concurrent set */
+        Long participantId = participant.getParticipantId();
+        if (!roster.markCheckedIn(participantId)) {
             throw new DuplicateCheckInException("Already checked in for this session. One check-in per session please.");
         }
-
-        /* 8. create attendance record */
+        /* a unique violation means another node already checked the participant in, so the mark stays */
+        boolean[] checkedInElsewhere = { false };
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED && !checkedInElsewhere[0]) {
+                    roster.unmarkCheckedIn(participantId);
+                }
+            }
+        });
+
+        /* 4. insert by reference; uk_participant_session rejects check-ins this roster has not seen */
         AttendanceRecord record = AttendanceRecord.builder()
-            .eventParticipant(participant)
-            .eventSession(session)
+            .eventParticipant(eventParticipantRepository.getReferenceById(participantId))
+            .eventSession(eventSessionRepository.getReferenceById(sessionId))
             .checkedInAt(LocalDateTime.now())
             .qrTokenUsed(qrToken)
             .build();
+        try {
+            attendanceRecordRepository.saveAndFlush(record);
+        } catch (DataIntegrityViolationException ex) {
+            if (isDuplicateCheckIn(ex)) {
+                checkedInElsewhere[0] = true;
+                throw new DuplicateCheckInException("Already checked in for this session. One check-in per session please.");
+            }
+            throw ex;
+        }
 
-        AttendanceRecord savedRecord = attendanceRecordRepository.save(record);
-        return attendanceRecordMapper.toResponseDTO(savedRecord);
+        return toResponseDTO(record, roster, participant);
     }
 
     @Override
@@ -102,6 +108,26 @@ public class AttendanceRecordServiceImpl implements AttendanceRecordService {
         return records.map(attendanceRecordMapper::toResponseDTO);
     }
 
+    @Override
+    public CursorPageResponseDTO<AttendanceRecordResponseDTO> getSessionAttendanceByCursor(Long sessionId, String cursor, int size) {
+        /* verify session exists */
+        if (!eventSessionRepository.existsById(sessionId)) {
+            throw new EventSessionNotFoundException("Session not found with ID: " + sessionId);
+        }
+
+        int pageSize = CursorCodec.pageSize(size);
+        String scope = CURSOR_SCOPE + sessionId;
+        String[] position = cursorCodec.decode(scope, cursor, 2);
+        LocalDateTime cursorCheckedInAt = position != null ? CursorCodec.parseTimestamp(position[0]) : null;
+        Long cursorId = position != null ? CursorCodec.parseId(position[1]) : null;
+
+        List<AttendanceRecord> rows = attendanceRecordRepository.findSessionPageBefore(
+            sessionId, cursorCheckedInAt, cursorId, PageRequest.of(0, pageSize + 1));
+        return cursorCodec.toPage(scope, rows, pageSize,
+            record -> new Object[] { record.getCheckedInAt(), record.getAttendanceId() },
+            attendanceRecordMapper::toResponseDTO);
+    }
+
     @Override
     public List<AttendanceRecordResponseDTO> getParticipantAttendance(Long participantId) {
         /* verify participant exists */
@@ -144,4 +170,23 @@ public class AttendanceRecordServiceImpl implements AttendanceRecordService {
         }
         throw new EventSessionNotFoundException("No sessions found for event with ID: " + eventId);
     }
-}
\ No newline at end of file
+
+    /* a unique violation on attendance_record can only be uk_participant_session */
+    static boolean isDuplicateCheckIn(DataIntegrityViolationException ex) {
+        return ex.getCause() instanceof ConstraintViolationException violation
+            && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE;
+    }
+
+    /* built from the roster so the response needs no lazy loads */
+    private static AttendanceRecordResponseDTO toResponseDTO(AttendanceRecord record, Roster roster, Participant participant) {
+        AttendanceRecordResponseDTO dto = new AttendanceRecordResponseDTO();
+        dto.setAttendanceId(record.getAttendanceId());
+        dto.setParticipantId(participant.getParticipantId());
+        dto.setStudentId(participant.getStudentId());
+        dto.setStudentName(participant.getFirstName());
+        dto.setSessionId(roster.getSessionId());
+        dto.setSessionName(roster.getSessionName());
+        dto.setCheckedInAt(record.getCheckedInAt());
+        return dto;
+    }
+}
@@ -0,0 +1,337 @@
+package org.csps.backend.service.impl;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.csps.backend.domain.dtos.request.AuditLogSearchDTO;
+import org.csps.backend.domain.dtos.response.AuditLogResponseDTO;
+import org.csps.backend.domain.entities.AuditLogArchive;
+import org.csps.backend.repository.AuditLogArchiveRepository;
+import org.csps.backend.repository.AuditLogRepository;
+import org.csps.backend.service.AuditLogArchiveService;
+import org.csps.backend.service.S3Service;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * monthly roll-over of audit_log.
+ * native MySQL partitioning is not usable here (audit_log has an FK to admin and a single-column PK),
+ * so months past the retention window are exported to gzip ndjson files, recorded in audit_log_archive
+ * and purged from the live table. the live table therefore only ever holds the retention window.
+ * nothing is archived or purged unless the archive lands somewhere that survives a restart (a configured
+ * directory outside the temp dir, or S3), and a month is only purged after its file has been read back
+ * and holds every row the purge would delete.
+ */
+@Service
+@Slf4j
+public class AuditLogArchiveServiceImpl implements AuditLogArchiveService {
+
+    private static final String S3_PREFIX = "audit-archive/";
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditLogArchiveRepository auditLogArchiveRepository;
+    private final S3Service s3Service;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final int retentionMonths;
+    private final int deleteBatchSize;
+    private final boolean uploadToS3;
+    private final Path archiveDir;
+    private final boolean durableTarget;
+
+    public AuditLogArchiveServiceImpl(AuditLogRepository auditLogRepository,
+                                      AuditLogArchiveRepository auditLogArchiveRepository,
+                                      S3Service s3Service,
+                                      ObjectMapper objectMapper,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${csps.audit.retention.months:12}") int retentionMonths,
+                                      @Value("${csps.audit.retention.delete-batch-size:5000}") int deleteBatchSize,
+                                      @Value("${csps.audit.archive.s3-upload:false}") boolean uploadToS3,
+                                      @Value("${csps.audit.archive.dir:}") String archiveDir) {
+        this.auditLogRepository = auditLogRepository;
+        this.auditLogArchiveRepository = auditLogArchiveRepository;
+        this.s3Service = s3Service;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.retentionMonths = retentionMonths;
+        this.deleteBatchSize = deleteBatchSize;
+        this.uploadToS3 = uploadToS3;
+
+        /* without a configured directory files are only staged in the temp dir, which is fine when S3 keeps the copy */
+        Path tempDir = Paths.get(System.getProperty("java.io.tmpdir")).toAbsolutePath().normalize();
+        this.archiveDir = archiveDir.isBlank() ? tempDir.resolve("csps-audit-archive") : Paths.get(archiveDir).toAbsolutePath().normalize();
+        this.durableTarget = uploadToS3 || (!archiveDir.isBlank() && !this.archiveDir.startsWith(tempDir));
+        if (!durableTarget) {
+            log.warn("audit log retention is disabled: set csps.audit.archive.dir (AUDIT_ARCHIVE_DIR) to a persistent "
+                + "directory outside {} or enable csps.audit.archive.s3-upload", tempDir);
+        }
+    }
+
+    @Override
+    public int archiveExpiredMonths() {
+        if (!durableTarget) {
+            log.error("audit log retention skipped: no durable archive target configured, nothing is archived or purged");
+            return 0;
+        }
+        Optional<LocalDateTime> oldest = auditLogRepository.findOldestTimestamp();
+        if (oldest.isEmpty()) {
+            return 0;
+        }
+
+        /* months strictly before the cutoff month are outside the retention window */
+        YearMonth cutoff = YearMonth.now().minusMonths(retentionMonths);
+        int archived = 0;
+
+        for (YearMonth month = YearMonth.from(oldest.get()); month.isBefore(cutoff); month = month.plusMonths(1)) {
+            try {
+                if (archiveMonth(month)) {
+                    archived++;
+                }
+            } catch (Exception e) {
+                /* stop at the first failure so the archive boundary never skips a month */
+                log.error("failed to archive audit logs for {}: {}", month, e.getMessage(), e);
+                break;
+            }
+        }
+        return archived;
+    }
+
+    @Override
+    public Optional<LocalDateTime> getArchiveBoundary() {
+        return auditLogArchiveRepository.findArchiveBoundary();
+    }
+
+    @Override
+    public List<AuditLogResponseDTO> searchArchived(AuditLogSearchDTO searchDTO, LocalDateTime cursorTimestamp, Long cursorId, int limit) {
+        List<AuditLogResponseDTO> results = new ArrayList<>();
+
+        for (AuditLogArchive archive : auditLogArchiveRepository.findAllByOrderByPeriodStartDesc()) {
+            if (results.size() >= limit) {
+                break;
+            }
+            if (!overlaps(archive, searchDTO, cursorTimestamp)) {
+                continue;
+            }
+
+            try (BufferedReader reader = openArchive(archive)) {
+                String line;
+                while ((line = reader.readLine()) != null && results.size() < limit) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    AuditLogResponseDTO row = objectMapper.readValue(line, AuditLogResponseDTO.class);
+                    if (isAfterCursor(row, cursorTimestamp, cursorId) && matches(row, searchDTO)) {
+                        results.add(row);
+                    }
+                }
+            } catch (IOException e) {
+                log.error("failed to read audit archive {}: {}", archive.getFileName(), e.getMessage(), e);
+            }
+        }
+        return results;
+    }
+
+    /* export -> record -> purge; each step is safe to re-run if a previous run died midway */
+    private boolean archiveMonth(YearMonth month) throws IOException {
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+
+        AuditLogArchive archive = auditLogArchiveRepository.findByPeriodStart(start).orElse(null);
+        if (archive == null) {
+            archive = writeArchive(month, start, end);
+            if (archive == null) {
+                return false;
+            }
+        }
+
+        if (archive.getMaxAuditLogId() != null) {
+            verifyBeforePurge(archive, start, end);
+            purge(start, end, archive.getMaxAuditLogId());
+        }
+        return true;
+    }
+
+    /* the archive must be readable and hold at least every row the purge is about to delete */
+    private void verifyBeforePurge(AuditLogArchive archive, LocalDateTime start, LocalDateTime end) throws IOException {
+        long archivedRows;
+        try (BufferedReader reader = openArchive(archive)) {
+            archivedRows = countRows(reader);
+        }
+        if (archivedRows != archive.getRowCount()) {
+            throw new IOException("archive " + archive.getFileName() + " holds " + archivedRows
+                + " rows, expected " + archive.getRowCount());
+        }
+        long purgeable = auditLogRepository.countPurgeable(start, end, archive.getMaxAuditLogId());
+        if (purgeable > archivedRows) {
+            throw new IOException(purgeable + " audit logs in " + archive.getFileName()
+                + "'s window but only " + archivedRows + " were archived; not purging");
+        }
+    }
+
+    private static long countRows(BufferedReader reader) throws IOException {
+        long rows = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isBlank()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private AuditLogArchive writeArchive(YearMonth month, LocalDateTime start, LocalDateTime end) throws IOException {
+        Files.createDirectories(archiveDir);
+        String fileName = "audit-" + month + ".ndjson.gz";
+        Path target = archiveDir.resolve(fileName);
+        Path temp = archiveDir.resolve(fileName + ".tmp");
+
+        /* rows are written newest first, the same order the search API reads them */
+        long[] stats = readOnlyTransactionTemplate.execute(status -> {
+            long count = 0;
+            long maxId = 0;
+            try (Stream<AuditLogResponseDTO> rows = auditLogRepository.streamForExport(null, null, null, start, end);
+                 BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                         new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+                Iterator<AuditLogResponseDTO> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    AuditLogResponseDTO row = iterator.next();
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.newLine();
+                    count++;
+                    maxId = Math.max(maxId, row.getId());
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("failed to write audit archive " + fileName, e);
+            }
+            return new long[] { count, maxId };
+        });
+
+        if (stats == null || stats[0] == 0) {
+            Files.deleteIfExists(temp);
+            return null;
+        }
+        /* read the file back before it is published: a truncated gzip or short write fails here */
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(temp)), StandardCharsets.UTF_8))) {
+            long written = countRows(reader);
+            if (written != stats[0]) {
+                throw new IOException("audit archive " + fileName + " holds " + written + " rows, expected " + stats[0]);
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        String s3Key = null;
+        if (uploadToS3) {
+            s3Key = s3Service.uploadFile(target, S3_PREFIX + fileName, "application/gzip");
+            /* the uploaded object must match the local file byte for byte */
+            if (!Arrays.equals(Files.readAllBytes(target), s3Service.downloadFile(s3Key))) {
+                throw new IOException("uploaded audit archive " + s3Key + " does not match " + fileName);
+            }
+        }
+
+        AuditLogArchive archive = AuditLogArchive.builder()
+            .periodStart(start)
+            .periodEnd(end)
+            .rowCount(stats[0])
+            .maxAuditLogId(stats[1])
+            .fileName(fileName)
+            .s3Key(s3Key)
+            .archivedAt(LocalDateTime.now())
+            .build();
+        archive = auditLogArchiveRepository.save(archive);
+
+        log.info("archived {} audit logs for {} to {}", stats[0], month, fileName);
+        return archive;
+    }
+
+    /* bounded deletes, one short transaction per chunk, so the table is never locked for long */
+    private void purge(LocalDateTime start, LocalDateTime end, Long maxId) {
+        int total = 0;
+        int deleted;
+        do {
+            Integer result = transactionTemplate.execute(status ->
+                auditLogRepository.deleteArchivedChunk(start, end, maxId, deleteBatchSize));
+            deleted = result != null ? result : 0;
+            total += deleted;
+        } while (deleted == deleteBatchSize);
+
+        if (total > 0) {
+            log.info("purged {} archived audit logs between {} and {}", total, start, end);
+        }
+    }
+
+    /* local copy first, S3 copy as fallback (cached locally after the first download) */
+    private BufferedReader openArchive(AuditLogArchive archive) throws IOException {
+        Path file = archiveDir.resolve(archive.getFileName());
+        if (!Files.exists(file)) {
+            if (archive.getS3Key() == null) {
+                throw new IOException("archive file missing and not uploaded: " + archive.getFileName());
+            }
+            Files.createDirectories(archiveDir);
+            Files.write(file, s3Service.downloadFile(archive.getS3Key()));
+        }
+        return new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8));
+    }
+
+    private static boolean overlaps(AuditLogArchive archive, AuditLogSearchDTO searchDTO, LocalDateTime cursorTimestamp) {
+        if (cursorTimestamp != null && archive.getPeriodStart().isAfter(cursorTimestamp)) {
+            return false;
+        }
+        if (searchDTO.getStartTime() != null && !archive.getPeriodEnd().isAfter(searchDTO.getStartTime())) {
+            return false;
+        }
+        return searchDTO.getEndTime() == null || archive.getPeriodStart().isBefore(searchDTO.getEndTime());
+    }
+
+    private static boolean isAfterCursor(AuditLogResponseDTO row, LocalDateTime cursorTimestamp, Long cursorId) {
+        if (cursorTimestamp == null) {
+            return true;
+        }
+        int cmp = row.getTimestamp().compareTo(cursorTimestamp);
+        return cmp < 0 || (cmp == 0 && row.getId() < cursorId);
+    }
+
+    private static boolean matches(AuditLogResponseDTO row, AuditLogSearchDTO searchDTO) {
+        if (searchDTO.getAdminId() != null && !searchDTO.getAdminId().equals(row.getAdminId())) {
+            return false;
+        }
+        if (searchDTO.getAction() != null && searchDTO.getAction() != row.getAction()) {
+            return false;
+        }
+        if (searchDTO.getResourceType() != null && !searchDTO.getResourceType().equals(row.getResourceType())) {
+            return false;
+        }
+        if (searchDTO.getStartTime() != null && row.getTimestamp().isBefore(searchDTO.getStartTime())) {
+            return false;
+        }
+        return searchDTO.getEndTime() == null || row.getTimestamp().isBefore(searchDTO.getEndTime());
+    }
+}
@@ -1,17 +1,34 @@
 package org.csps.backend.service.impl;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.csps.backend.domain.dtos.request.AuditLogSearchDTO;
+import org.csps.backend.domain.dtos.response.AuditLogResponseDTO;
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
 import org.csps.backend.domain.entities.Admin;
 import org.csps.backend.domain.entities.AuditLog;
 import org.csps.backend.domain.enums.AuditAction;
 import org.csps.backend.repository.AdminRepository;
 import org.csps.backend.repository.AuditLogRepository;
+import org.csps.backend.security.CursorCodec;
+import org.csps.backend.service.AuditLogArchiveService;
 import org.csps.backend.service.AuditLogService;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -21,12 +38,18 @@ public class AuditLogServiceImpl implements AuditLogService {
 
     private final AuditLogRepository auditLogRepository;
     private final AdminRepository adminRepository;
+    private final ObjectMapper objectMapper;
+    private final AuditLogArchiveService auditLogArchiveService;
+    private final CursorCodec cursorCodec;
+
+    private static final String CURSOR_SCOPE = "audit-logs";
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+    private static final String CSV_HEADER = "id,adminId,adminName,action,resourceType,resourceId,description,timestamp";
 
     @Override
     public AuditLog logAction(Long adminId, AuditAction action, String resourceType, String resourceId, String description) {
-        /* fetch admin entity and create audit log entry with current timestamp */
-        Admin admin = adminRepository.findById(adminId)
-            .orElseThrow(() -> new RuntimeException("Admin not found with id: " + adminId));
+        /* proxy reference - only the FK is needed, so skip the admin SELECT */
+        Admin admin = adminRepository.getReferenceById(adminId);
 
         AuditLog auditLog = AuditLog.builder()
             .admin(admin)
@@ -69,4 +92,92 @@ public class AuditLogServiceImpl implements AuditLogService {
     public List<AuditLog> getAuditLogsByAdminAndTimeRange(Long adminId, LocalDateTime startTime, LocalDateTime endTime) {
         return auditLogRepository.findByAdminIdAndTimestampBetween(adminId, startTime, endTime);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<AuditLogResponseDTO> searchAuditLogs(AuditLogSearchDTO searchDTO, String cursor, int size) {
+        int pageSize = CursorCodec.pageSize(size);
+
+        /* a cursor only continues the search it was issued for */
+        String scope = CURSOR_SCOPE + ":" + searchDTO.getAdminId() + ":" + searchDTO.getAction() + ":"
+            + searchDTO.getResourceType() + ":" + searchDTO.getStartTime() + ":" + searchDTO.getEndTime();
+        LocalDateTime cursorTimestamp = null;
+        Long cursorId = null;
+        String[] parts = cursorCodec.decode(scope, cursor, 2);
+        if (parts != null) {
+            cursorTimestamp = CursorCodec.parseTimestamp(parts[0]);
+            cursorId = CursorCodec.parseId(parts[1]);
+        }
+
+        /* fetch one extra row to know whether another page exists */
+        List<AuditLogResponseDTO> rows = auditLogRepository.searchPage(
+            searchDTO.getAdminId(),
+            searchDTO.getAction(),
+            searchDTO.getResourceType(),
+            searchDTO.getStartTime(),
+            searchDTO.getEndTime(),
+            cursorTimestamp,
+            cursorId,
+            PageRequest.of(0, pageSize + 1));
+
+        /* live table exhausted - continue transparently into archived months */
+        if (rows.size() <= pageSize) {
+            Optional<LocalDateTime> boundary = auditLogArchiveService.getArchiveBoundary();
+            if (boundary.isPresent() && (searchDTO.getStartTime() == null || searchDTO.getStartTime().isBefore(boundary.get()))) {
+                rows = new ArrayList<>(rows);
+                LocalDateTime seekTimestamp = rows.isEmpty() ? cursorTimestamp : rows.get(rows.size() - 1).getTimestamp();
+                Long seekId = rows.isEmpty() ? cursorId : rows.get(rows.size() - 1).getId();
+                rows.addAll(auditLogArchiveService.searchArchived(searchDTO, seekTimestamp, seekId, pageSize + 1 - rows.size()));
+            }
+        }
+
+        return cursorCodec.toPage(scope, rows, pageSize,
+            row -> new Object[] { row.getTimestamp(), row.getId() }, row -> row);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAuditLogs(AuditLogSearchDTO searchDTO, String format, OutputStream outputStream) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        if (csv) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+        }
+
+        try (Stream<AuditLogResponseDTO> rows = auditLogRepository.streamForExport(
+                searchDTO.getAdminId(),
+                searchDTO.getAction(),
+                searchDTO.getResourceType(),
+                searchDTO.getStartTime(),
+                searchDTO.getEndTime())) {
+
+            int written = 0;
+            Iterator<AuditLogResponseDTO> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                AuditLogResponseDTO row = iterator.next();
+                writer.write(csv ? toCsvLine(row) : objectMapper.writeValueAsString(row));
+                writer.newLine();
+
+                /* push bytes to the client while the cursor is still open */
+                if (++written % EXPORT_FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private static String toCsvLine(AuditLogResponseDTO row) {
+        return String.join(",",
+            String.valueOf(row.getId()),
+            String.valueOf(row.getAdminId()),
+            CsvWriter.field(row.getAdminName()),
+            row.getAction() != null ? row.getAction().name() : "",
+            CsvWriter.field(row.getResourceType()),
+            CsvWriter.field(row.getResourceId()),
+            CsvWriter.field(row.getDescription()),
+            row.getTimestamp() != null ? row.getTimestamp().toString() : "");
+    }
 }
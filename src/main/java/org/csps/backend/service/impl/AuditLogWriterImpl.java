@@ -0,0 +1,235 @@
+package org.csps.backend.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.Stream;
+
+import org.csps.backend.domain.dtos.AuditEventDTO;
+import org.csps.backend.service.AuditLogWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * background audit writer.
+ * request threads only enqueue; a scheduled flush drains the bounded queue and writes
+ * multi-row INSERTs straight into audit_log (admin_id is written as a plain FK value, no admin SELECT).
+ * when the queue is full or the database is unavailable, events are appended to an ndjson spill
+ * file and replayed once writes succeed again, so audit entries are not lost.
+ * the spill directory must survive restarts, so it has to be configured outside the dev profile.
+ */
+@Service
+@Slf4j
+public class AuditLogWriterImpl implements AuditLogWriter {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO audit_log (admin_id, action, resource_type, resource_id, description, `timestamp`) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+    private static final String SPILL_FILE = "audit-spill.ndjson";
+    private static final String REPLAY_SUFFIX = ".replay";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<AuditEventDTO> queue;
+    private final int batchSize;
+    private final Path spillDir;
+    private final Object spillLock = new Object();
+
+    public AuditLogWriterImpl(JdbcTemplate jdbcTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${csps.audit.queue-capacity:10000}") int queueCapacity,
+                              @Value("${csps.audit.batch-size:200}") int batchSize,
+                              @Value("${csps.audit.spill-dir:}") String spillDir,
+                              Environment environment) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.spillDir = resolveSpillDir(spillDir, environment);
+    }
+
+    /* tmpdir is wiped on reboot and by tmp cleaners, taking unwritten audit events with it; only dev may use it */
+    private static Path resolveSpillDir(String spillDir, Environment environment) {
+        if (!spillDir.isBlank()) {
+            return Paths.get(spillDir);
+        }
+        if (!environment.acceptsProfiles(Profiles.of("dev"))) {
+            throw new IllegalStateException("csps.audit.spill-dir (AUDIT_SPILL_DIR) must be set to a persistent directory");
+        }
+        Path fallback = Paths.get(System.getProperty("java.io.tmpdir"), "csps-audit");
+        log.warn("audit spill dir not configured, using {} (dev profile only)", fallback);
+        return fallback;
+    }
+
+    @Override
+    public void enqueue(AuditEventDTO event) {
+        if (!queue.offer(event)) {
+            log.warn("audit queue full, spilling event to disk");
+            spill(List.of(event));
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${csps.audit.flush-interval-ms:1000}")
+    public void flush() {
+        List<AuditEventDTO> batch = new ArrayList<>(batchSize);
+        boolean databaseAvailable = true;
+
+        while (queue.drainTo(batch, batchSize) > 0) {
+            /* once a write fails, spill the rest of the queue instead of waiting on the database again */
+            if (!databaseAvailable || !writeBatch(batch)) {
+                databaseAvailable = false;
+                spill(batch);
+            }
+            batch.clear();
+        }
+
+        if (databaseAvailable) {
+            replaySpilled();
+        }
+    }
+
+    /* last chance to persist queued events on shutdown */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /* single multi-row INSERT; rows with a dangling admin FK are isolated and dropped */
+    private boolean writeBatch(List<AuditEventDTO> events) {
+        try {
+            insertRows(events);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("audit batch rejected ({}), retrying rows individually", e.getMostSpecificCause().getMessage());
+            for (AuditEventDTO event : events) {
+                try {
+                    insertRows(List.of(event));
+                } catch (DataIntegrityViolationException rowError) {
+                    log.error("dropping audit event for admin {}: {}", event.getAdminId(), rowError.getMostSpecificCause().getMessage());
+                }
+            }
+            return true;
+        } catch (Exception e) {
+            log.error("failed to write {} audit events: {}", events.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void insertRows(List<AuditEventDTO> events) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        Object[] args = new Object[events.size() * 6];
+        int i = 0;
+        for (AuditEventDTO event : events) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+            args[i++] = event.getAdminId();
+            args[i++] = event.getAction().name();
+            args[i++] = event.getResourceType();
+            args[i++] = event.getResourceId();
+            args[i++] = event.getDescription();
+            args[i++] = event.getTimestamp();
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    /* append events to the spill file, one json document per line */
+    private void spill(List<AuditEventDTO> events) {
+        synchronized (spillLock) {
+            try {
+                Files.createDirectories(spillDir);
+                try (BufferedWriter writer = Files.newBufferedWriter(spillDir.resolve(SPILL_FILE), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC)) {
+                    for (AuditEventDTO event : events) {
+                        writer.write(objectMapper.writeValueAsString(event));
+                        writer.newLine();
+                    }
+                }
+            } catch (IOException e) {
+                log.error("failed to spill {} audit events to disk: {}", events.size(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /* move the live spill file aside and write its events back to the database */
+    private void replaySpilled() {
+        if (!Files.isDirectory(spillDir)) {
+            return;
+        }
+
+        synchronized (spillLock) {
+            Path live = spillDir.resolve(SPILL_FILE);
+            if (Files.exists(live)) {
+                try {
+                    Files.move(live, spillDir.resolve(SPILL_FILE + "." + System.currentTimeMillis() + REPLAY_SUFFIX),
+                            StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    log.error("failed to rotate audit spill file: {}", e.getMessage());
+                    return;
+                }
+            }
+        }
+
+        try (Stream<Path> files = Files.list(spillDir)) {
+            for (Path file : files.filter(f -> f.toString().endsWith(REPLAY_SUFFIX)).sorted().toList()) {
+                if (!replayFile(file)) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            log.error("failed to list audit spill files: {}", e.getMessage());
+        }
+    }
+
+    /* replay one file batch by batch; on failure keep only the unwritten lines for the next attempt */
+    private boolean replayFile(Path file) {
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            List<AuditEventDTO> batch = new ArrayList<>(batchSize);
+            int written = 0;
+
+            for (int i = 0; i < lines.size(); i++) {
+                if (!lines.get(i).isBlank()) {
+                    batch.add(objectMapper.readValue(lines.get(i), AuditEventDTO.class));
+                }
+                if (batch.size() == batchSize || i == lines.size() - 1) {
+                    if (!batch.isEmpty() && !writeBatch(batch)) {
+                        Files.write(file, lines.subList(written, lines.size()), StandardCharsets.UTF_8,
+                                StandardOpenOption.TRUNCATE_EXISTING);
+                        return false;
+                    }
+                    written = i + 1;
+                    batch.clear();
+                }
+            }
+
+            Files.delete(file);
+            log.info("replayed {} spilled audit events from {}", lines.size(), file.getFileName());
+            return true;
+        } catch (IOException e) {
+            log.error("failed to replay audit spill file {}: {}", file, e.getMessage(), e);
+            return false;
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package org.csps.backend.service.impl;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.csps.backend.domain.dtos.request.CartItemOperationDTO;
 import org.csps.backend.domain.dtos.request.CartItemRequestDTO;
 import org.csps.backend.domain.dtos.response.CartItemResponseDTO;
 import org.csps.backend.domain.entities.Cart;
 import org.csps.backend.domain.entities.CartItem;
 import org.csps.backend.domain.entities.MerchVariantItem;
 import org.csps.backend.domain.entities.composites.CartItemId;
+import org.csps.backend.domain.events.CartChangedEvent;
 import org.csps.backend.exception.CartItemNotFoundException;
 import org.csps.backend.exception.CartNotFoundException;
 import org.csps.backend.exception.InvalidRequestException;
@@ -15,8 +20,13 @@ import org.csps.backend.exception.MerchVariantNotFoundException;
 import org.csps.backend.mapper.CartItemMapper;
 import org.csps.backend.repository.CartItemRepository;
 import org.csps.backend.repository.CartRepository;
+import org.csps.backend.repository.CartWriteRepository;
 import org.csps.backend.repository.MerchVariantItemRepository;
+import org.csps.backend.repository.OrderCheckoutRepository;
 import org.csps.backend.service.CartItemService;
+import org.csps.backend.service.CartViewService;
+import org.csps.backend.service.InventoryReservationService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import jakarta.transaction.Transactional;
@@ -26,10 +36,18 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CartItemServiceImpl implements CartItemService {
 
+    private static final int MAX_BATCH_OPERATIONS = 100;
+
     private final CartItemRepository cartItemRepository;
     private final MerchVariantItemRepository merchVariantItemRepository;
     private final CartRepository cartRepository;
     private final CartItemMapper cartItemMapper;
+    private final InventoryReservationService inventoryReservationService;
+    private final CartViewService cartViewService;
+    private final MerchCatalogCache merchCatalogCache;
+    private final CartWriteRepository cartWriteRepository;
+    private final OrderCheckoutRepository orderCheckoutRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     @Transactional
@@ -54,7 +72,8 @@ public class CartItemServiceImpl implements CartItemService {
             throw new InvalidRequestException("Quantity must be greater than 0");
         }
 
-        // Verify cart exists
+        // Carts are created on the student's first add
+        cartWriteRepository.ensureCart(cartId);
         Cart cart = cartRepository.findById(cartId)
                 .orElseThrow(() -> new CartNotFoundException("Cart not found"));
 
@@ -62,12 +81,6 @@ public class CartItemServiceImpl implements CartItemService {
         MerchVariantItem merchVariantItem = merchVariantItemRepository.findById(merchVariantItemId)
                 .orElseThrow(() -> new MerchVariantNotFoundException("Merch variant item not found"));
 
-        // Check stock availability
-        if (quantity > merchVariantItem.getStockQuantity()) {
-            throw new InvalidRequestException("Insufficient stock. Available: " + merchVariantItem.getStockQuantity() + 
-                    ", Requested: " + quantity);
-        }
-
         CartItemId cartItemId = new CartItemId(cartId, merchVariantItemId);
 
         // Check if item already exists in cart
@@ -79,17 +92,18 @@ public class CartItemServiceImpl implements CartItemService {
                         .quantity(0)
                         .build());
 
-        // Validate total quantity doesn't exceed stock
+        // Hold the total cart quantity against the in-memory ledger (no stock read from the DB)
         int totalQuantity = cartItem.getQuantity() + quantity;
-        if (totalQuantity > merchVariantItem.getStockQuantity()) {
+        if (!inventoryReservationService.hold(studentId, merchVariantItemId, totalQuantity)) {
             throw new InvalidRequestException("Total quantity (" + totalQuantity + ") exceeds available stock (" + 
-                    merchVariantItem.getStockQuantity() + ")");
+                    (inventoryReservationService.getAvailable(merchVariantItemId) + cartItem.getQuantity()) + ")");
         }
 
         cartItem.setQuantity(totalQuantity);
         cartItem = cartItemRepository.save(cartItem);
+        eventPublisher.publishEvent(new CartChangedEvent(List.of(studentId)));
 
-        return cartItemMapper.toResponseDTO(cartItem);
+        return toResponseDTO(cartItem);
     }
 
     @Override
@@ -103,9 +117,9 @@ public class CartItemServiceImpl implements CartItemService {
             throw new InvalidRequestException("Merch variant item ID is required");
         }
 
-        // Get the cart
+        // Get the cart; a student without one has no items to remove
         Cart cart = cartRepository.findById(studentId)
-                .orElseThrow(() -> new CartNotFoundException("Cart not found"));
+                .orElseThrow(() -> new CartItemNotFoundException("Cart item not found"));
         
         // Remove the item from cart's items collection
         CartItemId cartItemId = new CartItemId(studentId, merchVariantItemId);
@@ -117,6 +131,8 @@ public class CartItemServiceImpl implements CartItemService {
         
         // Save the cart (cascade will handle deletion)
         cartRepository.save(cart);
+        inventoryReservationService.release(studentId, merchVariantItemId);
+        eventPublisher.publishEvent(new CartChangedEvent(List.of(studentId)));
     }
 
     @Override
@@ -139,37 +155,138 @@ public class CartItemServiceImpl implements CartItemService {
         CartItem cartItem = cartItemRepository.findById(cartItemId)
                 .orElseThrow(() -> new CartItemNotFoundException("Cart item not found"));
 
-        // If quantity is 0, delete the item
+        // If quantity is 0, delete the item and report it with quantity 0
         if (quantity == 0) {
-            cartItemRepository.deleteById(cartItemId);
-            throw new CartItemNotFoundException("Cart item removed (quantity set to 0)");
+            cartItemRepository.delete(cartItem);
+            inventoryReservationService.release(studentId, merchVariantItemId);
+            eventPublisher.publishEvent(new CartChangedEvent(List.of(studentId)));
+            cartItem.setQuantity(0);
+            return toResponseDTO(cartItem);
         }
 
-        // Verify stock availability
-        MerchVariantItem merchVariantItem = cartItem.getMerchVariantItem();
-        if (quantity > merchVariantItem.getStockQuantity()) {
-            throw new InvalidRequestException("Insufficient stock. Available: " + merchVariantItem.getStockQuantity() + 
+        // Re-hold at the new quantity against the in-memory ledger
+        if (!inventoryReservationService.hold(studentId, merchVariantItemId, quantity)) {
+            throw new InvalidRequestException("Insufficient stock. Available: " + 
+                    (inventoryReservationService.getAvailable(merchVariantItemId) + cartItem.getQuantity()) + 
                     ", Requested: " + quantity);
         }
 
         cartItem.setQuantity(quantity);
         cartItem = cartItemRepository.save(cartItem);
+        eventPublisher.publishEvent(new CartChangedEvent(List.of(studentId)));
 
-        return cartItemMapper.toResponseDTO(cartItem);
+        return toResponseDTO(cartItem);
     }
 
     @Override
-    public List<CartItemResponseDTO> getCartItems(String studentId) {
+    @Transactional
+    public void applyCartOperations(String studentId, List<CartItemOperationDTO> operations) {
         if (studentId == null || studentId.isEmpty()) {
             throw new InvalidRequestException("Student ID is required");
         }
+        if (operations == null || operations.isEmpty()) {
+            throw new InvalidRequestException("At least one cart operation is required");
+        }
+        if (operations.size() > MAX_BATCH_OPERATIONS) {
+            throw new InvalidRequestException("At most " + MAX_BATCH_OPERATIONS + " cart operations are allowed per request");
+        }
 
-        Cart cart = cartRepository.findById(studentId)
-                .orElseThrow(() -> new CartNotFoundException("Cart not found"));
+        // Carts are created on the student's first add
+        cartWriteRepository.ensureCart(studentId);
+        Map<Long, Integer> current = cartWriteRepository.lockQuantities(studentId);
+
+        // Replay the operations on the current quantities to get each touched line's final quantity
+        Map<Long, Integer> target = new LinkedHashMap<>();
+        for (CartItemOperationDTO operation : operations) {
+            if (operation == null || operation.getType() == null) {
+                throw new InvalidRequestException("Cart operation type is required");
+            }
+            Long merchVariantItemId = operation.getMerchVariantItemId();
+            if (merchVariantItemId == null || merchVariantItemId <= 0) {
+                throw new InvalidRequestException("Merch variant item ID is required");
+            }
+
+            int quantity = target.containsKey(merchVariantItemId)
+                    ? target.get(merchVariantItemId)
+                    : current.getOrDefault(merchVariantItemId, 0);
+            switch (operation.getType()) {
+                case ADD -> {
+                    if (operation.getQuantity() <= 0) {
+                        throw new InvalidRequestException("Quantity must be greater than 0");
+                    }
+                    quantity += operation.getQuantity();
+                }
+                case UPDATE -> {
+                    if (operation.getQuantity() < 0) {
+                        throw new InvalidRequestException("Quantity cannot be negative");
+                    }
+                    quantity = operation.getQuantity();
+                }
+                case REMOVE -> quantity = 0;
+            }
+            target.put(merchVariantItemId, quantity);
+        }
+
+        Map<Long, Integer> upserts = new LinkedHashMap<>();
+        List<Long> grown = new ArrayList<>();
+        List<Long> removals = new ArrayList<>();
+        for (Map.Entry<Long, Integer> line : target.entrySet()) {
+            int before = current.getOrDefault(line.getKey(), 0);
+            if (line.getValue() == before) {
+                continue;
+            }
+            if (line.getValue() == 0) {
+                removals.add(line.getKey());
+            } else {
+                upserts.put(line.getKey(), line.getValue());
+                if (line.getValue() > before) {
+                    grown.add(line.getKey());
+                }
+            }
+        }
+        if (upserts.isEmpty() && removals.isEmpty()) {
+            return;
+        }
 
-        return cart.getItems().stream()
-                .map(cartItemMapper::toResponseDTO)
-                .toList();
+        // One IN query: every grown line must exist and fit in the current stock
+        Map<Long, Integer> stock = orderCheckoutRepository.readStock(grown);
+        for (Long merchVariantItemId : grown) {
+            Integer available = stock.get(merchVariantItemId);
+            if (available == null) {
+                throw new MerchVariantNotFoundException("Merch variant item not found: " + merchVariantItemId);
+            }
+            if (upserts.get(merchVariantItemId) > available) {
+                throw new InvalidRequestException("Quantity (" + upserts.get(merchVariantItemId) + ") for item "
+                        + merchVariantItemId + " exceeds available stock (" + available + ")");
+            }
+        }
+
+        cartWriteRepository.upsertQuantities(studentId, upserts);
+        if (!removals.isEmpty()) {
+            cartItemRepository.deleteByCartIdAndMerchVariantItemIds(studentId, removals);
+        }
+
+        // Hold the new quantities like single adds once the writes went through; the ledger rolls the holds back
+        // with the transaction if one fails, and the removals are only released after commit
+        for (Map.Entry<Long, Integer> line : upserts.entrySet()) {
+            Long merchVariantItemId = line.getKey();
+            if (!inventoryReservationService.hold(studentId, merchVariantItemId, line.getValue())) {
+                throw new InvalidRequestException("Insufficient stock for item " + merchVariantItemId + ". Available: "
+                        + (inventoryReservationService.getAvailable(merchVariantItemId) + current.getOrDefault(merchVariantItemId, 0))
+                        + ", Requested: " + line.getValue());
+            }
+        }
+        removals.forEach(id -> inventoryReservationService.release(studentId, id));
+        eventPublisher.publishEvent(new CartChangedEvent(List.of(studentId)));
+    }
+
+    @Override
+    public List<CartItemResponseDTO> getCartItems(String studentId) {
+        if (studentId == null || studentId.isEmpty()) {
+            throw new InvalidRequestException("Student ID is required");
+        }
+
+        return cartViewService.getCart(studentId).getCartItemResponseDTOs();
     }
 
     @Override
@@ -179,10 +296,21 @@ public class CartItemServiceImpl implements CartItemService {
             throw new InvalidRequestException("Student ID is required");
         }
 
-        Cart cart = cartRepository.findById(studentId)
-                .orElseThrow(() -> new CartNotFoundException("Cart not found"));
+        // A student without a cart has nothing to clear
+        Cart cart = cartRepository.findById(studentId).orElse(null);
+        if (cart == null) {
+            return;
+        }
 
         cart.getItems().clear();
         cartRepository.save(cart);
+        inventoryReservationService.releaseAll(studentId);
+        eventPublisher.publishEvent(new CartChangedEvent(List.of(studentId)));
+    }
+
+    private CartItemResponseDTO toResponseDTO(CartItem cartItem) {
+        Long merchVariantItemId = cartItem.getId().getMerchVariantItemId();
+        int stock = merchCatalogCache.getStock(List.of(merchVariantItemId)).getOrDefault(merchVariantItemId, 0);
+        return cartItemMapper.toResponseDTO(cartItem, stock);
     }
 }
@@ -1,12 +1,15 @@
 package org.csps.backend.service.impl;
 
+import java.util.List;
+
 import org.csps.backend.domain.dtos.response.CartResponseDTO;
 import org.csps.backend.domain.entities.Cart;
-import org.csps.backend.exception.CartNotFoundException;
+import org.csps.backend.domain.events.CartChangedEvent;
 import org.csps.backend.exception.InvalidRequestException;
-import org.csps.backend.mapper.CartMapper;
 import org.csps.backend.repository.CartRepository;
 import org.csps.backend.service.CartService;
+import org.csps.backend.service.CartViewService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import jakarta.transaction.Transactional;
@@ -17,18 +20,12 @@ import lombok.RequiredArgsConstructor;
 public class CartServiceImpl implements CartService {
 
     private final CartRepository cartRepository;
-    private final CartMapper cartMapper;
+    private final CartViewService cartViewService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public CartResponseDTO getCartByStudentId(String studentId) {
-        if (studentId == null || studentId.isEmpty()) {
-            throw new InvalidRequestException("Student ID is required");
-        }
-        
-        Cart cart = cartRepository.findByIdWithItems(studentId)
-                .orElseThrow(() -> new CartNotFoundException("Cart not found for student: " + studentId));
-
-        return cartMapper.toResponseDTO(cart);
+        return cartViewService.getCart(studentId);
     }
 
     @Override
@@ -51,30 +48,12 @@ public class CartServiceImpl implements CartService {
 
     @Override
     public Double getCartTotal(String studentId) {
-        if (studentId == null || studentId.isEmpty()) {
-            throw new InvalidRequestException("Student ID is required");
-        }
-        
-        Cart cart = cartRepository.findByIdWithItems(studentId)
-                .orElseThrow(() -> new CartNotFoundException("Cart not found"));
-
-        return cart.getItems().stream()
-                .mapToDouble(item -> item.getQuantity() * item.getMerchVariantItem().getPrice())
-                .sum();
+        return cartViewService.getCart(studentId).getTotal();
     }
 
     @Override
     public int getCartItemCount(String studentId) {
-        if (studentId == null || studentId.isEmpty()) {
-            throw new InvalidRequestException("Student ID is required");
-        }
-        
-        Cart cart = cartRepository.findByIdWithItems(studentId)
-                .orElseThrow(() -> new CartNotFoundException("Cart not found"));
-
-        return cart.getItems().stream()
-                .mapToInt(item -> item.getQuantity())
-                .sum();
+        return cartViewService.getCart(studentId).getTotalQuantity();
     }
 
     @Override
@@ -84,10 +63,14 @@ public class CartServiceImpl implements CartService {
             throw new InvalidRequestException("Student ID is required");
         }
         
-        Cart cart = cartRepository.findByIdWithItems(studentId)
-                .orElseThrow(() -> new CartNotFoundException("Cart not found"));
+        // A student without a cart has nothing to clear
+        Cart cart = cartRepository.findByIdWithItems(studentId).orElse(null);
+        if (cart == null) {
+            return;
+        }
 
         cart.getItems().clear();
         cartRepository.save(cart);
+        eventPublisher.publishEvent(new CartChangedEvent(List.of(studentId)));
     }
 }
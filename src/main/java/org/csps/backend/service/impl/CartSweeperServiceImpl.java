@@ -0,0 +1,106 @@
+package org.csps.backend.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.csps.backend.domain.events.CartChangedEvent;
+import org.csps.backend.repository.CartWriteRepository;
+import org.csps.backend.repository.CartWriteRepository.LineKey;
+import org.csps.backend.service.CartSweeperService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Abandoned-cart sweeper.
+ * Stale lines (archived merch or sold-out items, untouched for min-age) are selected and deleted in bounded
+ * batches, one short transaction each, so carts are never locked for long. Carts are created on first add,
+ * so carts left empty are compacted away the same way. Reclaimed rows are counted in cart.sweeper.reclaimed.
+ */
+@Service
+@Slf4j
+public class CartSweeperServiceImpl implements CartSweeperService {
+
+    private final CartWriteRepository cartWriteRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration minAge;
+    private final int batchSize;
+    private final Counter linesReclaimed;
+    private final Counter cartsReclaimed;
+
+    public CartSweeperServiceImpl(CartWriteRepository cartWriteRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${csps.cart.sweeper.min-age-hours:72}") long minAgeHours,
+                                  @Value("${csps.cart.sweeper.batch-size:1000}") int batchSize) {
+        this.cartWriteRepository = cartWriteRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minAge = Duration.ofHours(minAgeHours);
+        this.batchSize = batchSize;
+        this.linesReclaimed = Counter.builder("cart.sweeper.reclaimed")
+                .description("rows removed by the abandoned-cart sweeper")
+                .tag("kind", "lines")
+                .register(meterRegistry);
+        this.cartsReclaimed = Counter.builder("cart.sweeper.reclaimed")
+                .description("rows removed by the abandoned-cart sweeper")
+                .tag("kind", "carts")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int sweep() {
+        LocalDateTime olderThan = LocalDateTime.now().minus(minAge);
+
+        /* lines this old hold no inventory anymore (holds expire within minutes), so only the cart views need evicting */
+        int lines = 0;
+        while (true) {
+            List<LineKey> stale = cartWriteRepository.findStaleLines(olderThan, batchSize);
+            int deleted = executeCount(() -> {
+                int count = cartWriteRepository.deleteLines(stale, olderThan);
+                if (count > 0) {
+                    eventPublisher.publishEvent(new CartChangedEvent(
+                            stale.stream().map(LineKey::getStudentId).distinct().toList()));
+                }
+                return count;
+            });
+            lines += deleted;
+            linesReclaimed.increment(deleted);
+            /* stop on a short batch, or when every selected line was touched again in the meantime */
+            if (stale.size() < batchSize || deleted == 0) {
+                break;
+            }
+        }
+
+        int carts = 0;
+        while (true) {
+            List<String> empty = cartWriteRepository.findEmptyCartIds(batchSize);
+            int deleted = executeCount(() -> cartWriteRepository.deleteEmptyCarts(empty));
+            carts += deleted;
+            cartsReclaimed.increment(deleted);
+            if (empty.size() < batchSize || deleted == 0) {
+                break;
+            }
+        }
+
+        if (lines > 0 || carts > 0) {
+            log.info("cart sweeper reclaimed {} stale line(s) and {} empty cart(s)", lines, carts);
+        }
+        return lines + carts;
+    }
+
+    private int executeCount(Supplier<Integer> batch) {
+        Integer count = transactionTemplate.execute(status -> batch.get());
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,138 @@
+package org.csps.backend.service.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.csps.backend.domain.dtos.response.CartItemResponseDTO;
+import org.csps.backend.domain.dtos.response.CartResponseDTO;
+import org.csps.backend.domain.enums.ClothingSizing;
+import org.csps.backend.domain.enums.MerchType;
+import org.csps.backend.domain.events.CartChangedEvent;
+import org.csps.backend.domain.events.MerchCatalogChangedEvent;
+import org.csps.backend.exception.InvalidRequestException;
+import org.csps.backend.repository.CartRepository;
+import org.csps.backend.repository.CartRepository.CartLineView;
+import org.csps.backend.service.CartViewService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cart read model behind the cart badge and drawer.
+ * A cart is read with one projection query and its lines are cached per student until the student's
+ * cart changes (CartChangedEvent) or catalog data such as prices changes (MerchCatalogChangedEvent).
+ * Availability is decided on every read against live stock from MerchCatalogCache.
+ */
+@Service
+public class CartViewServiceImpl implements CartViewService {
+
+    private final CartRepository cartRepository;
+    private final MerchCatalogCache merchCatalogCache;
+    private final Cache<String, List<CartLine>> carts;
+
+    public CartViewServiceImpl(CartRepository cartRepository,
+                               MerchCatalogCache merchCatalogCache,
+                               @Value("${csps.cart.view-cache.max-size:10000}") long maxSize,
+                               @Value("${csps.cart.view-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cartRepository = cartRepository;
+        this.merchCatalogCache = merchCatalogCache;
+        this.carts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    @Override
+    public CartResponseDTO getCart(String studentId) {
+        if (studentId == null || studentId.isEmpty()) {
+            throw new InvalidRequestException("Student ID is required");
+        }
+
+        List<CartLine> lines = carts.get(studentId, this::load);
+
+        Map<Long, Integer> stock = merchCatalogCache.getStock(lines.stream().map(line -> line.merchVariantItemId).toList());
+
+        List<CartItemResponseDTO> items = new ArrayList<>(lines.size());
+        int totalQuantity = 0;
+        double total = 0;
+        for (CartLine line : lines) {
+            double subTotal = line.quantity * line.price;
+            items.add(CartItemResponseDTO.builder()
+                    .merchVariantItemId(line.merchVariantItemId)
+                    .merchName(line.merchName)
+                    .size(line.size != null ? line.size.name() : null)
+                    .color(line.color)
+                    .design(line.design)
+                    .s3ImageKey(line.s3ImageKey)
+                    .unitPrice(line.price)
+                    .quantity(line.quantity)
+                    .subTotal(subTotal)
+                    .available(line.merchActive && stock.getOrDefault(line.merchVariantItemId, 0) >= line.quantity)
+                    .merchType(line.merchType)
+                    .build());
+            totalQuantity += line.quantity;
+            total += subTotal;
+        }
+
+        return CartResponseDTO.builder()
+                .studentId(studentId)
+                .cartItemResponseDTOs(items)
+                .totalQuantity(totalQuantity)
+                .total(total)
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCartChanged(CartChangedEvent event) {
+        carts.invalidateAll(event.getStudentIds());
+    }
+
+    /* names, prices and images are copied into every cached cart; catalog edits are rare, so drop them all */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(MerchCatalogChangedEvent event) {
+        carts.invalidateAll();
+    }
+
+    private List<CartLine> load(String studentId) {
+        /* no rows: the student has no cart yet, which reads as an empty cart */
+        List<CartLineView> rows = cartRepository.findCartLines(studentId);
+        List<CartLine> lines = new ArrayList<>(rows.size());
+        for (CartLineView row : rows) {
+            if (row.getMerchVariantItemId() != null) {
+                lines.add(new CartLine(row));
+            }
+        }
+        return List.copyOf(lines);
+    }
+
+    private static final class CartLine {
+        private final Long merchVariantItemId;
+        private final String merchName;
+        private final MerchType merchType;
+        private final boolean merchActive;
+        private final String color;
+        private final String design;
+        private final ClothingSizing size;
+        private final String s3ImageKey;
+        private final double price;
+        private final int quantity;
+
+        private CartLine(CartLineView row) {
+            this.merchVariantItemId = row.getMerchVariantItemId();
+            this.merchName = row.getMerchName();
+            this.merchType = row.getMerchType();
+            this.merchActive = Boolean.TRUE.equals(row.getMerchActive());
+            this.color = row.getColor();
+            this.design = row.getDesign();
+            this.size = row.getSize();
+            this.s3ImageKey = row.getS3ImageKey();
+            this.price = row.getPrice() != null ? row.getPrice() : 0.0;
+            this.quantity = row.getQuantity() != null ? row.getQuantity() : 0;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package org.csps.backend.service.impl;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.csps.backend.domain.enums.SessionStatus;
+import org.csps.backend.domain.events.EventParticipantsChangedEvent;
+import org.csps.backend.domain.events.EventSessionStatusChangedEvent;
+import org.csps.backend.exception.EventSessionNotFoundException;
+import org.csps.backend.exception.SessionNotActiveException;
+import org.csps.backend.repository.AttendanceRecordRepository;
+import org.csps.backend.repository.EventParticipantRepository;
+import org.csps.backend.repository.EventSessionRepository;
+import org.csps.backend.repository.EventSessionRepository.CheckInSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory check-in rosters of ACTIVE sessions, so a QR check-in needs no reads at all.
+ * A roster holds the session's event participants keyed by student id plus a concurrent set of the
+ * participants already checked in. It is loaded when a session becomes ACTIVE (or on the first check-in
+ * after a restart), dropped when the session leaves ACTIVE or the event's participants change, and
+ * reloaded after max-age so status changes made on other nodes are picked up.
+ * The checked-in set only turns away repeats early; the uk_participant_session constraint stays authoritative.
+ */
+@Component
+public class CheckInRosterCache {
+
+    private final EventSessionRepository eventSessionRepository;
+    private final EventParticipantRepository eventParticipantRepository;
+    private final AttendanceRecordRepository attendanceRecordRepository;
+    private final long maxAgeNanos;
+
+    /* sessionId -> roster; only ACTIVE sessions ever get an entry */
+    private final ConcurrentMap<Long, Roster> rosters = new ConcurrentHashMap<>();
+
+    public CheckInRosterCache(EventSessionRepository eventSessionRepository,
+                              EventParticipantRepository eventParticipantRepository,
+                              AttendanceRecordRepository attendanceRecordRepository,
+                              @Value("${csps.attendance.roster.max-age-seconds:60}") long maxAgeSeconds) {
+        this.eventSessionRepository = eventSessionRepository;
+        this.eventParticipantRepository = eventParticipantRepository;
+        this.attendanceRecordRepository = attendanceRecordRepository;
+        this.maxAgeNanos = maxAgeSeconds * 1_000_000_000L;
+    }
+
+    /* roster of an ACTIVE session; throws when the session does not exist or is not ACTIVE */
+    public Roster getActiveRoster(Long sessionId) {
+        Roster roster = rosters.get(sessionId);
+        if (roster != null && System.nanoTime() - roster.loadedAt < maxAgeNanos) {
+            return roster;
+        }
+        if (roster != null) {
+            rosters.remove(sessionId, roster);
+        }
+        /* concurrent first scans of a session wait for a single load */
+        return rosters.computeIfAbsent(sessionId, this::load);
+    }
+
+    public void evict(Long sessionId) {
+        rosters.remove(sessionId);
+    }
+
+    /* record check-ins committed outside the single-scan path; sessions without a roster are skipped */
+    public void markCheckedIn(Long sessionId, Collection<Long> participantIds) {
+        Roster roster = rosters.get(sessionId);
+        if (roster != null) {
+            roster.checkedIn.addAll(participantIds);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionStatusChanged(EventSessionStatusChangedEvent event) {
+        rosters.remove(event.getSessionId());
+        if (event.getSessionStatus() == SessionStatus.ACTIVE) {
+            try {
+                getActiveRoster(event.getSessionId());
+            } catch (EventSessionNotFoundException | SessionNotActiveException ex) {
+                /* changed again since; the next check-in decides */
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipantsChanged(EventParticipantsChangedEvent event) {
+        rosters.values().removeIf(roster -> roster.eventId.equals(event.getEventId()));
+    }
+
+    /* four reads: the session, its event's participants, who already checked in and the session status again */
+    private Roster load(Long sessionId) {
+        CheckInSession session = eventSessionRepository.findCheckInSession(sessionId)
+            .orElseThrow(() -> new EventSessionNotFoundException("Session not found with ID: " + sessionId));
+        if (session.getSessionStatus() != SessionStatus.ACTIVE) {
+            throw new SessionNotActiveException("Session is not currently active. Status: " + session.getSessionStatus());
+        }
+
+        List<EventParticipantRepository.RosterEntry> entries = eventParticipantRepository.findRosterByEventId(session.getEventId());
+        Map<String, Participant> participants = new HashMap<>(entries.size() * 2);
+        for (EventParticipantRepository.RosterEntry entry : entries) {
+            participants.put(entry.getStudentId(),
+                new Participant(entry.getParticipantId(), entry.getStudentId(), entry.getFirstName()));
+        }
+
+        Set<Long> checkedIn = ConcurrentHashMap.newKeySet(Math.max(16, participants.size()));
+        checkedIn.addAll(attendanceRecordRepository.findCheckedInParticipantIds(sessionId));
+
+        /* the session may have left ACTIVE while the roster was read; never cache it in that case.
+           a change committed after this re-check is evicted by its listener, which waits for this load */
+        SessionStatus status = eventSessionRepository.findCheckInSession(sessionId)
+            .map(CheckInSession::getSessionStatus)
+            .orElseThrow(() -> new EventSessionNotFoundException("Session not found with ID: " + sessionId));
+        if (status != SessionStatus.ACTIVE) {
+            throw new SessionNotActiveException("Session is not currently active. Status: " + status);
+        }
+
+        return new Roster(session.getSessionId(), session.getSessionName(), session.getEventId(),
+            Map.copyOf(participants), checkedIn, System.nanoTime());
+    }
+
+    static final class Roster {
+
+        private final Long sessionId;
+        private final String sessionName;
+        private final Long eventId;
+        /* studentId -> participant, immutable once loaded */
+        private final Map<String, Participant> participants;
+        private final Set<Long> checkedIn;
+        private final long loadedAt;
+
+        private Roster(Long sessionId, String sessionName, Long eventId,
+                       Map<String, Participant> participants, Set<Long> checkedIn, long loadedAt) {
+            this.sessionId = sessionId;
+            this.sessionName = sessionName;
+            this.eventId = eventId;
+            this.participants = participants;
+            this.checkedIn = checkedIn;
+            this.loadedAt = loadedAt;
+        }
+
+        Long getSessionId() {
+            return sessionId;
+        }
+
+        String getSessionName() {
+            return sessionName;
+        }
+
+        /* null when the student is not a participant of the session's event */
+        Participant find(String studentId) {
+            return participants.get(studentId);
+        }
+
+        /* true for the first caller only */
+        boolean markCheckedIn(Long participantId) {
+            return checkedIn.add(participantId);
+        }
+
+        /* the insert did not go through, let the participant try again */
+        void unmarkCheckedIn(Long participantId) {
+            checkedIn.remove(participantId);
+        }
+    }
+
+    static final class Participant {
+
+        private final Long participantId;
+        private final String studentId;
+        private final String firstName;
+
+        private Participant(Long participantId, String studentId, String firstName) {
+            this.participantId = participantId;
+            this.studentId = studentId;
+            this.firstName = firstName;
+        }
+
+        Long getParticipantId() {
+            return participantId;
+        }
+
+        String getStudentId() {
+            return studentId;
+        }
+
+        String getFirstName() {
+            return firstName;
+        }
+    }
+}
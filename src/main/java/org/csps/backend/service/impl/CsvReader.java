@@ -0,0 +1,107 @@
+package org.csps.backend.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.csps.backend.exception.InvalidRequestException;
+
+/**
+ * Streaming RFC 4180 reader for imports, the counterpart of CsvWriter.
+ * Handles quoted fields with embedded commas, doubled quotes and line breaks, CRLF or LF endings
+ * and a leading UTF-8 BOM, while holding only the current record in memory.
+ */
+final class CsvReader implements AutoCloseable {
+
+    private final BufferedReader reader;
+    private int line = 1;
+    private int recordLine;
+    private int pushedBack = -2;
+    private boolean started;
+
+    CsvReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    /* next record as a list of raw field values, or null at end of input */
+    List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new InvalidRequestException("Unterminated quoted field in record starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    int n = read();
+                    if (n != '"') {
+                        /* closing quote: reprocess the following character outside the quotes */
+                        quoted = false;
+                        c = n;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int n = read();
+                    if (n != '\n') {
+                        pushedBack = n;
+                    }
+                }
+                if (c != -1) {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /* physical line on which the last returned record started, for error reports */
+    int recordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+}
@@ -0,0 +1,82 @@
+package org.csps.backend.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Minimal RFC 4180 writer for streamed exports.
+ * Text that a spreadsheet would run as a formula is prefixed with a single quote.
+ * Rows go straight to the response stream and are flushed every FLUSH_INTERVAL rows,
+ * so the client receives bytes while the database cursor is still open.
+ */
+final class CsvWriter implements Closeable {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final BufferedWriter writer;
+    private final GZIPOutputStream gzip;
+    private int rows;
+
+    private CsvWriter(OutputStream outputStream, boolean gzip) throws IOException {
+        this.gzip = gzip ? new GZIPOutputStream(outputStream) : null;
+        this.writer = new BufferedWriter(new OutputStreamWriter(gzip ? this.gzip : outputStream, StandardCharsets.UTF_8));
+    }
+
+    /* gzip wraps the csv in a .csv.gz body instead of relying on transfer compression */
+    static CsvWriter open(OutputStream outputStream, boolean gzip, String header) throws IOException {
+        CsvWriter csv = new CsvWriter(outputStream, gzip);
+        csv.writer.write(header);
+        csv.writer.newLine();
+        return csv;
+    }
+
+    void row(Object... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(field(fields[i]));
+        }
+        writer.newLine();
+        if (++rows % FLUSH_INTERVAL == 0) {
+            writer.flush();
+        }
+    }
+
+    /* finishes the gzip trailer but leaves the response stream itself to the container */
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+        if (gzip != null) {
+            gzip.finish();
+        }
+    }
+
+    static String field(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof Enum<?> constant ? constant.name() : value.toString();
+        /* names and emails come from users; numbers are never formulas, so negative values stay intact */
+        if (!(value instanceof Number) && startsLikeFormula(text)) {
+            text = "'" + text;
+        }
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    private static boolean startsLikeFormula(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
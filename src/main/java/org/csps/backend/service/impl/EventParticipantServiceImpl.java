@@ -8,6 +8,7 @@ import org.csps.backend.domain.entities.Event;
 import org.csps.backend.domain.entities.EventParticipant;
 import org.csps.backend.domain.entities.Student;
 import org.csps.backend.domain.enums.ParticipationStatus;
+import org.csps.backend.domain.events.EventParticipantsChangedEvent;
 import org.csps.backend.exception.EventNotFoundException;
 import org.csps.backend.exception.InvalidRequestException;
 import org.csps.backend.exception.ParticipantAlreadyExistsException;
@@ -19,6 +20,7 @@ import org.csps.backend.repository.EventParticipantRepository;
 import org.csps.backend.repository.EventRepository;
 import org.csps.backend.repository.StudentRepository;
 import org.csps.backend.service.EventParticipantService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import jakarta.transaction.Transactional;
@@ -33,6 +35,7 @@ public class EventParticipantServiceImpl implements EventParticipantService {
     private final StudentRepository studentRepository;
     private final EventParticipantMapper eventParticipantMapper;
     private final AttendanceRecordRepository attendanceRecordRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -59,6 +62,7 @@ public class EventParticipantServiceImpl implements EventParticipantService {
             .build();
 
         EventParticipant savedParticipant = eventParticipantRepository.save(participant);
+        eventPublisher.publishEvent(new EventParticipantsChangedEvent(eventId));
         return eventParticipantMapper.toResponseDTO(savedParticipant);
     }
 
@@ -77,6 +81,7 @@ public class EventParticipantServiceImpl implements EventParticipantService {
 
         /* delete participant record */
         eventParticipantRepository.delete(participant);
+        eventPublisher.publishEvent(new EventParticipantsChangedEvent(eventId));
     }
 
     @Override
@@ -117,6 +122,7 @@ public class EventParticipantServiceImpl implements EventParticipantService {
 
         /* delete participant */
         eventParticipantRepository.delete(participant);
+        eventPublisher.publishEvent(new EventParticipantsChangedEvent(participant.getEvent().getEventId()));
     }
 
     @Override
@@ -11,6 +11,7 @@ import org.csps.backend.domain.dtos.response.EventResponseDTO;
 import org.csps.backend.domain.entities.Event;
 import org.csps.backend.domain.enums.EventStatus;
 import org.csps.backend.domain.enums.EventType;
+import org.csps.backend.domain.events.EventParticipantsChangedEvent;
 import org.csps.backend.exception.EventNotFoundException;
 import org.csps.backend.exception.InvalidRequestException;
 import org.csps.backend.mapper.EventMapper;
@@ -19,6 +20,7 @@ import org.csps.backend.service.EventService;
 import org.csps.backend.service.S3Service;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -34,6 +36,7 @@ public class EventServiceImpl implements EventService {
     private final EventRepository eventRepository;
     private final EventMapper eventMapper;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -137,6 +140,8 @@ public class EventServiceImpl implements EventService {
 
         // delete the event
         eventRepository.delete(event);
+        /* sessions and participants go with the event, so do their check-in rosters */
+        eventPublisher.publishEvent(new EventParticipantsChangedEvent(eventId));
 
         // convert the entity into response dto
         EventResponseDTO eventResponseDTO = eventMapper.toResponseDTO(event);
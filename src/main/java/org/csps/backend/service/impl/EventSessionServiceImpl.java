@@ -10,6 +10,7 @@ import org.csps.backend.domain.dtos.response.EventSessionResponseDTO;
 import org.csps.backend.domain.entities.Event;
 import org.csps.backend.domain.entities.EventSession;
 import org.csps.backend.domain.enums.SessionStatus;
+import org.csps.backend.domain.events.EventSessionStatusChangedEvent;
 import org.csps.backend.exception.EventNotFoundException;
 import org.csps.backend.exception.EventSessionNotFoundException;
 import org.csps.backend.exception.InvalidQRTokenException;
@@ -21,6 +22,7 @@ import org.csps.backend.repository.EventSessionRepository;
 import org.csps.backend.security.JwtService;
 import org.csps.backend.service.EventSessionService;
 import org.csps.backend.service.QRTokenService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import jakarta.transaction.Transactional;
@@ -36,6 +38,7 @@ public class EventSessionServiceImpl implements EventSessionService {
     private final EventSessionMapper eventSessionMapper;
     private final QRTokenService qrTokenService;
     private final JwtService jwtService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -111,6 +114,8 @@ public class EventSessionServiceImpl implements EventSessionService {
         } catch (IllegalArgumentException ex) {
             throw new IllegalArgumentException("Invalid session status: " + status);
         }
+        /* check-in rosters are loaded on ACTIVE and dropped on anything else */
+        eventPublisher.publishEvent(new EventSessionStatusChangedEvent(sessionId, session.getSessionStatus()));
         return eventSessionMapper.toResponseDTO(session);
     }
 
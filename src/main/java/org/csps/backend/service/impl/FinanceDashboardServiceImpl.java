@@ -1,13 +1,20 @@
 package org.csps.backend.service.impl;
 
-import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.format.TextStyle;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.csps.backend.domain.dtos.response.ChartDataDTO;
@@ -16,44 +23,189 @@ import org.csps.backend.domain.dtos.response.InventorySummaryDTO;
 import org.csps.backend.domain.dtos.response.MembershipRatioDTO;
 import org.csps.backend.domain.dtos.response.OrderSummaryDTO;
 import org.csps.backend.domain.dtos.response.StudentMembershipDTO;
-import org.csps.backend.domain.entities.Order;
 import org.csps.backend.domain.enums.OrderStatus;
+import org.csps.backend.domain.events.MembershipChangedEvent;
+import org.csps.backend.domain.events.OrderClaimChangedEvent;
+import org.csps.backend.domain.events.StockChangedEvent;
 import org.csps.backend.repository.MerchVariantItemRepository;
 import org.csps.backend.repository.OrderItemRepository;
 import org.csps.backend.repository.OrderRepository;
+import org.csps.backend.repository.OrderRepository.DailyOrderTotals;
 import org.csps.backend.repository.StudentMembershipRepository;
 import org.csps.backend.repository.StudentRepository;
 import org.csps.backend.service.FinanceDashboardService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * finance dashboard served from an in-memory snapshot.
+ * each panel is cached separately and only recomputed when a domain event invalidates it
+ * (stock change, claim, membership change) or when it is older than the max age, which also
+ * covers changes that do not publish events. stale panels are recomputed in parallel on virtual threads.
+ */
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class FinanceDashboardServiceImpl implements FinanceDashboardService {
 
+    private enum Panel { INVENTORY, RECENT_ORDERS, RECENT_MEMBERSHIPS, MEMBERSHIP_RATIO, CHART_DATA }
+
+    private static final int PANEL_SIZE = 5;
+
     private final MerchVariantItemRepository merchVariantItemRepository;
     private final OrderItemRepository orderItemRepository;
     private final StudentMembershipRepository studentMembershipRepository;
     private final StudentRepository studentRepository;
     private final OrderRepository orderRepository;
+    private final ExecutorService dashboardTaskExecutor;
+    private final long maxAgeNanos;
+
+    /* filled once in the constructor and never modified, so concurrent reads are safe */
+    private final Map<Panel, PanelState> panels = new EnumMap<>(Panel.class);
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public FinanceDashboardServiceImpl(MerchVariantItemRepository merchVariantItemRepository,
+                                       OrderItemRepository orderItemRepository,
+                                       StudentMembershipRepository studentMembershipRepository,
+                                       StudentRepository studentRepository,
+                                       OrderRepository orderRepository,
+                                       @Qualifier("dashboardTaskExecutor") ExecutorService dashboardTaskExecutor,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${csps.finance-dashboard.max-age-seconds:300}") long maxAgeSeconds) {
+        this.merchVariantItemRepository = merchVariantItemRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.studentMembershipRepository = studentMembershipRepository;
+        this.studentRepository = studentRepository;
+        this.orderRepository = orderRepository;
+        this.dashboardTaskExecutor = dashboardTaskExecutor;
+        this.maxAgeNanos = Duration.ofSeconds(maxAgeSeconds).toNanos();
+
+        for (Panel panel : Panel.values()) {
+            Timer timer = Timer.builder("finance.dashboard.panel.compute")
+                    .description("time to recompute one finance dashboard panel")
+                    .tag("panel", panel.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry);
+            panels.put(panel, new PanelState(timer));
+        }
+        Gauge.builder("finance.dashboard.snapshot.age", this, FinanceDashboardServiceImpl::snapshotAgeSeconds)
+                .description("age of the oldest panel in the finance dashboard snapshot")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
 
     @Override
     public FinanceDashboardDTO getFinanceDashboardData() {
+        long now = System.nanoTime();
+        if (panels.values().stream().anyMatch(state -> state.isStale(now, maxAgeNanos))) {
+            refresh();
+        }
+
         FinanceDashboardDTO dto = new FinanceDashboardDTO();
+        dto.setInventory(value(Panel.INVENTORY));
+        dto.setRecentOrders(value(Panel.RECENT_ORDERS));
+        dto.setRecentMemberships(value(Panel.RECENT_MEMBERSHIPS));
+        dto.setMembershipRatio(value(Panel.MEMBERSHIP_RATIO));
+        dto.setChartData(value(Panel.CHART_DATA));
+        return dto;
+    }
 
-        dto.setInventory(getInventorySummary());
-        dto.setRecentOrders(getRecentOrders());
-        dto.setRecentMemberships(getRecentMemberships());
-        dto.setMembershipRatio(getMembershipRatio());
-        dto.setChartData(getChartData());
+    /* invalidation runs after the publishing transaction commits, so the recompute sees the new data */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        invalidate(Panel.INVENTORY);
+    }
 
-        return dto;
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderClaimChanged(OrderClaimChangedEvent event) {
+        invalidate(Panel.RECENT_ORDERS, Panel.CHART_DATA);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        invalidate(Panel.RECENT_MEMBERSHIPS, Panel.MEMBERSHIP_RATIO);
+    }
+
+    private void invalidate(Panel... stale) {
+        for (Panel panel : stale) {
+            panels.get(panel).generation.incrementAndGet();
+        }
+    }
+
+    /* one refresh at a time; requests arriving meanwhile wait and then reuse its result */
+    private void refresh() {
+        refreshLock.lock();
+        try {
+            long now = System.nanoTime();
+            Map<Panel, Future<Object>> running = new EnumMap<>(Panel.class);
+            Map<Panel, Long> generations = new EnumMap<>(Panel.class);
+            for (Map.Entry<Panel, PanelState> entry : panels.entrySet()) {
+                PanelState state = entry.getValue();
+                if (state.isStale(now, maxAgeNanos)) {
+                    /* read the generation before computing so an invalidation during the compute is not lost */
+                    generations.put(entry.getKey(), state.generation.get());
+                    running.put(entry.getKey(), dashboardTaskExecutor.submit(() -> state.timer.recordCallable(() -> compute(entry.getKey()))));
+                }
+            }
+
+            for (Map.Entry<Panel, Future<Object>> entry : running.entrySet()) {
+                PanelState state = panels.get(entry.getKey());
+                try {
+                    state.snapshot = new Snapshot(entry.getValue().get(), generations.get(entry.getKey()), System.nanoTime());
+                } catch (ExecutionException e) {
+                    if (state.snapshot == null) {
+                        throw new IllegalStateException("Failed to load dashboard panel " + entry.getKey(), e.getCause());
+                    }
+                    /* keep serving the previous value; the panel stays stale and is retried on the next request */
+                    log.error("failed to refresh dashboard panel {}: {}", entry.getKey(), e.getCause().getMessage(), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading the finance dashboard", e);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Object compute(Panel panel) {
+        return switch (panel) {
+            case INVENTORY -> getInventorySummary();
+            case RECENT_ORDERS -> getRecentOrders();
+            case RECENT_MEMBERSHIPS -> getRecentMemberships();
+            case MEMBERSHIP_RATIO -> getMembershipRatio();
+            case CHART_DATA -> getChartData();
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T value(Panel panel) {
+        Snapshot snapshot = panels.get(panel).snapshot;
+        return snapshot != null ? (T) snapshot.value : null;
+    }
+
+    private double snapshotAgeSeconds() {
+        long now = System.nanoTime();
+        long oldest = -1;
+        for (PanelState state : panels.values()) {
+            Snapshot snapshot = state.snapshot;
+            if (snapshot == null) {
+                return Double.NaN;
+            }
+            oldest = Math.max(oldest, now - snapshot.computedAt);
+        }
+        return oldest < 0 ? Double.NaN : oldest / (double) TimeUnit.SECONDS.toNanos(1);
     }
 
     private List<InventorySummaryDTO> getInventorySummary() {
         // Get top 5 items with lowest stock
-        return merchVariantItemRepository.findTop5ByOrderByStockQuantityAsc().stream()
+        return merchVariantItemRepository.findLowestStock(PageRequest.of(0, PANEL_SIZE)).stream()
                 .map(item -> {
                     InventorySummaryDTO dto = new InventorySummaryDTO();
                     dto.setId(item.getMerchVariantItemId());
@@ -67,22 +219,8 @@ public class FinanceDashboardServiceImpl implements FinanceDashboardService {
     }
 
     private List<OrderSummaryDTO> getRecentOrders() {
-        // Get recent orders with CLAIMED status (paid/approved), limit 5
-        return orderItemRepository.findTop5ByOrderStatusInOrderByCreatedAtDesc(List.of(OrderStatus.CLAIMED)).stream()
-                .map(item -> {
-                    OrderSummaryDTO dto = new OrderSummaryDTO();
-                    dto.setOrderItemId(item.getOrderItemId());
-                    dto.setOrderId(item.getOrder().getOrderId());
-                    dto.setStudentName(item.getOrder().getStudent().getUserAccount().getUserProfile().getFirstName() + " " + item.getOrder().getStudent().getUserAccount().getUserProfile().getLastName());
-                    dto.setReferenceNumber("ORD-" + item.getOrder().getOrderId());
-                    dto.setProductName(item.getMerchVariantItem().getMerchVariant().getMerch().getMerchName());
-                    dto.setS3ImageKey(item.getMerchVariantItem().getMerchVariant().getS3ImageKey());
-                    dto.setStatus(item.getOrderStatus().name());
-                    dto.setPrice(BigDecimal.valueOf(item.getPriceAtPurchase()));
-                    dto.setCreatedAt(item.getCreatedAt());
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        // Get recent orders with CLAIMED status (paid/approved), limit 5, projected straight into the DTO
+        return orderItemRepository.findRecentSummaries(List.of(OrderStatus.CLAIMED), PageRequest.of(0, PANEL_SIZE));
     }
 
     private List<StudentMembershipDTO> getRecentMemberships() {
@@ -124,29 +262,21 @@ public class FinanceDashboardServiceImpl implements FinanceDashboardService {
     private ChartDataDTO getChartData() {
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusDays(6);
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
-
-        // Only include CLAIMED (paid/approved) orders
-        List<Order> orders = orderRepository.findByOrderDateBetweenAndOrderStatus(startDateTime, endDateTime, OrderStatus.CLAIMED);
-
-        // Group orders by date
-        Map<LocalDate, List<Order>> ordersByDate = orders.stream()
-                .collect(Collectors.groupingBy(order -> order.getOrderDate().toLocalDate()));
-
-        List<String> days = startDate.datesUntil(endDate.plusDays(1))
-                .map(date -> date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH))
-                .collect(Collectors.toList());
 
-        List<Integer> weeklyOrders = startDate.datesUntil(endDate.plusDays(1))
-                .map(date -> ordersByDate.getOrDefault(date, Collections.emptyList()).size())
-                .collect(Collectors.toList());
+        // Only include CLAIMED (paid/approved) orders, grouped per day in the database
+        Map<LocalDate, DailyOrderTotals> totalsByDate = orderRepository
+                .sumByDay(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay(), OrderStatus.CLAIMED).stream()
+                .collect(Collectors.toMap(DailyOrderTotals::getDay, Function.identity()));
 
-        List<Double> weeklyRevenue = startDate.datesUntil(endDate.plusDays(1))
-                .map(date -> ordersByDate.getOrDefault(date, Collections.emptyList()).stream()
-                        .mapToDouble(Order::getTotalPrice)
-                        .sum())
-                .collect(Collectors.toList());
+        List<String> days = new ArrayList<>();
+        List<Integer> weeklyOrders = new ArrayList<>();
+        List<Double> weeklyRevenue = new ArrayList<>();
+        startDate.datesUntil(endDate.plusDays(1)).forEach(date -> {
+            DailyOrderTotals totals = totalsByDate.get(date);
+            days.add(date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH));
+            weeklyOrders.add(totals != null ? totals.getOrderCount().intValue() : 0);
+            weeklyRevenue.add(totals != null && totals.getRevenue() != null ? totals.getRevenue() : 0.0);
+        });
 
         ChartDataDTO dto = new ChartDataDTO();
         dto.setWeeklyOrders(weeklyOrders);
@@ -161,4 +291,34 @@ public class FinanceDashboardServiceImpl implements FinanceDashboardService {
         if (stock <= 10) return "LOW_STOCK";
         return "IN_STOCK";
     }
-}
\ No newline at end of file
+
+    private static final class PanelState {
+        private final Timer timer;
+        /* bumped by every invalidation; a snapshot is only fresh if it was computed at the current generation */
+        private final AtomicLong generation = new AtomicLong();
+        private volatile Snapshot snapshot;
+
+        private PanelState(Timer timer) {
+            this.timer = timer;
+        }
+
+        private boolean isStale(long now, long maxAgeNanos) {
+            Snapshot current = snapshot;
+            return current == null
+                    || current.generation != generation.get()
+                    || now - current.computedAt > maxAgeNanos;
+        }
+    }
+
+    private static final class Snapshot {
+        private final Object value;
+        private final long generation;
+        private final long computedAt;
+
+        private Snapshot(Object value, long generation, long computedAt) {
+            this.value = value;
+            this.generation = generation;
+            this.computedAt = computedAt;
+        }
+    }
+}
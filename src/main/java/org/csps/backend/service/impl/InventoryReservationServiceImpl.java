@@ -0,0 +1,394 @@
+package org.csps.backend.service.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.csps.backend.exception.InvalidRequestException;
+import org.csps.backend.repository.OrderCheckoutRepository;
+import org.csps.backend.service.InventoryReservationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * in-memory availability ledger for merch drops.
+ * each variant item keeps two lock-free counters: last known DB stock and quantity currently held by carts.
+ * holds are advisory admission control for adding to carts: they stop a drop from being added to more carts
+ * than there is stock, but checkout only validates DB stock under row locks and never consults them.
+ * the ledger is per instance, so with several nodes each one only sees the holds it granted itself.
+ * a hold lasts hold-ttl from when the cart line was first held; later edits do not extend it. a student can
+ * hold at most max-quantity-per-hold units of an item and max-holds-per-student items, which bounds how much
+ * of a drop one account can keep out of other carts.
+ * ledger changes made inside a transaction follow its outcome: holds are rolled back with it, releases
+ * and sales are only applied after commit.
+ * stock changes made outside checkout (rejections, admin edits, bulk payments) are picked up by polling:
+ * reconcile re-reads the stock of every tracked item every reconcile-interval-ms, in batches.
+ */
+@Service
+@Slf4j
+public class InventoryReservationServiceImpl implements InventoryReservationService {
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final OrderCheckoutRepository orderCheckoutRepository;
+    private final long holdTtlNanos;
+    private final int maxQuantityPerHold;
+    private final int maxHoldsPerStudent;
+
+    private final Map<Long, ItemLedger> ledgers = new ConcurrentHashMap<>();
+    private final Map<String, Hold> holds = new ConcurrentHashMap<>();
+    /* studentId -> number of items the student currently holds */
+    private final Map<String, Integer> holdCounts = new ConcurrentHashMap<>();
+
+    public InventoryReservationServiceImpl(OrderCheckoutRepository orderCheckoutRepository,
+                                           @Value("${csps.inventory.hold-ttl-minutes:15}") long holdTtlMinutes,
+                                           @Value("${csps.inventory.max-quantity-per-hold:10}") int maxQuantityPerHold,
+                                           @Value("${csps.inventory.max-holds-per-student:20}") int maxHoldsPerStudent) {
+        this.orderCheckoutRepository = orderCheckoutRepository;
+        this.holdTtlNanos = Duration.ofMinutes(holdTtlMinutes).toNanos();
+        this.maxQuantityPerHold = maxQuantityPerHold;
+        this.maxHoldsPerStudent = maxHoldsPerStudent;
+    }
+
+    /* load every item up front so the first buyers of a drop do not hit the database */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            orderCheckoutRepository.readStock(null)
+                .forEach((id, stock) -> ledgers.computeIfAbsent(id, k -> new ItemLedger(stock)));
+            log.info("inventory ledger loaded {} items", ledgers.size());
+        } catch (Exception e) {
+            log.error("failed to warm up inventory ledger: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean hold(String studentId, Long merchVariantItemId, int quantity) {
+        if (quantity > maxQuantityPerHold) {
+            throw new InvalidRequestException("At most " + maxQuantityPerHold + " of an item can be held in a cart");
+        }
+        ItemLedger ledger = ledger(merchVariantItemId);
+        if (ledger == null) {
+            return false;
+        }
+
+        boolean[] granted = { true };
+        boolean[] tooManyHolds = { false };
+        Hold[] previous = { null };
+        String holdKey = holdKey(studentId, merchVariantItemId);
+        holds.compute(holdKey, (key, existing) -> {
+            previous[0] = existing;
+            if (existing == null && quantity > 0 && !tryCountHold(studentId)) {
+                granted[0] = false;
+                tooManyHolds[0] = true;
+                return null;
+            }
+            int delta = quantity - (existing != null ? existing.quantity : 0);
+            if (delta > 0 && !ledger.tryReserve(delta)) {
+                granted[0] = false;
+                if (existing == null) {
+                    uncountHold(studentId);
+                }
+                return existing;
+            }
+            if (delta < 0) {
+                ledger.held.addAndGet(delta);
+            }
+            if (quantity <= 0) {
+                if (existing != null) {
+                    uncountHold(studentId);
+                }
+                return null;
+            }
+            /* edits keep the original expiry, so re-touching a cart line cannot keep stock out of other carts forever */
+            long expiresAt = existing != null ? existing.expiresAt : System.nanoTime() + holdTtlNanos;
+            return new Hold(studentId, merchVariantItemId, quantity, expiresAt);
+        });
+
+        if (tooManyHolds[0]) {
+            throw new InvalidRequestException("At most " + maxHoldsPerStudent + " different items can be held in a cart");
+        }
+        PendingChanges pending = pendingChanges();
+        if (granted[0] && pending != null) {
+            pending.recordOriginal(holdKey, previous[0]);
+        }
+        return granted[0];
+    }
+
+    @Override
+    public void release(String studentId, Long merchVariantItemId) {
+        PendingChanges pending = pendingChanges();
+        if (pending != null) {
+            pending.onCommit.add(() -> releaseNow(studentId, merchVariantItemId));
+        } else {
+            releaseNow(studentId, merchVariantItemId);
+        }
+    }
+
+    @Override
+    public void releaseAll(String studentId) {
+        PendingChanges pending = pendingChanges();
+        if (pending != null) {
+            pending.onCommit.add(() -> releaseAllNow(studentId));
+        } else {
+            releaseAllNow(studentId);
+        }
+    }
+
+    private void releaseNow(String studentId, Long merchVariantItemId) {
+        holds.computeIfPresent(holdKey(studentId, merchVariantItemId), (key, existing) -> {
+            dropHold(existing);
+            return null;
+        });
+    }
+
+    private void releaseAllNow(String studentId) {
+        String prefix = studentId + ":";
+        for (String key : holds.keySet()) {
+            if (key.startsWith(prefix)) {
+                holds.computeIfPresent(key, (k, existing) -> {
+                    dropHold(existing);
+                    return null;
+                });
+            }
+        }
+    }
+
+    @Override
+    public void confirmSale(String studentId, Map<Long, Integer> quantities) {
+        Map<Long, Integer> sold = Map.copyOf(quantities);
+        PendingChanges pending = pendingChanges();
+        if (pending != null) {
+            /* only count the sale once the stock decrement is durable */
+            pending.onCommit.add(() -> applySale(studentId, sold));
+        } else {
+            applySale(studentId, sold);
+        }
+    }
+
+    @Override
+    public int getAvailable(Long merchVariantItemId) {
+        ItemLedger ledger = ledger(merchVariantItemId);
+        return ledger != null ? Math.max(0, ledger.available()) : 0;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${csps.inventory.expire-interval-ms:30000}")
+    public void expireHolds() {
+        long now = System.nanoTime();
+        int expired = 0;
+        for (Map.Entry<String, Hold> entry : holds.entrySet()) {
+            if (entry.getValue().isExpired(now)) {
+                boolean[] removed = { false };
+                holds.computeIfPresent(entry.getKey(), (key, existing) -> {
+                    if (!existing.isExpired(now)) {
+                        return existing;
+                    }
+                    dropHold(existing);
+                    removed[0] = true;
+                    return null;
+                });
+                if (removed[0]) {
+                    expired++;
+                }
+            }
+        }
+        if (expired > 0) {
+            log.debug("expired {} inventory holds", expired);
+        }
+    }
+
+    /* polling, not write-behind: the ledger never writes to the database, it only refreshes its stock counters */
+    @Override
+    @Scheduled(fixedDelayString = "${csps.inventory.reconcile-interval-ms:5000}")
+    public void reconcile() {
+        List<Long> ids = new ArrayList<>(ledgers.keySet());
+        for (int from = 0; from < ids.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, ids.size()));
+            try {
+                Map<Long, Integer> stock = orderCheckoutRepository.readStock(batch);
+                for (Long id : batch) {
+                    Integer dbStock = stock.get(id);
+                    ItemLedger ledger = ledgers.get(id);
+                    if (dbStock == null) {
+                        /* item was deleted */
+                        ledgers.remove(id);
+                    } else if (ledger != null) {
+                        ledger.stock.set(dbStock);
+                    }
+                }
+            } catch (Exception e) {
+                log.error("failed to reconcile inventory ledger: {}", e.getMessage(), e);
+                return;
+            }
+        }
+    }
+
+    private void applySale(String studentId, Map<Long, Integer> quantities) {
+        quantities.forEach((id, quantity) -> {
+            releaseNow(studentId, id);
+            ItemLedger ledger = ledgers.get(id);
+            if (ledger != null) {
+                ledger.stock.addAndGet(-quantity);
+            }
+        });
+    }
+
+    /* put a hold back the way it was before a rolled-back transaction changed it */
+    private void restoreHold(String holdKey, Hold original) {
+        holds.compute(holdKey, (key, existing) -> {
+            int delta = (original != null ? original.quantity : 0) - (existing != null ? existing.quantity : 0);
+            ItemLedger ledger = original != null ? ledgers.get(original.merchVariantItemId)
+                    : existing != null ? ledgers.get(existing.merchVariantItemId) : null;
+            if (ledger != null) {
+                ledger.held.addAndGet(delta);
+            }
+            /* the original is put back even past the cap; it was within it when granted */
+            if (existing == null && original != null) {
+                holdCounts.merge(original.studentId, 1, Integer::sum);
+            } else if (existing != null && original == null) {
+                uncountHold(existing.studentId);
+            }
+            return original;
+        });
+    }
+
+    /* the current transaction's ledger changes, bound to it on first use */
+    private PendingChanges pendingChanges() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    /* return a removed hold's quantity to its item and its slot to the student */
+    private void dropHold(Hold hold) {
+        ItemLedger ledger = ledgers.get(hold.merchVariantItemId);
+        if (ledger != null) {
+            ledger.held.addAndGet(-hold.quantity);
+        }
+        uncountHold(hold.studentId);
+    }
+
+    /* take one of the student's hold slots; false when all are in use */
+    private boolean tryCountHold(String studentId) {
+        boolean[] counted = { false };
+        holdCounts.compute(studentId, (key, count) -> {
+            int current = count != null ? count : 0;
+            if (current >= maxHoldsPerStudent) {
+                return count;
+            }
+            counted[0] = true;
+            return current + 1;
+        });
+        return counted[0];
+    }
+
+    private void uncountHold(String studentId) {
+        holdCounts.computeIfPresent(studentId, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /* items created after warm-up are loaded on first use */
+    private ItemLedger ledger(Long merchVariantItemId) {
+        if (merchVariantItemId == null) {
+            return null;
+        }
+        ItemLedger ledger = ledgers.get(merchVariantItemId);
+        if (ledger != null) {
+            return ledger;
+        }
+        Integer stock = orderCheckoutRepository.readStock(List.of(merchVariantItemId)).get(merchVariantItemId);
+        return stock != null ? ledgers.computeIfAbsent(merchVariantItemId, k -> new ItemLedger(stock)) : null;
+    }
+
+    private static String holdKey(String studentId, Long merchVariantItemId) {
+        return studentId + ":" + merchVariantItemId;
+    }
+
+    private static final class ItemLedger {
+        private final AtomicInteger stock;
+        private final AtomicInteger held = new AtomicInteger();
+
+        private ItemLedger(int stock) {
+            this.stock = new AtomicInteger(stock);
+        }
+
+        private int available() {
+            return stock.get() - held.get();
+        }
+
+        /* CAS loop: never lets held exceed stock */
+        private boolean tryReserve(int quantity) {
+            while (true) {
+                int current = held.get();
+                if (stock.get() - current < quantity) {
+                    return false;
+                }
+                if (held.compareAndSet(current, current + quantity)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    /* accessed only by the thread running the transaction */
+    private final class PendingChanges implements TransactionSynchronization {
+        /* hold key -> hold before the transaction first changed it (null when there was none) */
+        private final Map<String, Hold> originals = new HashMap<>();
+        private final List<Runnable> onCommit = new ArrayList<>();
+
+        private void recordOriginal(String holdKey, Hold original) {
+            if (!originals.containsKey(holdKey)) {
+                originals.put(holdKey, original);
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            onCommit.forEach(Runnable::run);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(InventoryReservationServiceImpl.this);
+            if (status != STATUS_COMMITTED) {
+                originals.forEach(InventoryReservationServiceImpl.this::restoreHold);
+            }
+        }
+    }
+
+    private static final class Hold {
+        private final String studentId;
+        private final Long merchVariantItemId;
+        private final int quantity;
+        private final long expiresAt;
+
+        private Hold(String studentId, Long merchVariantItemId, int quantity, long expiresAt) {
+            this.studentId = studentId;
+            this.merchVariantItemId = merchVariantItemId;
+            this.quantity = quantity;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+}
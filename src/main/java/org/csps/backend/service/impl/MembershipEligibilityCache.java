@@ -0,0 +1,60 @@
+package org.csps.backend.service.impl;
+
+import java.time.Duration;
+
+import org.csps.backend.domain.enums.MerchType;
+import org.csps.backend.domain.enums.OrderStatus;
+import org.csps.backend.domain.events.CartChangedEvent;
+import org.csps.backend.domain.events.MembershipChangedEvent;
+import org.csps.backend.domain.events.StudentOrdersChangedEvent;
+import org.csps.backend.repository.StudentMembershipRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Per-student flag deciding whether MEMBERSHIP merch is hidden from the store:
+ * the student already is a member, has membership merch in the cart, or in a pending order.
+ * Computed by one combined query and kept for a short TTL; cart, order and membership changes
+ * of the student evict it after commit, so browsing costs at most one query per student per TTL.
+ */
+@Component
+public class MembershipEligibilityCache {
+
+    private final StudentMembershipRepository studentMembershipRepository;
+    private final Cache<String, Boolean> excluded;
+
+    public MembershipEligibilityCache(StudentMembershipRepository studentMembershipRepository,
+                                      @Value("${csps.merch.membership-eligibility.max-size:10000}") long maxSize,
+                                      @Value("${csps.merch.membership-eligibility.ttl-seconds:60}") long ttlSeconds) {
+        this.studentMembershipRepository = studentMembershipRepository;
+        this.excluded = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /* true when membership merch must not be offered to the student */
+    public boolean isMembershipExcluded(String studentId) {
+        return excluded.get(studentId, id -> studentMembershipRepository.hasMembershipOrPendingPurchase(
+                id, MerchType.MEMBERSHIP, OrderStatus.PENDING));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCartChanged(CartChangedEvent event) {
+        excluded.invalidateAll(event.getStudentIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrdersChanged(StudentOrdersChangedEvent event) {
+        excluded.invalidateAll(event.getStudentIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        excluded.invalidateAll(event.getStudentIds());
+    }
+}
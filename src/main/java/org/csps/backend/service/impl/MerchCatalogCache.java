@@ -0,0 +1,265 @@
+package org.csps.backend.service.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.csps.backend.domain.dtos.response.MerchDetailedResponseDTO;
+import org.csps.backend.domain.dtos.response.MerchSummaryResponseDTO;
+import org.csps.backend.domain.dtos.response.MerchVariantItemResponseDTO;
+import org.csps.backend.domain.dtos.response.MerchVariantResponseDTO;
+import org.csps.backend.domain.entities.Merch;
+import org.csps.backend.domain.enums.MerchType;
+import org.csps.backend.domain.events.MerchCatalogChangedEvent;
+import org.csps.backend.domain.events.StockChangedEvent;
+import org.csps.backend.mapper.MerchMapper;
+import org.csps.backend.repository.MerchRepository;
+import org.csps.backend.repository.OrderCheckoutRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Read-through cache of the active merch catalog for storefront listings.
+ * Catalog entries hold the parts that only change through admin edits (names, descriptions,
+ * variants, prices, images) and are evicted per merch by {@link MerchCatalogChangedEvent} after commit.
+ * Stock is never served from a catalog entry: every read overlays counts from a separate short-lived
+ * per-item cache that {@link StockChangedEvent} evicts, so checkouts never invalidate the catalog.
+ * Cached DTOs are never handed out; callers always get fresh copies they may modify.
+ * Hit/miss/eviction stats are published as cache.* meters tagged merch.catalog and merch.catalog.stock.
+ */
+@Component
+public class MerchCatalogCache {
+
+    private static final String ACTIVE_IDS = "active";
+
+    private final MerchRepository merchRepository;
+    private final MerchMapper merchMapper;
+    private final OrderCheckoutRepository orderCheckoutRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    /* merchId -> catalog data as loaded; stock fields in here are ignored */
+    private final Cache<Long, MerchDetailedResponseDTO> entries;
+    /* ordered ids of active merch, only reloaded when merch are created, archived or reverted */
+    private final Cache<String, List<Long>> activeIds;
+    /* merchVariantItemId -> stock quantity */
+    private final Cache<Long, Integer> stock;
+
+    public MerchCatalogCache(MerchRepository merchRepository,
+                             MerchMapper merchMapper,
+                             OrderCheckoutRepository orderCheckoutRepository,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${csps.merch-catalog.max-size:1000}") long maxSize,
+                             @Value("${csps.merch-catalog.ttl-seconds:3600}") long ttlSeconds,
+                             @Value("${csps.merch-catalog.stock-max-size:20000}") long stockMaxSize,
+                             @Value("${csps.merch-catalog.stock-ttl-seconds:5}") long stockTtlSeconds) {
+        this.merchRepository = merchRepository;
+        this.merchMapper = merchMapper;
+        this.orderCheckoutRepository = orderCheckoutRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+
+        /* the ttl only bounds staleness from writes that bypass the merch services */
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.activeIds = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.stock = Caffeine.newBuilder()
+                .maximumSize(stockMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(stockTtlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "merch.catalog");
+        CaffeineCacheMetrics.monitor(meterRegistry, stock, "merch.catalog.stock");
+    }
+
+    /* every active merch with variants and items, ordered by id; the returned list is mutable */
+    public List<MerchDetailedResponseDTO> getAllMerch() {
+        List<MerchDetailedResponseDTO> catalog = activeEntries();
+        Map<Long, Integer> live = liveStock(catalog);
+
+        List<MerchDetailedResponseDTO> result = new ArrayList<>(catalog.size());
+        for (MerchDetailedResponseDTO merch : catalog) {
+            result.add(withStock(merch, live));
+        }
+        return result;
+    }
+
+    public Optional<MerchDetailedResponseDTO> getMerch(Long merchId) {
+        if (merchId == null) {
+            return Optional.empty();
+        }
+        MerchDetailedResponseDTO merch = entries.get(merchId, this::loadOne);
+        if (merch == null) {
+            return Optional.empty();
+        }
+        return Optional.of(withStock(merch, liveStock(List.of(merch))));
+    }
+
+    /* summaries of every active merch, or only those of the given type when merchType is set */
+    public List<MerchSummaryResponseDTO> getSummaries(MerchType merchType) {
+        List<MerchDetailedResponseDTO> catalog = activeEntries();
+        if (merchType != null) {
+            catalog = catalog.stream().filter(m -> m.getMerchType() == merchType).toList();
+        }
+        Map<Long, Integer> live = liveStock(catalog);
+
+        List<MerchSummaryResponseDTO> result = new ArrayList<>(catalog.size());
+        for (MerchDetailedResponseDTO merch : catalog) {
+            result.add(toSummary(merch, live));
+        }
+        return result;
+    }
+
+    /* live stock of the given items from the short-lived stock cache; deleted items are absent */
+    public Map<Long, Integer> getStock(Collection<Long> merchVariantItemIds) {
+        if (merchVariantItemIds.isEmpty()) {
+            return Map.of();
+        }
+        return stock.getAll(merchVariantItemIds, missing -> orderCheckoutRepository.readStock(List.copyOf(missing)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(MerchCatalogChangedEvent event) {
+        if (event.getMerchId() != null) {
+            entries.invalidate(event.getMerchId());
+        }
+        if (event.isListingChanged()) {
+            activeIds.invalidateAll();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        stock.invalidateAll(event.getMerchVariantItemIds());
+    }
+
+    private List<MerchDetailedResponseDTO> activeEntries() {
+        List<Long> ids = activeIds.get(ACTIVE_IDS, key -> merchRepository.findActiveIds());
+
+        /* only merch missing from the cache are loaded, all in one query */
+        Map<Long, MerchDetailedResponseDTO> loaded = entries.getAll(ids, this::loadAll);
+        List<MerchDetailedResponseDTO> catalog = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            MerchDetailedResponseDTO merch = loaded.get(id);
+            if (merch != null) {
+                catalog.add(merch);
+            }
+        }
+        return catalog;
+    }
+
+    private MerchDetailedResponseDTO loadOne(Long merchId) {
+        return loadAll(Set.of(merchId)).get(merchId);
+    }
+
+    /* variants and items come in through the SUBSELECT fetches, so this is three queries for any number of merch */
+    private Map<Long, MerchDetailedResponseDTO> loadAll(Set<? extends Long> merchIds) {
+        return readOnlyTransactionTemplate.execute(status -> {
+            Map<Long, MerchDetailedResponseDTO> loaded = new HashMap<>();
+            for (Merch merch : merchRepository.findActiveByIdIn(List.copyOf(merchIds))) {
+                loaded.put(merch.getMerchId(), merchMapper.toDetailedResponseDTO(merch));
+            }
+            return loaded;
+        });
+    }
+
+    private Map<Long, Integer> liveStock(List<MerchDetailedResponseDTO> catalog) {
+        List<Long> itemIds = new ArrayList<>();
+        for (MerchDetailedResponseDTO merch : catalog) {
+            for (MerchVariantResponseDTO variant : nullToEmpty(merch.getVariants())) {
+                for (MerchVariantItemResponseDTO item : nullToEmpty(variant.getVariantItems())) {
+                    itemIds.add(item.getMerchVariantItemId());
+                }
+            }
+        }
+        return getStock(itemIds);
+    }
+
+    private static MerchDetailedResponseDTO withStock(MerchDetailedResponseDTO merch, Map<Long, Integer> live) {
+        List<MerchVariantResponseDTO> variants = null;
+        if (merch.getVariants() != null) {
+            variants = new ArrayList<>(merch.getVariants().size());
+            for (MerchVariantResponseDTO variant : merch.getVariants()) {
+                variants.add(withStock(variant, live));
+            }
+        }
+        return MerchDetailedResponseDTO.builder()
+                .merchId(merch.getMerchId())
+                .merchName(merch.getMerchName())
+                .description(merch.getDescription())
+                .merchType(merch.getMerchType())
+                .basePrice(merch.getBasePrice())
+                .s3ImageKey(merch.getS3ImageKey())
+                .variants(variants)
+                .build();
+    }
+
+    private static MerchVariantResponseDTO withStock(MerchVariantResponseDTO variant, Map<Long, Integer> live) {
+        List<MerchVariantItemResponseDTO> items = null;
+        if (variant.getVariantItems() != null) {
+            items = new ArrayList<>(variant.getVariantItems().size());
+            for (MerchVariantItemResponseDTO item : variant.getVariantItems()) {
+                items.add(MerchVariantItemResponseDTO.builder()
+                        .merchVariantItemId(item.getMerchVariantItemId())
+                        .size(item.getSize())
+                        .stockQuantity(live.getOrDefault(item.getMerchVariantItemId(), 0))
+                        .price(item.getPrice())
+                        .s3ImageKey(item.getS3ImageKey())
+                        .build());
+            }
+        }
+        /* same as MerchVariantMapper: the variant shows its first item's stock */
+        return MerchVariantResponseDTO.builder()
+                .merchVariantId(variant.getMerchVariantId())
+                .color(variant.getColor())
+                .design(variant.getDesign())
+                .price(variant.getPrice())
+                .stockQuantity(items == null || items.isEmpty() ? null : items.get(0).getStockQuantity())
+                .s3ImageKey(variant.getS3ImageKey())
+                .variantItems(items)
+                .build();
+    }
+
+    private static MerchSummaryResponseDTO toSummary(MerchDetailedResponseDTO merch, Map<Long, Integer> live) {
+        int totalStock = 0;
+        for (MerchVariantResponseDTO variant : nullToEmpty(merch.getVariants())) {
+            for (MerchVariantItemResponseDTO item : nullToEmpty(variant.getVariantItems())) {
+                totalStock += live.getOrDefault(item.getMerchVariantItemId(), 0);
+            }
+        }
+        return MerchSummaryResponseDTO.builder()
+                .merchId(merch.getMerchId())
+                .merchName(merch.getMerchName())
+                .description(merch.getDescription())
+                .merchType(merch.getMerchType())
+                .basePrice(merch.getBasePrice())
+                .s3ImageKey(merch.getS3ImageKey())
+                .totalStockQuantity(totalStock)
+                .build();
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return list != null ? list : List.of();
+    }
+}
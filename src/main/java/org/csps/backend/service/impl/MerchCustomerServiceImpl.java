@@ -1,8 +1,15 @@
 package org.csps.backend.service.impl;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.csps.backend.domain.dtos.request.BulkMerchPaymentRequestDTO;
 import org.csps.backend.domain.dtos.request.BulkPaymentEntryDTO;
@@ -10,10 +17,11 @@ import org.csps.backend.domain.dtos.response.MerchCustomerResponseDTO;
 import org.csps.backend.domain.dtos.response.OrderResponseDTO;
 import org.csps.backend.domain.entities.MerchVariantItem;
 import org.csps.backend.domain.entities.Order;
-import org.csps.backend.domain.entities.OrderItem;
 import org.csps.backend.domain.entities.Student;
 import org.csps.backend.domain.enums.MerchType;
 import org.csps.backend.domain.enums.OrderStatus;
+import org.csps.backend.domain.events.OrderClaimChangedEvent;
+import org.csps.backend.domain.events.StockChangedEvent;
 import org.csps.backend.exception.InvalidRequestException;
 import org.csps.backend.exception.MerchNotFoundException;
 import org.csps.backend.exception.StudentNotFoundException;
@@ -21,10 +29,14 @@ import org.csps.backend.mapper.OrderMapper;
 import org.csps.backend.repository.CartItemRepository;
 import org.csps.backend.repository.MerchRepository;
 import org.csps.backend.repository.MerchVariantItemRepository;
+import org.csps.backend.repository.OrderCheckoutRepository;
+import org.csps.backend.repository.OrderCheckoutRepository.CheckoutLine;
 import org.csps.backend.repository.OrderItemRepository;
 import org.csps.backend.repository.OrderRepository;
 import org.csps.backend.repository.StudentRepository;
 import org.csps.backend.service.MerchCustomerService;
+import org.csps.backend.service.SalesRollupService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -41,17 +53,22 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class MerchCustomerServiceImpl implements MerchCustomerService {
 
+    private static final String CUSTOMER_CSV_HEADER = "studentId,studentName,yearLevel,merchName,color,design,size,quantity,totalPrice,orderStatus,orderDate";
+
     private final OrderItemRepository orderItemRepository;
     private final OrderRepository orderRepository;
+    private final OrderCheckoutRepository orderCheckoutRepository;
     private final StudentRepository studentRepository;
     private final MerchVariantItemRepository merchVariantItemRepository;
     private final MerchRepository merchRepository;
     private final CartItemRepository cartItemRepository;
     private final OrderMapper orderMapper;
+    private final SalesRollupService salesRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Retrieves a paginated list of customers (order items) who purchased a specific merch.
-     * Uses EntityGraph on the repository to eagerly load student profile, order, and merch details.
+     * Rows are projected straight into DTOs; only the displayed columns are selected.
      *
      * @param merchId  the merch ID to look up customers for
      * @param pageable pagination details (page, size, sort)
@@ -60,8 +77,7 @@ public class MerchCustomerServiceImpl implements MerchCustomerService {
     @Override
     public Page<MerchCustomerResponseDTO> getCustomersByMerchId(Long merchId, Pageable pageable) {
         validateMerchExists(merchId);
-        Page<OrderItem> orderItems = orderItemRepository.findByMerchId(merchId, pageable);
-        return orderItems.map(this::mapToMerchCustomerDTO);
+        return orderItemRepository.findCustomerViewsByMerchId(merchId, pageable);
     }
 
     /**
@@ -76,8 +92,7 @@ public class MerchCustomerServiceImpl implements MerchCustomerService {
     @Override
     public Page<MerchCustomerResponseDTO> getCustomersByMerchIdAndStatus(Long merchId, OrderStatus status, Pageable pageable) {
         validateMerchExists(merchId);
-        Page<OrderItem> orderItems = orderItemRepository.findByMerchIdAndOrderStatus(merchId, status, pageable);
-        return orderItems.map(this::mapToMerchCustomerDTO);
+        return orderItemRepository.findCustomerViewsByMerchIdAndStatus(merchId, status, pageable);
     }
 
     /**
@@ -96,9 +111,9 @@ public class MerchCustomerServiceImpl implements MerchCustomerService {
     /**
      * Batch-creates orders for multiple students who already paid for a specific merch.
      * Each entry contains a studentId and the actual orderDate (preserving real purchase dates).
-     * Uses a batch-save approach: all Order and OrderItem entities are collected
-     * into temporary lists, then persisted in two bulk saveAll() calls instead
-     * of N+1 individual saves. Stock is decremented once at the end.
+     * Students are loaded in one query, Orders are saved as JDBC insert batches (pooled ids)
+     * and all OrderItems go in one multi-row INSERT, instead of N+1 individual saves.
+     * Stock is reserved once upfront with an atomic decrement.
      *
      * @param requestDTO contains entries (studentId+orderDate pairs), merchVariantItemId, and quantity
      * @return list of created OrderResponseDTOs (one per student)
@@ -109,30 +124,38 @@ public class MerchCustomerServiceImpl implements MerchCustomerService {
     @Override
     @Transactional
     public List<OrderResponseDTO> recordBulkMerchPayment(BulkMerchPaymentRequestDTO requestDTO) {
-        /* validate MerchVariantItem exists with pessimistic write lock to prevent concurrent updates */
-        MerchVariantItem merchVariantItem = merchVariantItemRepository.findByIdWithLock(requestDTO.getMerchVariantItemId())
+        /* validate MerchVariantItem exists */
+        MerchVariantItem merchVariantItem = merchVariantItemRepository.findById(requestDTO.getMerchVariantItemId())
                 .orElseThrow(() -> new MerchNotFoundException(
                         "MerchVariantItem not found with ID: " + requestDTO.getMerchVariantItemId()));
 
         int quantityPerStudent = requestDTO.getQuantity() != null ? requestDTO.getQuantity() : 1;
         double pricePerItem = merchVariantItem.getPrice();
 
-        /* validate total stock upfront before any persistence */
+        /* reserve total stock upfront with one conditional UPDATE; rolled back if anything below fails */
         int totalStockNeeded = quantityPerStudent * requestDTO.getEntries().size();
-        if (merchVariantItem.getStockQuantity() < totalStockNeeded) {
+        if (merchVariantItemRepository.decrementStock(merchVariantItem.getMerchVariantItemId(), totalStockNeeded) == 0) {
+            /* the loaded entity may predate concurrent sales, so quote the stock as it is now */
+            int available = orderCheckoutRepository.readStock(List.of(merchVariantItem.getMerchVariantItemId()))
+                    .getOrDefault(merchVariantItem.getMerchVariantItemId(), 0);
             throw new InvalidRequestException(
-                    "Insufficient stock. Available: " + merchVariantItem.getStockQuantity()
-                            + ", Required: " + totalStockNeeded);
+                    "Insufficient stock. Available: " + available + ", Required: " + totalStockNeeded);
         }
 
         try {
-            /* PHASE 1: Build all Order entities using each entry's actual orderDate */
+            /* PHASE 1: Build all Order entities using each entry's actual orderDate; students are loaded in one query */
             List<Order> ordersToSave = new ArrayList<>();
             LocalDateTime now = LocalDateTime.now();
+            Map<String, Student> studentsById = studentRepository.findAllById(requestDTO.getEntries().stream()
+                            .map(BulkPaymentEntryDTO::getStudentId)
+                            .collect(Collectors.toSet())).stream()
+                    .collect(Collectors.toMap(Student::getStudentId, Function.identity()));
 
             for (BulkPaymentEntryDTO entry : requestDTO.getEntries()) {
-                Student student = studentRepository.findByStudentId(entry.getStudentId())
-                        .orElseThrow(() -> new StudentNotFoundException("Student not found with ID: " + entry.getStudentId()));
+                Student student = studentsById.get(entry.getStudentId());
+                if (student == null) {
+                    throw new StudentNotFoundException("Student not found with ID: " + entry.getStudentId());
+                }
 
                 Order order = Order.builder()
                         .student(student)
@@ -146,30 +169,19 @@ public class MerchCustomerServiceImpl implements MerchCustomerService {
                 ordersToSave.add(order);
             }
 
-            /* PHASE 2: Batch-save all Orders in one round-trip */
-            List<Order> savedOrders = orderRepository.saveAll(ordersToSave);
-
-            /* PHASE 3: Build all OrderItem entities referencing their saved Orders */
-            List<OrderItem> orderItemsToSave = new ArrayList<>();
-
-            for (Order savedOrder : savedOrders) {
-                OrderItem orderItem = OrderItem.builder()
-                        .order(savedOrder)
-                        .merchVariantItem(merchVariantItem)
-                        .quantity(quantityPerStudent)
-                        .priceAtPurchase(pricePerItem)
-                        .orderStatus(OrderStatus.TO_BE_CLAIMED)
-                        .build();
-
-                orderItemsToSave.add(orderItem);
-            }
+            /* PHASE 2: Save all Orders; pooled ids let Hibernate send them as JDBC batches on flush */
+            List<Order> savedOrders = orderRepository.saveAllAndFlush(ordersToSave);
+            List<Long> orderIds = savedOrders.stream().map(Order::getOrderId).toList();
 
-            /* PHASE 4: Batch-save all OrderItems in one round-trip */
-            orderItemRepository.saveAll(orderItemsToSave);
+            /* PHASE 3: one OrderItem per saved Order with a single multi-row INSERT */
+            orderCheckoutRepository.insertSingleLineOrders(orderIds,
+                    new CheckoutLine(merchVariantItem.getMerchVariantItemId(), quantityPerStudent, pricePerItem),
+                    OrderStatus.TO_BE_CLAIMED, now);
 
-            /* PHASE 5: Decrement stock once and persist (pessimistic lock already held) */
-            merchVariantItem.setStockQuantity(merchVariantItem.getStockQuantity() - totalStockNeeded);
-            merchVariantItemRepository.save(merchVariantItem);
+            /* PHASE 4: orders are recorded as already CLAIMED, so add them to the sales rollup in one statement */
+            salesRollupService.recordClaimed(orderIds);
+            eventPublisher.publishEvent(new OrderClaimChangedEvent(orderIds, true));
+            eventPublisher.publishEvent(new StockChangedEvent(List.of(merchVariantItem.getMerchVariantItemId())));
 
             /* Map saved orders to response DTOs */
             return savedOrders.stream()
@@ -209,45 +221,31 @@ public class MerchCustomerServiceImpl implements MerchCustomerService {
     @Override
     public List<MerchCustomerResponseDTO> getAllCustomersByMerchId(Long merchId) {
         validateMerchExists(merchId);
-        List<OrderItem> orderItems = orderItemRepository.findAllByMerchId(merchId);
-        return orderItems.stream()
-                .map(this::mapToMerchCustomerDTO)
-                .toList();
+        return orderItemRepository.findAllCustomerViewsByMerchId(merchId);
     }
 
     /**
-     * Maps an OrderItem entity to a MerchCustomerResponseDTO.
-     * Extracts student profile data, merch variant details, and order info
-     * into a flat DTO suitable for admin views.
+     * Streams a merch's customers as CSV from a forward-only cursor.
+     * Rows are DTO projections, so nothing accumulates in the persistence context while the export runs.
      *
-     * @param orderItem the order item entity to map
-     * @return populated MerchCustomerResponseDTO
+     * @param merchId      the merch ID to export customers for
+     * @param outputStream response body to write to
+     * @param gzip         whether to gzip the CSV
      */
-    private MerchCustomerResponseDTO mapToMerchCustomerDTO(OrderItem orderItem) {
-        var order = orderItem.getOrder();
-        var student = order.getStudent();
-        var userProfile = student.getUserAccount().getUserProfile();
-        var merchVariantItem = orderItem.getMerchVariantItem();
-        var merchVariant = merchVariantItem.getMerchVariant();
-        var merch = merchVariant.getMerch();
-
-        String studentName = (userProfile.getFirstName() != null ? userProfile.getFirstName() : "")
-                + " " + (userProfile.getLastName() != null ? userProfile.getLastName() : "");
-
-        return MerchCustomerResponseDTO.builder()
-                .studentId(student.getStudentId())
-                .studentName(studentName.trim())
-                .yearLevel(student.getYearLevel())
-                .merchName(merch.getMerchName())
-                .color(merchVariant.getColor())
-                .design(merchVariant.getDesign())
-                .size(merchVariantItem.getSize())
-                .quantity(orderItem.getQuantity())
-                .totalPrice(orderItem.getPriceAtPurchase() * orderItem.getQuantity())
-                .orderStatus(orderItem.getOrderStatus())
-                .orderDate(order.getOrderDate())
-                .s3ImageKey(merchVariant.getS3ImageKey())
-                .build();
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCustomersByMerchIdCsv(Long merchId, OutputStream outputStream, boolean gzip) throws IOException {
+        validateMerchExists(merchId);
+        try (CsvWriter csv = CsvWriter.open(outputStream, gzip, CUSTOMER_CSV_HEADER);
+             Stream<MerchCustomerResponseDTO> rows = orderItemRepository.streamCustomerViewsByMerchId(merchId)) {
+            Iterator<MerchCustomerResponseDTO> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                MerchCustomerResponseDTO row = iterator.next();
+                csv.row(row.getStudentId(), row.getStudentName(), row.getYearLevel(), row.getMerchName(),
+                        row.getColor(), row.getDesign(), row.getSize(), row.getQuantity(), row.getTotalPrice(),
+                        row.getOrderStatus(), row.getOrderDate());
+            }
+        }
     }
 
     /**
@@ -2,7 +2,6 @@
 
 import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.csps.backend.domain.dtos.request.MerchRequestDTO;
 import org.csps.backend.domain.dtos.request.MerchUpdateRequestDTO;
@@ -12,22 +11,18 @@ import org.csps.backend.domain.dtos.response.MerchDetailedResponseDTO;
 import org.csps.backend.domain.dtos.response.MerchSummaryResponseDTO;
 import org.csps.backend.domain.entities.Merch;
 import org.csps.backend.domain.enums.MerchType;
-import org.csps.backend.domain.enums.OrderStatus;
+import org.csps.backend.domain.events.MerchCatalogChangedEvent;
 import org.csps.backend.exception.InvalidRequestException;
 import org.csps.backend.exception.MerchAlreadyExistException;
 import org.csps.backend.exception.MerchNotFoundException;
 import org.csps.backend.mapper.MerchMapper;
-import org.csps.backend.repository.CartItemRepository;
 import org.csps.backend.repository.MerchRepository;
-import org.csps.backend.repository.OrderItemRepository;
-import org.csps.backend.repository.StudentMembershipRepository;
 import org.csps.backend.service.MerchService;
 import org.csps.backend.service.MerchVariantItemService;
 import org.csps.backend.service.MerchVariantService;
 import org.csps.backend.service.S3Service;
 import org.csps.backend.service.StudentService;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -40,6 +35,7 @@ import lombok.RequiredArgsConstructor;
  * Manages merch creation, retrieval, and updates.
  * Delegates variant operations to MerchVariantService.
  * Delegates item-level (size/stock) operations to MerchVariantItemService.
+ * Storefront reads go through MerchCatalogCache; mutations publish MerchCatalogChangedEvent to evict it.
  */
 @Service
 @RequiredArgsConstructor
@@ -50,10 +46,10 @@ public class MerchServiceImpl implements MerchService {
     private final S3Service s3Service;
     private final MerchVariantService merchVariantService;
     private final MerchVariantItemService merchVariantItemService;
-    private final StudentMembershipRepository studentMembershipRepository;
-    private final CartItemRepository cartItemRepository;
-    private final OrderItemRepository orderItemRepository;
     private final StudentService studentService;
+    private final MerchCatalogCache merchCatalogCache;
+    private final MembershipEligibilityCache membershipEligibilityCache;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Override
@@ -136,22 +132,18 @@ public class MerchServiceImpl implements MerchService {
         Merch finalMerch = merchRepository.findById(savedMerch.getMerchId())
                 .orElseThrow(() -> new MerchNotFoundException("Merch not found"));
 
+        eventPublisher.publishEvent(new MerchCatalogChangedEvent(finalMerch.getMerchId(), true));
         return merchMapper.toDetailedResponseDTO(finalMerch);
     }
 
     @Override
     public List<MerchDetailedResponseDTO> getAllMerch() {
-        List<MerchDetailedResponseDTO> allMerch = merchRepository.findAll().stream()
-                .map(merchMapper::toDetailedResponseDTO)
-                .collect(Collectors.toList());
+        List<MerchDetailedResponseDTO> allMerch = merchCatalogCache.getAllMerch();
 
         String studentId = studentService.getCurrentStudentId();
         if (studentId != null) {
-            // combine membership checks: active membership, in cart, or in pending order
-            boolean shouldExcludeMembership = studentMembershipRepository.hasActiveMembership(studentId)
-                    || cartItemRepository.existsByStudentIdAndMerchType(studentId, MerchType.MEMBERSHIP)
-                    || orderItemRepository.existsByStudentIdAndMerchTypeAndStatus(studentId, MerchType.MEMBERSHIP, OrderStatus.PENDING);
-
+            // active membership, membership in cart or in a pending order (one cached query)
+            boolean shouldExcludeMembership = membershipEligibilityCache.isMembershipExcluded(studentId);
             if (shouldExcludeMembership) {
                 allMerch.removeIf(m -> m.getMerchType() == MerchType.MEMBERSHIP);
             }
@@ -161,15 +153,12 @@ public class MerchServiceImpl implements MerchService {
 
     @Override
     public List<MerchSummaryResponseDTO> getAllMerchSummaries() {
-        List<MerchSummaryResponseDTO> summaries = merchRepository.findAllSummaries();
+        List<MerchSummaryResponseDTO> summaries = merchCatalogCache.getSummaries(null);
         String studentId = studentService.getCurrentStudentId();
         
         if (studentId != null) {
-            // combine membership checks: active membership, in cart, or in pending order
-            boolean shouldExcludeMembership = studentMembershipRepository.hasActiveMembership(studentId) 
-                    || cartItemRepository.existsByStudentIdAndMerchType(studentId, MerchType.MEMBERSHIP)
-                    || orderItemRepository.existsByStudentIdAndMerchTypeAndStatus(studentId, MerchType.MEMBERSHIP, OrderStatus.PENDING);
-
+            // active membership, membership in cart or in a pending order (one cached query)
+            boolean shouldExcludeMembership = membershipEligibilityCache.isMembershipExcluded(studentId);
             if (shouldExcludeMembership) {
                 return summaries.stream()
                     .filter(m -> m.getMerchType() != MerchType.MEMBERSHIP)
@@ -181,9 +170,8 @@ public class MerchServiceImpl implements MerchService {
 
     @Override
     public MerchDetailedResponseDTO getMerchById(Long id) {
-        Merch merch = merchRepository.findById(id)
+        return merchCatalogCache.getMerch(id)
                 .orElseThrow(() -> new MerchNotFoundException("Merch not found with id: " + id));
-        return merchMapper.toDetailedResponseDTO(merch);
     }
 
     @Override
@@ -194,17 +182,14 @@ public class MerchServiceImpl implements MerchService {
 
         String studentId = studentService.getCurrentStudentId();
         if (studentId != null && merchType == MerchType.MEMBERSHIP) {
-            // combine membership checks: active membership, in cart, or in pending order
-            boolean shouldExcludeMembership = studentMembershipRepository.hasActiveMembership(studentId)
-                    || cartItemRepository.existsByStudentIdAndMerchType(studentId, MerchType.MEMBERSHIP)
-                    || orderItemRepository.existsByStudentIdAndMerchTypeAndStatus(studentId, MerchType.MEMBERSHIP, OrderStatus.PENDING);
-            
+            // active membership, membership in cart or in a pending order (one cached query)
+            boolean shouldExcludeMembership = membershipEligibilityCache.isMembershipExcluded(studentId);
             if (shouldExcludeMembership) {
                 return List.of();
             }
         }
 
-        return merchRepository.findAllSummaryByType(merchType);
+        return merchCatalogCache.getSummaries(merchType);
     }
 
     @Override
@@ -233,6 +218,7 @@ public class MerchServiceImpl implements MerchService {
         foundMerch.setMerchType(merchUpdateRequestDTO.getMerchType());
 
         Merch updated = merchRepository.save(foundMerch);
+        eventPublisher.publishEvent(new MerchCatalogChangedEvent(merchId, false));
         return merchMapper.toDetailedResponseDTO(updated);
     }
 
@@ -259,6 +245,7 @@ public class MerchServiceImpl implements MerchService {
         }
 
         Merch updated = merchRepository.save(foundMerch);
+        eventPublisher.publishEvent(new MerchCatalogChangedEvent(merchId, false));
         return merchMapper.toDetailedResponseDTO(updated);    
     }
 
@@ -272,6 +259,7 @@ public class MerchServiceImpl implements MerchService {
         // soft delete: mark as inactive instead of hard delete
         merch.setIsActive(false);
         merchRepository.save(merch);
+        eventPublisher.publishEvent(new MerchCatalogChangedEvent(merchId, true));
     }
 
     @Override
@@ -295,6 +283,7 @@ public class MerchServiceImpl implements MerchService {
 
         merch.setIsActive(true);
         Merch reverted = merchRepository.save(merch);
+        eventPublisher.publishEvent(new MerchCatalogChangedEvent(merchId, true));
         return merchMapper.toDetailedResponseDTO(reverted);
     }
 }
\ No newline at end of file
@@ -9,6 +9,8 @@ import org.csps.backend.domain.entities.Merch;
 import org.csps.backend.domain.entities.MerchVariant;
 import org.csps.backend.domain.entities.MerchVariantItem;
 import org.csps.backend.domain.enums.ClothingSizing;
+import org.csps.backend.domain.events.MerchCatalogChangedEvent;
+import org.csps.backend.domain.events.StockChangedEvent;
 import org.csps.backend.domain.enums.MerchType;
 import org.csps.backend.exception.InvalidRequestException;
 import org.csps.backend.exception.MerchVariantNotFoundException;
@@ -16,7 +18,7 @@ import org.csps.backend.mapper.MerchVariantItemMapper;
 import org.csps.backend.repository.MerchVariantItemRepository;
 import org.csps.backend.repository.MerchVariantRepository;
 import org.csps.backend.service.MerchVariantItemService;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import jakarta.transaction.Transactional;
@@ -29,6 +31,7 @@ public class MerchVariantItemServiceImpl implements MerchVariantItemService {
     private final MerchVariantItemRepository itemRepository;
     private final MerchVariantRepository variantRepository;
     private final MerchVariantItemMapper itemMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -83,6 +86,8 @@ public class MerchVariantItemServiceImpl implements MerchVariantItemService {
                 .build();
 
         MerchVariantItem saved = itemRepository.save(item);
+        eventPublisher.publishEvent(new StockChangedEvent(List.of(saved.getMerchVariantItemId())));
+        eventPublisher.publishEvent(new MerchCatalogChangedEvent(merch.getMerchId(), false));
         return itemMapper.toResponseDto(saved);
     }
 
@@ -159,6 +164,8 @@ public class MerchVariantItemServiceImpl implements MerchVariantItemService {
 
         // Batch save all items in a single query
         List<MerchVariantItem> saved = itemRepository.saveAll(itemsToSave);
+        eventPublisher.publishEvent(new StockChangedEvent(saved.stream().map(MerchVariantItem::getMerchVariantItemId).toList()));
+        eventPublisher.publishEvent(new MerchCatalogChangedEvent(merch.getMerchId(), false));
         
         return saved.stream()
                 .map(itemMapper::toResponseDto)
@@ -201,6 +208,7 @@ public class MerchVariantItemServiceImpl implements MerchVariantItemService {
 
         item.setStockQuantity(newQuantity);
         MerchVariantItem updated = itemRepository.save(item);
+        eventPublisher.publishEvent(new StockChangedEvent(List.of(merchVariantItemId)));
         return itemMapper.toResponseDto(updated);
     }
 
@@ -216,6 +224,7 @@ public class MerchVariantItemServiceImpl implements MerchVariantItemService {
 
         item.setPrice(newPrice);
         MerchVariantItem updated = itemRepository.save(item);
+        eventPublisher.publishEvent(new MerchCatalogChangedEvent(item.getMerchVariant().getMerch().getMerchId(), false));
         return itemMapper.toResponseDto(updated);
     }
 
@@ -223,10 +232,11 @@ public class MerchVariantItemServiceImpl implements MerchVariantItemService {
     @Override
     @Transactional
     public void deleteItem(Long merchVariantItemId) {
-        if (!itemRepository.existsById(merchVariantItemId)) {
-            throw new InvalidRequestException("MerchVariantItem not found with id: " + merchVariantItemId);
-        }
-        itemRepository.deleteById(merchVariantItemId);
+        MerchVariantItem item = itemRepository.findById(merchVariantItemId)
+                .orElseThrow(() -> new InvalidRequestException("MerchVariantItem not found with id: " + merchVariantItemId));
+        itemRepository.delete(item);
+        eventPublisher.publishEvent(new StockChangedEvent(List.of(merchVariantItemId)));
+        eventPublisher.publishEvent(new MerchCatalogChangedEvent(item.getMerchVariant().getMerch().getMerchId(), false));
     }
 
     @Override
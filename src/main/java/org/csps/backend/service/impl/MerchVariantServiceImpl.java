@@ -8,6 +8,7 @@ import org.csps.backend.domain.dtos.response.MerchVariantResponseDTO;
 import org.csps.backend.domain.entities.Merch;
 import org.csps.backend.domain.entities.MerchVariant;
 import org.csps.backend.domain.enums.MerchType;
+import org.csps.backend.domain.events.MerchCatalogChangedEvent;
 import org.csps.backend.exception.InvalidRequestException;
 import org.csps.backend.exception.MerchNotFoundException;
 import org.csps.backend.exception.MerchVariantAlreadyExisted;
@@ -19,7 +20,7 @@ import org.csps.backend.repository.OrderItemRepository;
 import org.csps.backend.service.MerchVariantItemService;
 import org.csps.backend.service.MerchVariantService;
 import org.csps.backend.service.S3Service;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -41,6 +42,7 @@ public class MerchVariantServiceImpl implements MerchVariantService {
     
     private final S3Service s3Service;
     private final MerchVariantItemService merchVariantItemService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -103,6 +105,8 @@ public class MerchVariantServiceImpl implements MerchVariantService {
             merchVariantItemService.addMultipleItemsToVariant(saved.getMerchVariantId(), dto.getVariantItems());
         }
 
+        eventPublisher.publishEvent(new MerchCatalogChangedEvent(merchId, false));
+
         return merchVariantMapper.toResponseDTO(saved);
     }
 
@@ -173,6 +177,7 @@ public class MerchVariantServiceImpl implements MerchVariantService {
         // Update variant with new S3 key
         variant.setS3ImageKey(s3ImageKey);
         merchVariantRepository.save(variant);
+        eventPublisher.publishEvent(new MerchCatalogChangedEvent(variant.getMerch().getMerchId(), false));
         
         return s3ImageKey;
     }
@@ -190,6 +195,7 @@ public class MerchVariantServiceImpl implements MerchVariantService {
         }
         
         merchVariantRepository.delete(variant);
+        eventPublisher.publishEvent(new MerchCatalogChangedEvent(variant.getMerch().getMerchId(), false));
 
         // Delete S3 image if not placeholder
         if (variant.getS3ImageKey() != null 
@@ -2,23 +2,33 @@ package org.csps.backend.service.impl;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 import org.csps.backend.domain.dtos.request.OrderItemRequestDTO;
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
 import org.csps.backend.domain.dtos.response.OrderItemResponseDTO;
 import org.csps.backend.domain.entities.MerchVariantItem;
 import org.csps.backend.domain.entities.Order;
 import org.csps.backend.domain.entities.OrderItem;
 import org.csps.backend.domain.enums.OrderStatus;
+import org.csps.backend.domain.events.OrderClaimChangedEvent;
+import org.csps.backend.domain.events.StockChangedEvent;
+import org.csps.backend.domain.events.StudentOrdersChangedEvent;
 import org.csps.backend.exception.InvalidRequestException;
 import org.csps.backend.exception.OrderItemNotFoundException;
 import org.csps.backend.exception.OrderNotFoundException;
+import org.csps.backend.exception.OutOfStockException;
 import org.csps.backend.mapper.OrderItemMapper;
 import org.csps.backend.repository.MerchVariantItemRepository;
 import org.csps.backend.repository.OrderItemRepository;
 import org.csps.backend.repository.OrderRepository;
+import org.csps.backend.security.CursorCodec;
 import org.csps.backend.service.OrderItemService;
 import org.csps.backend.service.OrderNotificationService;
+import org.csps.backend.service.SalesRollupService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -29,11 +39,16 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class OrderItemServiceImpl implements OrderItemService {
     
+    private static final String CURSOR_SCOPE = "my-order-items";
+    
     private final OrderItemRepository orderItemRepository;
     private final OrderRepository orderRepository;
     private final MerchVariantItemRepository merchVariantItemRepository;
     private final OrderItemMapper orderItemMapper;
     private final OrderNotificationService orderNotificationService;
+    private final CursorCodec cursorCodec;
+    private final SalesRollupService salesRollupService;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     @Transactional
@@ -46,30 +61,30 @@ public class OrderItemServiceImpl implements OrderItemService {
         Order order = orderRepository.findById(orderItemRequestDTO.getOrderId())
             .orElseThrow(() -> new OrderNotFoundException("Order not found"));
         
-        /* validate merch variant item exists and acquire pessimistic write lock to prevent concurrent stock updates */
-        MerchVariantItem merchVariantItem = merchVariantItemRepository.findByIdWithLock(orderItemRequestDTO.getMerchVariantItemId())
-            .orElseThrow(() -> new InvalidRequestException("MerchVariantItem not found"));
-        
-        /* extract merchVariantId from MerchVariantItem */
-        
         /* validate quantity */
         if (orderItemRequestDTO.getQuantity() == null || orderItemRequestDTO.getQuantity() <= 0) {
             throw new InvalidRequestException("Quantity must be greater than 0");
         }
         
-        /* validate sufficient stock */
-        if (orderItemRequestDTO.getQuantity() > merchVariantItem.getStockQuantity()) {
-            throw new InvalidRequestException("Insufficient stock. Available: " + merchVariantItem.getStockQuantity() + 
-                    ", Requested: " + orderItemRequestDTO.getQuantity());
-        }
-        
         /* validate price */
         if (orderItemRequestDTO.getPriceAtPurchase() == null || orderItemRequestDTO.getPriceAtPurchase() < 0) {
             throw new InvalidRequestException("Price at purchase must be non-negative");
         }
         
+        /* reserve stock with one conditional UPDATE instead of SELECT ... FOR UPDATE + read-modify-write */
+        Long merchVariantItemId = orderItemRequestDTO.getMerchVariantItemId();
+        int reserved = merchVariantItemRepository.decrementStock(merchVariantItemId, orderItemRequestDTO.getQuantity());
+        if (reserved == 0) {
+            if (merchVariantItemId == null || !merchVariantItemRepository.existsById(merchVariantItemId)) {
+                throw new InvalidRequestException("MerchVariantItem not found");
+            }
+            throw new OutOfStockException("Insufficient stock for requested quantity: " + orderItemRequestDTO.getQuantity());
+        }
+        
         try {
-            /* create order item with stock deduction to reserve inventory */
+            /* stock is already reserved, so the item only needs a reference for the FK */
+            MerchVariantItem merchVariantItem = merchVariantItemRepository.getReferenceById(merchVariantItemId);
+            
             OrderItem orderItem = OrderItem.builder()
                 .order(order)
                 .merchVariantItem(merchVariantItem)
@@ -79,17 +94,13 @@ public class OrderItemServiceImpl implements OrderItemService {
                 .build();
             
             OrderItem savedOrderItem = orderItemRepository.save(orderItem);
-            
-            /* deduct stock from MerchVariantItem (pessimistic lock already held) */
-            /* stock is reserved when order item is created */
-            int newStockQuantity = merchVariantItem.getStockQuantity() - orderItemRequestDTO.getQuantity();
-            merchVariantItem.setStockQuantity(newStockQuantity);
-            merchVariantItemRepository.save(merchVariantItem);
+            eventPublisher.publishEvent(new StockChangedEvent(List.of(merchVariantItemId)));
+            eventPublisher.publishEvent(new StudentOrdersChangedEvent(List.of(order.getStudent().getStudentId())));
             
             System.out.println("Order item created successfully. Stock deducted: " + orderItemRequestDTO.getQuantity());
             return orderItemMapper.toResponseDTO(savedOrderItem);
         } catch (Exception e) {
-            /* log error and rethrow to trigger transaction rollback */
+            /* log error and rethrow to trigger transaction rollback (also releases the stock reservation) */
             System.err.println("Error creating order item and deducting stock: " + e.getMessage());
             e.printStackTrace();
             throw new InvalidRequestException("Failed to create order item: " + e.getMessage());
@@ -131,8 +142,7 @@ public class OrderItemServiceImpl implements OrderItemService {
             throw new InvalidRequestException("Student ID is required");
         }
         
-        Page<OrderItem> orderItems = orderItemRepository.findByOrderStatusAndOrderStudentStudentId(status, studentId, pageable);
-        return orderItems.map(orderItemMapper::toResponseDTO);
+        return orderItemRepository.findItemViewsByStudentIdAndStatus(studentId, status, pageable);
 
     }
 
@@ -174,8 +184,7 @@ public class OrderItemServiceImpl implements OrderItemService {
             throw new InvalidRequestException("Student ID is required");
         }
         
-        Page<OrderItem> orderItems = orderItemRepository.findByOrderStudentStudentIdOrderByUpdatedAtDesc(studentId, pageable);
-        return orderItems.map(orderItemMapper::toResponseDTO);
+        return orderItemRepository.findItemViewsByStudentIdOrderByUpdatedAtDesc(studentId, null, pageable);
     }
 
     @Override
@@ -188,8 +197,24 @@ public class OrderItemServiceImpl implements OrderItemService {
             throw new InvalidRequestException("Order status is required");
         }
         
-        Page<OrderItem> orderItems = orderItemRepository.findByOrderStudentStudentIdAndOrderStatusOrderByUpdatedAtDesc(studentId, status, pageable);
-        return orderItems.map(orderItemMapper::toResponseDTO);
+        return orderItemRepository.findItemViewsByStudentIdOrderByUpdatedAtDesc(studentId, status, pageable);
+    }
+
+    @Override
+    public CursorPageResponseDTO<OrderItemResponseDTO> getOrderItemsByStudentIdByCursor(String studentId, OrderStatus status, String cursor, int size) {
+        if (studentId == null || studentId.isEmpty()) {
+            throw new InvalidRequestException("Student ID is required");
+        }
+        
+        /* cursor is bound to the student and filter it was issued for */
+        String scope = CURSOR_SCOPE + ":" + studentId + ":" + status;
+        int pageSize = CursorCodec.pageSize(size);
+        String[] parts = cursorCodec.decode(scope, cursor, 1);
+        List<OrderItemResponseDTO> rows = orderItemRepository.findItemViewsByStudentIdBefore(studentId, status,
+            parts != null ? CursorCodec.parseId(parts[0]) : null,
+            PageRequest.of(0, pageSize + 1));
+        return cursorCodec.toPage(scope, rows, pageSize,
+            item -> new Object[] { item.getOrderItemId() }, Function.identity());
     }
 
     @Override
@@ -207,21 +232,27 @@ public class OrderItemServiceImpl implements OrderItemService {
             .orElseThrow(() -> new OrderItemNotFoundException("Order item not found"));
         
         OrderStatus oldStatus = orderItem.getOrderStatus();
+        /* rejected items of a claimed order are not sales, so re-apply the order around the change */
+        Long orderId = orderItem.getOrder().getOrderId();
+        boolean rollupChanges = orderItem.getOrder().getOrderStatus() == OrderStatus.CLAIMED
+            && (status == OrderStatus.REJECTED) != (oldStatus == OrderStatus.REJECTED);
+        if (rollupChanges) {
+            salesRollupService.recordUnclaimed(List.of(orderId));
+        }
         
         try {
             /* restore stock only when transitioning TO REJECTED status (prevent duplicate restorations) */
             if (status == OrderStatus.REJECTED && oldStatus != OrderStatus.REJECTED) {
-                /* acquire pessimistic lock on merch variant item to ensure thread-safe stock restoration */
-                MerchVariantItem merchVariantItem = merchVariantItemRepository.findByIdWithLock(orderItem.getMerchVariantItem().getMerchVariantItemId())
-                    .orElseThrow(() -> new InvalidRequestException("MerchVariantItem not found during stock restoration"));
-                
-                /* restore stock when order is rejected */
-                int restoredStockQuantity = merchVariantItem.getStockQuantity() + orderItem.getQuantity();
-                merchVariantItem.setStockQuantity(restoredStockQuantity);
-                merchVariantItemRepository.save(merchVariantItem);
+                /* release reserved stock atomically, no read-modify-write on the item row */
+                int released = merchVariantItemRepository.incrementStock(
+                    orderItem.getMerchVariantItem().getMerchVariantItemId(), orderItem.getQuantity());
+                if (released == 0) {
+                    throw new InvalidRequestException("MerchVariantItem not found during stock restoration");
+                }
                 
                 System.out.println("Stock restored due to order rejection. Quantity: " + orderItem.getQuantity() + 
                     " | Previous status: " + oldStatus + " -> New status: " + status);
+                eventPublisher.publishEvent(new StockChangedEvent(List.of(orderItem.getMerchVariantItem().getMerchVariantItemId())));
             }
             
             /* update order item status */
@@ -229,6 +260,14 @@ public class OrderItemServiceImpl implements OrderItemService {
             orderItem.setUpdatedAt(LocalDateTime.now());
             
             OrderItem updatedOrderItem = orderItemRepository.save(orderItem);
+            if (rollupChanges) {
+                salesRollupService.recordClaimed(List.of(orderId));
+            }
+            if (status == OrderStatus.CLAIMED || oldStatus == OrderStatus.CLAIMED) {
+                eventPublisher.publishEvent(new OrderClaimChangedEvent(
+                    List.of(orderItem.getOrder().getOrderId()), status == OrderStatus.CLAIMED));
+            }
+            eventPublisher.publishEvent(new StudentOrdersChangedEvent(List.of(orderItem.getOrder().getStudent().getStudentId())));
 
             /* send notification email if order details are available */
             OrderItem itemWithDetails = orderItemRepository.findByIdWithStudentAndMerchDetails(id)
@@ -259,10 +298,20 @@ public class OrderItemServiceImpl implements OrderItemService {
             throw new InvalidRequestException("Invalid order item ID");
         }
         
-        if (!orderItemRepository.existsById(id)) {
-            throw new OrderItemNotFoundException("Order item not found");
+        OrderItem orderItem = orderItemRepository.findById(id)
+            .orElseThrow(() -> new OrderItemNotFoundException("Order item not found"));
+        
+        /* a claimed order loses the item's sale: take the order out and record it again without the item */
+        Long orderId = orderItem.getOrder().getOrderId();
+        boolean claimed = orderItem.getOrder().getOrderStatus() == OrderStatus.CLAIMED
+            && orderItem.getOrderStatus() != OrderStatus.REJECTED;
+        if (claimed) {
+            salesRollupService.recordUnclaimed(List.of(orderId));
         }
         
-        orderItemRepository.deleteById(id);
+        orderItemRepository.delete(orderItem);
+        if (claimed) {
+            salesRollupService.recordClaimed(List.of(orderId));
+        }
     }
 }
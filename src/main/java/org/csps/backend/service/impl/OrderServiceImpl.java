@@ -2,28 +2,48 @@ package org.csps.backend.service.impl;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.csps.backend.domain.dtos.request.OrderItemRequestDTO;
 import org.csps.backend.domain.dtos.request.OrderPostRequestDTO;
 import org.csps.backend.domain.dtos.request.OrderSearchDTO;
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
 import org.csps.backend.domain.dtos.response.OrderItemResponseDTO;
 import org.csps.backend.domain.dtos.response.OrderResponseDTO;
 import org.csps.backend.domain.entities.Order;
 import org.csps.backend.domain.entities.Student;
 import org.csps.backend.domain.enums.OrderStatus;
-import org.csps.backend.exception.CartItemNotFoundException;
+import org.csps.backend.domain.events.CartChangedEvent;
+import org.csps.backend.domain.events.OrderClaimChangedEvent;
+import org.csps.backend.domain.events.StockChangedEvent;
+import org.csps.backend.domain.events.StudentOrdersChangedEvent;
 import org.csps.backend.exception.InvalidRequestException;
 import org.csps.backend.exception.OrderNotFoundException;
+import org.csps.backend.exception.OutOfStockException;
 import org.csps.backend.exception.StudentNotFoundException;
 import org.csps.backend.mapper.OrderMapper;
+import org.csps.backend.repository.CartItemRepository;
+import org.csps.backend.repository.OrderCheckoutRepository;
+import org.csps.backend.repository.OrderCheckoutRepository.CheckoutLine;
+import org.csps.backend.repository.OrderCheckoutRepository.LockedStock;
+import org.csps.backend.repository.OrderItemRepository;
 import org.csps.backend.repository.OrderRepository;
+import org.csps.backend.repository.OrderRepository.OrderHeaderView;
 import org.csps.backend.repository.StudentRepository;
 import org.csps.backend.repository.specification.OrderSpecification;
-import org.csps.backend.service.CartItemService;
+import org.csps.backend.security.CursorCodec;
+import org.csps.backend.service.InventoryReservationService;
 import org.csps.backend.service.MerchService;
-import org.csps.backend.service.OrderItemService;
 import org.csps.backend.service.OrderService;
+import org.csps.backend.service.SalesRollupService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -35,15 +55,25 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
 
+    /* client prices are doubles copied from the catalog; tolerate rounding noise only */
+    private static final double PRICE_TOLERANCE = 0.005;
+    private static final String ORDERS_CURSOR_SCOPE = "orders";
+    private static final String MY_ORDERS_CURSOR_SCOPE = "my-orders";
+
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
     private final OrderMapper orderMapper;
     private final StudentRepository studentRepository;
 
 
-    private final OrderItemService orderItemService;
-    private final CartItemService cartItemService;
+    private final OrderCheckoutRepository orderCheckoutRepository;
+    private final CartItemRepository cartItemRepository;
+    private final InventoryReservationService inventoryReservationService;
 
     private final MerchService merchService;
+    private final CursorCodec cursorCodec;
+    private final SalesRollupService salesRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Override
@@ -60,47 +90,71 @@ public class OrderServiceImpl implements OrderService {
         // Validate student exists
         Student student = studentRepository.findByStudentId(studentId)
                 .orElseThrow(() -> new StudentNotFoundException("Student not found"));
-        
-        // Create order
+
+        /* merge request lines per variant item; TreeMap keeps ids ascending for deterministic locking */
+        Map<Long, CheckoutLine> lines = new TreeMap<>();
+        for (OrderItemRequestDTO itemRequest : orderRequests.getOrderItems()) {
+            if (itemRequest.getMerchVariantItemId() == null) {
+                throw new InvalidRequestException("MerchVariantItem ID is required");
+            }
+            if (itemRequest.getQuantity() == null || itemRequest.getQuantity() <= 0) {
+                throw new InvalidRequestException("Quantity must be greater than 0");
+            }
+            if (itemRequest.getPriceAtPurchase() == null || itemRequest.getPriceAtPurchase() < 0) {
+                throw new InvalidRequestException("Price at purchase must be non-negative");
+            }
+            lines.merge(itemRequest.getMerchVariantItemId(),
+                    new CheckoutLine(itemRequest.getMerchVariantItemId(), itemRequest.getQuantity(), itemRequest.getPriceAtPurchase()),
+                    (existing, added) -> {
+                        existing.setQuantity(existing.getQuantity() + added.getQuantity());
+                        return existing;
+                    });
+        }
+
+        /* one locking read for every requested item, then validate stock and prices in memory */
+        Map<Long, LockedStock> stock = orderCheckoutRepository.lockStock(lines.keySet());
+        Map<Long, Integer> quantities = new TreeMap<>();
+        double totalPrice = 0.0;
+        for (CheckoutLine line : lines.values()) {
+            LockedStock item = stock.get(line.getMerchVariantItemId());
+            if (item == null) {
+                throw new InvalidRequestException("MerchVariantItem not found: " + line.getMerchVariantItemId());
+            }
+            if (line.getQuantity() > item.getStockQuantity()) {
+                throw new OutOfStockException("Insufficient stock for item " + line.getMerchVariantItemId()
+                        + ". Available: " + item.getStockQuantity() + ", Requested: " + line.getQuantity());
+            }
+            if (Math.abs(line.getPriceAtPurchase() - item.getPrice()) > PRICE_TOLERANCE) {
+                throw new InvalidRequestException("Price for item " + line.getMerchVariantItemId()
+                        + " has changed. Current price: " + item.getPrice());
+            }
+            quantities.put(line.getMerchVariantItemId(), line.getQuantity());
+            totalPrice += line.getQuantity() * item.getPrice();
+        }
+
+        // Create order with its final total so it is written once
+        LocalDateTime now = LocalDateTime.now();
         Order order = Order.builder()
                 .student(student)
-                .orderDate(LocalDateTime.now())
-                .totalPrice(0.0) // Will be updated after adding order items
-                .updatedAt(LocalDateTime.now())
+                .orderDate(now)
+                .totalPrice(totalPrice)
+                .updatedAt(now)
                 .orderStatus(OrderStatus.PENDING) // Default status for new orders
                 .quantity(0)
                 .build();
+        /* flushed right away: the order id is pooled, so the INSERT would otherwise wait for commit
+           and the JDBC order_item insert below would violate its foreign key */
+        Order savedOrder = orderRepository.saveAndFlush(order);
 
-        // Save order first to get the generated orderId
-        Order savedOrder = orderRepository.save(order);
-
-        List<OrderItemRequestDTO> orderItemRequests = orderRequests.getOrderItems();
-        
-        // Now set the orderId on all item requests
-        orderItemRequests.forEach(req -> {
-            req.setOrderId(savedOrder.getOrderId());
-        });
-
-        double totalPrice = 0.0;
-        for (OrderItemRequestDTO itemRequest : orderItemRequests) {
-            OrderItemResponseDTO orderItemResponse = orderItemService.createOrderItem(itemRequest);
-            totalPrice += orderItemResponse.getTotalPrice();
-            
-            // Remove the item from cart after successful order item creation
-            try {
-                cartItemService.removeCartItem(studentId, itemRequest.getMerchVariantItemId());
-            } catch (CartItemNotFoundException e) {
-                // Item not in cart is OK - might have been removed already
-            } catch (Exception e) {
-                // Log other failures but don't fail the order
-                System.err.println("Error: Failed to remove item from cart after ordering: " + e.getMessage());
-                e.printStackTrace();
-            }
-        }
+        /* set-based writes: one stock UPDATE, one multi-row INSERT, one cart DELETE */
+        orderCheckoutRepository.decrementStock(quantities);
+        orderCheckoutRepository.insertOrderItems(savedOrder.getOrderId(), List.copyOf(lines.values()), now);
+        cartItemRepository.deleteByCartIdAndMerchVariantItemIds(studentId, lines.keySet());
+        inventoryReservationService.confirmSale(studentId, quantities);
+        eventPublisher.publishEvent(new StockChangedEvent(quantities.keySet()));
+        eventPublisher.publishEvent(new CartChangedEvent(List.of(studentId)));
+        eventPublisher.publishEvent(new StudentOrdersChangedEvent(List.of(studentId)));
 
-        savedOrder.setTotalPrice(totalPrice);
-        orderRepository.save(savedOrder);
-        
         return orderMapper.toResponseDTO(savedOrder);
     }
 
@@ -114,7 +168,7 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     public Page<OrderResponseDTO> getAllOrdersPaginated(Pageable pageable) {
-        Page<Order> orders = orderRepository.findAll(pageable);
+        Page<Order> orders = orderRepository.findAllWithDetails(pageable);
         return orders.map(orderMapper::toResponseDTO);
     }
 
@@ -132,10 +186,53 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     public Page<OrderResponseDTO> getAllOrdersPaginatedSortByDate(Pageable pageable) {
-        Page<Order> orders = orderRepository.findAllByOrderByOrderDateDesc(pageable);
+        Page<Order> orders = orderRepository.findAllWithDetailsOrderByOrderDateDesc(pageable);
         return orders.map(orderMapper::toResponseDTO);
     }
 
+    @Override
+    public CursorPageResponseDTO<OrderResponseDTO> getAllOrdersByCursor(String cursor, int size) {
+        int pageSize = CursorCodec.pageSize(size);
+        String[] parts = cursorCodec.decode(ORDERS_CURSOR_SCOPE, cursor, 2);
+        List<Long> ids = orderRepository.findOrderIdsBefore(
+                parts != null ? CursorCodec.parseTimestamp(parts[0]) : null,
+                parts != null ? CursorCodec.parseId(parts[1]) : null,
+                PageRequest.of(0, pageSize + 1));
+        return toCursorPage(ORDERS_CURSOR_SCOPE, ids, pageSize);
+    }
+
+    @Override
+    public CursorPageResponseDTO<OrderResponseDTO> getOrdersByStudentIdByCursor(String studentId, String cursor, int size) {
+        if (studentId == null || studentId.isEmpty()) {
+            throw new InvalidRequestException("Student ID is required");
+        }
+
+        /* scope includes the student so a cursor cannot be replayed against another student's list */
+        String scope = MY_ORDERS_CURSOR_SCOPE + ":" + studentId;
+        int pageSize = CursorCodec.pageSize(size);
+        String[] parts = cursorCodec.decode(scope, cursor, 2);
+        List<Long> ids = orderRepository.findOrderIdsByStudentIdBefore(studentId,
+                parts != null ? CursorCodec.parseTimestamp(parts[0]) : null,
+                parts != null ? CursorCodec.parseId(parts[1]) : null,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+        List<OrderHeaderView> headers = findHeadersInOrder(pageIds);
+        Map<Long, List<OrderItemResponseDTO>> items = findItemViewsByOrder(pageIds);
+        return cursorCodec.toPage(scope, headers, hasNext,
+                header -> new Object[] { header.getOrderDate(), header.getOrderId() },
+                header -> toOrderView(header, items));
+    }
+
+    /* ids were fetched with one extra row; hydrate the graph for the page only */
+    private CursorPageResponseDTO<OrderResponseDTO> toCursorPage(String scope, List<Long> ids, int pageSize) {
+        boolean hasNext = ids.size() > pageSize;
+        List<Order> orders = orderRepository.findAllWithDetailsInOrder(hasNext ? ids.subList(0, pageSize) : ids);
+        return cursorCodec.toPage(scope, orders, hasNext,
+                order -> new Object[] { order.getOrderDate(), order.getOrderId() }, orderMapper::toResponseDTO);
+    }
+
     @Override
     public List<OrderResponseDTO> getOrdersByStudentId(String studentId) {
         if (studentId == null || studentId.isEmpty()) {
@@ -164,8 +261,45 @@ public class OrderServiceImpl implements OrderService {
             throw new StudentNotFoundException("Student not found");
         }
         
-        Page<Order> orders = orderRepository.findByStudentId(studentId, pageable);
-        return orders.map(orderMapper::toResponseDTO);
+        /* student order history is read through projections: no Order graph is loaded or managed */
+        Page<Long> ids = orderRepository.findOrderIdsByStudentId(studentId, pageable);
+        List<OrderHeaderView> headers = findHeadersInOrder(ids.getContent());
+        Map<Long, List<OrderItemResponseDTO>> items = findItemViewsByOrder(ids.getContent());
+        List<OrderResponseDTO> content = headers.stream()
+                .map(header -> toOrderView(header, items))
+                .toList();
+        return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
+    }
+
+    private List<OrderHeaderView> findHeadersInOrder(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, OrderHeaderView> byId = orderRepository.findHeaderViewsByOrderIdIn(orderIds).stream()
+                .collect(Collectors.toMap(OrderHeaderView::getOrderId, Function.identity()));
+        return orderIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Map<Long, List<OrderItemResponseDTO>> findItemViewsByOrder(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+        return orderItemRepository.findItemViewsByOrderIdIn(orderIds).stream()
+                .collect(Collectors.groupingBy(OrderItemResponseDTO::getOrderId));
+    }
+
+    private static OrderResponseDTO toOrderView(OrderHeaderView header, Map<Long, List<OrderItemResponseDTO>> items) {
+        return OrderResponseDTO.builder()
+                .orderId(header.getOrderId())
+                .studentName(header.getStudentName())
+                .totalPrice(header.getTotalPrice())
+                .orderDate(header.getOrderDate() != null ? header.getOrderDate().toLocalDate() : null)
+                .orderStatus(header.getOrderStatus())
+                .orderItems(items.getOrDefault(header.getOrderId(), List.of()))
+                .build();
     }
 
     @Override
@@ -177,6 +311,12 @@ public class OrderServiceImpl implements OrderService {
         
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new OrderNotFoundException("Order not found"));
+
+        if (order.getOrderStatus() == OrderStatus.CLAIMED) {
+            salesRollupService.recordUnclaimed(List.of(orderId));
+        }
+        eventPublisher.publishEvent(new OrderClaimChangedEvent(List.of(orderId), false));
+        eventPublisher.publishEvent(new StudentOrdersChangedEvent(List.of(order.getStudent().getStudentId())));
         
         // Delete cascades to order items due to orphanRemoval = true
         orderRepository.delete(order);
@@ -0,0 +1,77 @@
+package org.csps.backend.service.impl;
+
+import java.util.Collection;
+
+import org.csps.backend.repository.SalesDailyRollupRepository;
+import org.csps.backend.repository.SalesRollupRepository;
+import org.csps.backend.service.SalesRollupService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SalesRollupServiceImpl implements SalesRollupService {
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final SalesDailyRollupRepository salesDailyRollupRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${csps.sales.rollup.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    /* first start after the rollup was introduced: backfill it from existing orders */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        try {
+            if (salesDailyRollupRepository.count() == 0) {
+                log.info("sales rollup is empty, backfilling from claimed orders");
+                Integer rows = transactionTemplate.execute(status -> salesRollupRepository.rebuild());
+                log.info("sales rollup backfilled, {} row(s)", rows);
+            }
+        } catch (Exception e) {
+            log.error("failed to backfill sales rollup: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recordClaimed(Collection<Long> orderIds) {
+        apply(orderIds, 1);
+    }
+
+    @Override
+    @Transactional
+    public void recordUnclaimed(Collection<Long> orderIds) {
+        apply(orderIds, -1);
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        int rows = salesRollupRepository.rebuild();
+        log.info("sales rollup rebuilt, {} row(s)", rows);
+        return rows;
+    }
+
+    private void apply(Collection<Long> orderIds, int sign) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        /* the rollup aggregates straight from the tables, so pending order/item inserts must be flushed first */
+        entityManager.flush();
+        salesRollupRepository.apply(orderIds, sign);
+    }
+}
@@ -3,6 +3,7 @@ package org.csps.backend.service.impl;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Month;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,14 +18,20 @@ import org.csps.backend.domain.entities.Order;
 import org.csps.backend.domain.entities.OrderItem;
 import org.csps.backend.domain.enums.MerchType;
 import org.csps.backend.domain.enums.OrderStatus;
+import org.csps.backend.domain.events.OrderClaimChangedEvent;
+import org.csps.backend.domain.events.StockChangedEvent;
 import org.csps.backend.domain.enums.SalesPeriod;
+import org.csps.backend.domain.events.StudentOrdersChangedEvent;
 import org.csps.backend.repository.MerchVariantItemRepository;
 import org.csps.backend.repository.OrderItemRepository;
 import org.csps.backend.repository.OrderRepository;
+import org.csps.backend.repository.SalesDailyRollupRepository;
 import org.csps.backend.repository.specification.OrderSpecification;
+import org.csps.backend.service.SalesRollupService;
 import org.csps.backend.service.SalesService;
 import org.csps.backend.service.StudentMembershipService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -41,6 +48,9 @@ public class SalesServiceImpl implements SalesService {
     private final MerchVariantItemRepository merchVariantItemRepository;
     private final OrderItemRepository orderItemRepository;
     private final StudentMembershipService studentMembershipService;
+    private final SalesDailyRollupRepository salesDailyRollupRepository;
+    private final SalesRollupService salesRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${csps.currentAcademicYear.start}")
     private int currentYearStart;
@@ -53,10 +63,9 @@ public class SalesServiceImpl implements SalesService {
     private static final LocalDate DEPLOYMENT_DATE = LocalDate.of(2026, 2, 25);
 
     @Override
-    public SalesStatsDTO getSalesStats(SalesPeriod period) {
-        List<Order> claimedOrders = orderRepository.findByOrderStatus(OrderStatus.CLAIMED);
-
-        List<ChartPointDTO> chartData = generateChartData(claimedOrders, period);
+    public SalesStatsDTO getSalesStats(SalesPeriod period, MerchType merchType) {
+        /* answered from the daily rollup: a GROUP BY over one row per day and merch, never the orders table */
+        List<ChartPointDTO> chartData = generateChartData(period, merchType);
 
         // Calculate total sales from chart data (sum of all chart values)
         BigDecimal totalSales = chartData.stream()
@@ -75,7 +84,7 @@ public class SalesServiceImpl implements SalesService {
         /* build specification for database-level filtering to prevent loading all orders into memory */
         Specification<Order> spec = OrderSpecification.withFilters(searchDTO);
         
-        /* fetch paginated results with eager loading via @EntityGraph in OrderRepository.findAll(pageable) */
+        /* fetch paginated results; filters are applied in the database */
         Page<Order> orders = orderRepository.findAll(spec, pageable);
         
         /* map orders to DTOs */
@@ -123,8 +132,13 @@ public class SalesServiceImpl implements SalesService {
             }
         }
 
+        boolean wasClaimed = order.getOrderStatus() == OrderStatus.CLAIMED;
         order.setOrderStatus(OrderStatus.CLAIMED);
         Order savedOrder = orderRepository.save(order);
+        if (!wasClaimed) {
+            salesRollupService.recordClaimed(List.of(savedOrder.getOrderId()));
+            eventPublisher.publishEvent(new OrderClaimChangedEvent(List.of(savedOrder.getOrderId()), true));
+        }
 
         return mapToTransactionDTO(savedOrder);
     }
@@ -135,16 +149,17 @@ public class SalesServiceImpl implements SalesService {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
 
+        if (order.getOrderStatus() == OrderStatus.CLAIMED) {
+            salesRollupService.recordUnclaimed(List.of(order.getOrderId()));
+        }
+
         // Restore inventory for all order items in this order and reject them
         if (order.getOrderItems() != null && !order.getOrderItems().isEmpty()) {
             for (OrderItem orderItem : order.getOrderItems()) {
-                // Restore the quantity to the MerchVariantItem
+                // Restore the quantity to the MerchVariantItem with an atomic increment
                 var merchVariantItem = orderItem.getMerchVariantItem();
                 if (merchVariantItem != null) {
-                    Integer currentStock = merchVariantItem.getStockQuantity();
-                    int restoredStock = currentStock + orderItem.getQuantity();
-                    merchVariantItem.setStockQuantity(restoredStock);
-                    merchVariantItemRepository.save(merchVariantItem);
+                    merchVariantItemRepository.incrementStock(merchVariantItem.getMerchVariantItemId(), orderItem.getQuantity());
                 }
                 
                 // Set order item status to REJECTED
@@ -156,6 +171,15 @@ public class SalesServiceImpl implements SalesService {
 
         order.setOrderStatus(OrderStatus.REJECTED);
         orderRepository.save(order);
+
+        eventPublisher.publishEvent(new OrderClaimChangedEvent(List.of(order.getOrderId()), false));
+        eventPublisher.publishEvent(new StudentOrdersChangedEvent(List.of(order.getStudent().getStudentId())));
+        if (order.getOrderItems() != null && !order.getOrderItems().isEmpty()) {
+            eventPublisher.publishEvent(new StockChangedEvent(order.getOrderItems().stream()
+                    .filter(item -> item.getMerchVariantItem() != null)
+                    .map(item -> item.getMerchVariantItem().getMerchVariantItemId())
+                    .toList()));
+        }
     }
 
     private TransactionDTO mapToTransactionDTO(Order order) {
@@ -175,43 +199,37 @@ public class SalesServiceImpl implements SalesService {
                 .build();
     }
 
-    private List<ChartPointDTO> generateChartData(List<Order> orders, SalesPeriod period) {
+    private List<ChartPointDTO> generateChartData(SalesPeriod period, MerchType merchType) {
         Map<String, BigDecimal> groupedData = new LinkedHashMap<>();
 
-        orders.forEach(order -> {
-            if (order.getOrderDate() == null || order.getTotalPrice() == null) {
-                return;
-            }
-
-            LocalDate orderDate = order.getOrderDate().toLocalDate();
-            String key;
-
-            switch (period) {
-                case DAILY:
-                    key = orderDate.toString();
-                    break;
-                case WEEKLY:
+        switch (period) {
+            case WEEKLY:
+                salesDailyRollupRepository.sumRevenueByDay(merchType).forEach(bucket -> {
                     // Calculate weeks since deployment date
-                    long daysSinceDeployment = java.time.temporal.ChronoUnit.DAYS.between(DEPLOYMENT_DATE, orderDate);
+                    long daysSinceDeployment = java.time.temporal.ChronoUnit.DAYS.between(DEPLOYMENT_DATE, bucket.getDay());
                     int weekSinceDeployment = (int) Math.ceil((daysSinceDeployment + 1.0) / 7.0);
-                    key = "Week " + Math.max(1, weekSinceDeployment);
-                    break;
-                case MONTHLY:
-                    key = orderDate.getMonth().toString() + " " + orderDate.getYear();
-                    break;
-                case YEARLY:
-                    key = String.valueOf(orderDate.getYear());
-                    break;
-                case ALL_TIME:
-                    key = "All Time";
-                    break;
-                default:
-                    key = orderDate.toString();
-            }
-
-            groupedData.put(key, groupedData.getOrDefault(key, BigDecimal.ZERO)
-                    .add(BigDecimal.valueOf(order.getTotalPrice())));
-        });
+                    addToBucket(groupedData, "Week " + Math.max(1, weekSinceDeployment), bucket.getRevenue());
+                });
+                break;
+            case MONTHLY:
+                salesDailyRollupRepository.sumRevenueByMonth(merchType).forEach(bucket ->
+                        addToBucket(groupedData, Month.of(bucket.getMonth()).toString() + " " + bucket.getYear(), bucket.getRevenue()));
+                break;
+            case YEARLY:
+                salesDailyRollupRepository.sumRevenueByYear(merchType).forEach(bucket ->
+                        addToBucket(groupedData, String.valueOf(bucket.getYear()), bucket.getRevenue()));
+                break;
+            case ALL_TIME:
+                Double total = salesDailyRollupRepository.sumRevenue(merchType);
+                if (total != null) {
+                    addToBucket(groupedData, "All Time", total);
+                }
+                break;
+            case DAILY:
+            default:
+                salesDailyRollupRepository.sumRevenueByDay(merchType).forEach(bucket ->
+                        addToBucket(groupedData, bucket.getDay().toString(), bucket.getRevenue()));
+        }
 
         return groupedData.entrySet().stream()
                 .map(entry -> ChartPointDTO.builder()
@@ -220,4 +238,11 @@ public class SalesServiceImpl implements SalesService {
                         .build())
                 .collect(Collectors.toList());
     }
+
+    private static void addToBucket(Map<String, BigDecimal> groupedData, String key, Double revenue) {
+        if (revenue == null) {
+            return;
+        }
+        groupedData.merge(key, BigDecimal.valueOf(revenue), BigDecimal::add);
+    }
 }
\ No newline at end of file
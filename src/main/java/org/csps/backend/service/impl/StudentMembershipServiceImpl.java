@@ -1,18 +1,25 @@
 package org.csps.backend.service.impl;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.csps.backend.domain.dtos.request.BulkStudentMembershipRequestDTO;
 import org.csps.backend.domain.dtos.request.StudentMembershipRequestDTO;
 import org.csps.backend.domain.dtos.request.StudentMembershipSearchDTO;
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
 import org.csps.backend.domain.dtos.response.MembershipRatioDTO;
+import org.csps.backend.domain.dtos.response.StudentExportRowDTO;
 import org.csps.backend.domain.dtos.response.StudentMembershipResponseDTO;
 import org.csps.backend.domain.dtos.response.StudentResponseDTO;
 import org.csps.backend.domain.entities.Student;
 import org.csps.backend.domain.entities.StudentMembership;
+import org.csps.backend.domain.events.MembershipChangedEvent;
 import org.csps.backend.exception.InvalidRequestException;
 import org.csps.backend.exception.MemberNotFoundException;
 import org.csps.backend.exception.StudentNotFoundException;
@@ -21,14 +28,17 @@ import org.csps.backend.mapper.StudentMembershipMapper;
 import org.csps.backend.repository.StudentMembershipRepository;
 import org.csps.backend.repository.StudentRepository;
 import org.csps.backend.repository.specification.StudentMembershipSpecification;
+import org.csps.backend.security.CursorCodec;
 import org.csps.backend.service.StudentMembershipService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -40,10 +50,16 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class StudentMembershipServiceImpl implements StudentMembershipService {
 
+    private static final String CURSOR_SCOPE = "memberships:";
+    private static final String MEMBER_CSV_HEADER = "studentId,lastName,firstName,middleName,yearLevel,email,membershipId,dateJoined,academicYear";
+    private static final String NON_MEMBER_CSV_HEADER = "studentId,lastName,firstName,middleName,yearLevel,email";
+
     private final StudentMembershipMapper studentMembershipMapper;
     private final StudentMembershipRepository studentMembershipRepository;
     private final StudentRepository studentRepository;
     private final StudentMapper studentMapper;
+    private final CursorCodec cursorCodec;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${csps.currentAcademicYear.start}")
     private int currentYearStart;
@@ -93,6 +109,7 @@ public class StudentMembershipServiceImpl implements StudentMembershipService {
 
         // save
         StudentMembership saved = studentMembershipRepository.save(membership);
+        eventPublisher.publishEvent(new MembershipChangedEvent(List.of(studentId)));
 
         // return DTO
         return studentMembershipMapper.toResponseDTO(saved);
@@ -156,6 +173,7 @@ public class StudentMembershipServiceImpl implements StudentMembershipService {
     public StudentMembershipResponseDTO updateStudentMembership(Long membershipId, @Valid StudentMembershipRequestDTO requestDTO) {
         StudentMembership existing = studentMembershipRepository.findById(membershipId)
                 .orElseThrow(() -> new MemberNotFoundException("Membership not found with ID: " + membershipId));
+        String previousStudentId = existing.getStudent().getStudentId();
 
         /* update year range if provided */
         if (requestDTO.getYearStart() != null) {
@@ -174,6 +192,8 @@ public class StudentMembershipServiceImpl implements StudentMembershipService {
         }
 
         StudentMembership saved = studentMembershipRepository.save(existing);
+        eventPublisher.publishEvent(new MembershipChangedEvent(
+                List.of(previousStudentId, saved.getStudent().getStudentId())));
         return studentMembershipMapper.toResponseDTO(saved);
     }
 
@@ -234,6 +254,27 @@ public class StudentMembershipServiceImpl implements StudentMembershipService {
         return activeMembers.map(studentMembershipMapper::toResponseDTO);
     }
 
+    /**
+     * Retrieves memberships newest first, one keyset page at a time.
+     *
+     * @param activeOnly only return active memberships
+     * @param cursor opaque cursor from the previous page, or null for the first page
+     * @param size the page size
+     * @return one page of membership response DTOs plus the next cursor
+     */
+    @Override
+    public CursorPageResponseDTO<StudentMembershipResponseDTO> getMembershipsByCursor(boolean activeOnly, String cursor, int size) {
+        int pageSize = CursorCodec.pageSize(size);
+        String scope = CURSOR_SCOPE + activeOnly;
+        String[] position = cursorCodec.decode(scope, cursor, 1);
+        Long cursorId = position != null ? CursorCodec.parseId(position[0]) : null;
+
+        List<StudentMembership> rows = studentMembershipRepository.findPageBefore(activeOnly, cursorId, PageRequest.of(0, pageSize + 1));
+        return cursorCodec.toPage(scope, rows, pageSize,
+            membership -> new Object[] { membership.getMembershipId() },
+            studentMembershipMapper::toResponseDTO);
+    }
+
     /**
      * Retrieves all students who do NOT have an active membership (non-members).
      * Delegates to StudentRepository's NOT IN subquery with EntityGraph.
@@ -322,6 +363,42 @@ public class StudentMembershipServiceImpl implements StudentMembershipService {
                 .toList();
     }
 
+    /**
+     * Streams active members as CSV from a forward-only cursor.
+     * Rows are DTO projections, so nothing accumulates in the persistence context while the export runs.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportActiveMembersCsv(OutputStream outputStream, boolean gzip) throws IOException {
+        try (CsvWriter csv = CsvWriter.open(outputStream, gzip, MEMBER_CSV_HEADER);
+             Stream<StudentExportRowDTO> rows = studentMembershipRepository.streamActiveMembersForExport()) {
+            Iterator<StudentExportRowDTO> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                StudentExportRowDTO row = iterator.next();
+                csv.row(row.getStudentId(), row.getLastName(), row.getFirstName(), row.getMiddleName(),
+                        row.getYearLevel(), row.getEmail(), row.getMembershipId(), row.getDateJoined(),
+                        row.getYearStart() + "-" + row.getYearEnd());
+            }
+        }
+    }
+
+    /**
+     * Streams students without an active membership as CSV from a forward-only cursor.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportNonMembersCsv(OutputStream outputStream, boolean gzip) throws IOException {
+        try (CsvWriter csv = CsvWriter.open(outputStream, gzip, NON_MEMBER_CSV_HEADER);
+             Stream<StudentExportRowDTO> rows = studentRepository.streamNonMembersForExport()) {
+            Iterator<StudentExportRowDTO> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                StudentExportRowDTO row = iterator.next();
+                csv.row(row.getStudentId(), row.getLastName(), row.getFirstName(), row.getMiddleName(),
+                        row.getYearLevel(), row.getEmail());
+            }
+        }
+    }
+
     /**
      * Bulk create memberships for multiple students in a single academic year.
      * Deduplicates student IDs and skips non-existent students.
@@ -384,6 +461,8 @@ public class StudentMembershipServiceImpl implements StudentMembershipService {
 
         /* bulk save all memberships at once (avoids N+1 queries) */
         List<StudentMembership> savedMemberships = studentMembershipRepository.saveAll(membershipsToCreate);
+        eventPublisher.publishEvent(new MembershipChangedEvent(
+                savedMemberships.stream().map(membership -> membership.getStudent().getStudentId()).toList()));
 
         /* map to response DTOs */
         return savedMemberships.stream()
@@ -1,104 +1,339 @@
 package org.csps.backend.service.impl;
 
-import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.csps.backend.domain.dtos.request.StudentMigrationRequestDTO;
+import org.csps.backend.domain.dtos.response.StudentImportReportDTO;
+import org.csps.backend.domain.dtos.response.StudentImportRowErrorDTO;
 import org.csps.backend.domain.dtos.response.StudentResponseDTO;
 import org.csps.backend.domain.entities.Student;
+import org.csps.backend.domain.entities.StudentImportJob;
 import org.csps.backend.domain.entities.UserAccount;
 import org.csps.backend.domain.entities.UserProfile;
+import org.csps.backend.domain.enums.ImportJobStatus;
 import org.csps.backend.domain.enums.UserRole;
+import org.csps.backend.exception.InvalidRequestException;
+import org.csps.backend.exception.ResourceNotFoundException;
 import org.csps.backend.exception.StudentAlreadyExistsException;
 import org.csps.backend.mapper.StudentMapper;
+import org.csps.backend.repository.StudentImportJobRepository;
+import org.csps.backend.repository.StudentImportRepository;
+import org.csps.backend.repository.StudentImportRepository.ImportRow;
 import org.csps.backend.repository.StudentRepository;
 import org.csps.backend.repository.UserAccountRepository;
 import org.csps.backend.repository.UserProfileRepository;
-import org.csps.backend.service.CartService;
 import org.csps.backend.service.StudentMigrationService;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * bulk student import as a staged pipeline, one chunk at a time:
+ * parse (streaming RFC 4180) -> validate -> one existence lookup per chunk -> BCrypt hashing in parallel
+ * -> multi-row inserts and the job checkpoint committed together in one short transaction.
+ * a failure only loses the chunk in flight; the job can be resumed with the same file from its checkpoint.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class StudentMigrationServiceImpl implements StudentMigrationService {
 
+    private static final int EXPECTED_COLUMNS = 4;
+    private static final int STUDENT_ID_LENGTH = 8;
+
     private final StudentRepository studentRepository;
     private final UserAccountRepository userAccountRepository;
     private final UserProfileRepository userProfileRepository;
+    private final StudentImportRepository studentImportRepository;
+    private final StudentImportJobRepository studentImportJobRepository;
     private final StudentMapper studentMapper;
     private final PasswordEncoder passwordEncoder;
+    private final ExecutorService passwordHashExecutor;
+    private final TransactionTemplate transactionTemplate;
 
-    private final CartService cartService;
-
-     /* These formats can be configured in application.properties */
+    /* These formats can be configured in application.properties */
+    private final String userNameFormat;
+    private final String passwordFormat;
 
+    private final int chunkSize;
+    private final int maxReportedErrors;
 
-    @Value("${csps.userNameformat}")
-    private String userNameFormat;
-    @Value("${csps.passwordformat}")
-    private String passwordFormat;
+    public StudentMigrationServiceImpl(StudentRepository studentRepository,
+                                       UserAccountRepository userAccountRepository,
+                                       UserProfileRepository userProfileRepository,
+                                       StudentImportRepository studentImportRepository,
+                                       StudentImportJobRepository studentImportJobRepository,
+                                       StudentMapper studentMapper,
+                                       PasswordEncoder passwordEncoder,
+                                       @Qualifier("passwordHashExecutor") ExecutorService passwordHashExecutor,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${csps.userNameformat}") String userNameFormat,
+                                       @Value("${csps.passwordformat}") String passwordFormat,
+                                       @Value("${csps.migration.import.chunk-size:500}") int chunkSize,
+                                       @Value("${csps.migration.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.studentRepository = studentRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.userProfileRepository = userProfileRepository;
+        this.studentImportRepository = studentImportRepository;
+        this.studentImportJobRepository = studentImportJobRepository;
+        this.studentMapper = studentMapper;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.userNameFormat = userNameFormat;
+        this.passwordFormat = passwordFormat;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxReportedErrors = maxReportedErrors;
+    }
 
+    /* not @Transactional on purpose: every chunk commits on its own so the import never holds one long transaction */
     @Override
-    @Transactional
-    public List<StudentResponseDTO> migrateStudentsFromCsv(InputStream csvFile) {
-        List<StudentResponseDTO> migratedStudents = new ArrayList<>();
-        int successCount = 0;
-        int skipCount = 0;
+    public StudentImportReportDTO importStudentsFromCsv(String fileName, InputStreamSource csvFile, Long resumeJobId) {
+        String checksum = checksum(csvFile);
+        StudentImportJob job = resumeJobId == null ? startJob(fileName, checksum) : resumeJob(resumeJobId, checksum);
+        int resumedFromRow = job.getProcessedRows();
+        RowErrors errors = new RowErrors(maxReportedErrors);
+        Set<String> seenStudentIds = new HashSet<>();
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csvFile))) {
-            String line;
-            boolean skipHeader = true;
+        try (CsvReader reader = new CsvReader(csvFile.getInputStream())) {
+            boolean headerSkipped = false;
+            int dataRow = 0;
+            List<ParsedRow> chunk = new ArrayList<>(chunkSize);
+            List<String> record;
 
-            while ((line = reader.readLine()) != null) {
+            while ((record = reader.next()) != null) {
                 /* skip empty lines and header */
-                if (line.trim().isEmpty()) continue;
-                if (skipHeader || line.contains("YEAR_LEVEL")) {
-                    skipHeader = false;
+                if (record.stream().allMatch(String::isBlank)) continue;
+                if (!headerSkipped) {
+                    headerSkipped = true;
                     continue;
                 }
 
-                try {
-                    /* parse CSV line: YEAR_LEVEL, LASTNAME, FIRSTNAME, ID_NUMBER */
-                    String[] parts = line.split(",");
-                    if (parts.length < 4) {
-                        log.warn("Skipping malformed CSV line: {}", line);
-                        skipCount++;
-                        continue;
-                    }
-
-                    StudentMigrationRequestDTO dto = StudentMigrationRequestDTO.builder()
-                            .yearLevel(Byte.parseByte(parts[0].trim()))
-                            .lastName(parts[1].trim())
-                            .firstName(parts[2].trim())
-                            .studentId(parts[3].trim())
-                            .build();
-
-                    StudentResponseDTO migrated = migrateSingleStudent(dto);
-                    migratedStudents.add(migrated);
-                    successCount++;
-
-                } catch (Exception e) {
-                    log.warn("Failed to migrate student from line: {} - {}", line, e.getMessage());
-                    skipCount++;
+                /* rows up to the checkpoint were committed by an earlier run */
+                if (++dataRow <= resumedFromRow) continue;
+
+                chunk.add(new ParsedRow(reader.recordLine(), record));
+                if (chunk.size() == chunkSize) {
+                    importChunk(job, chunk, dataRow, seenStudentIds, errors);
+                    chunk.clear();
                 }
             }
-            log.info("CSV migration completed: {} success, {} skipped", successCount, skipCount);
+            if (!chunk.isEmpty()) {
+                importChunk(job, chunk, dataRow, seenStudentIds, errors);
+            }
+            finishJob(job, ImportJobStatus.COMPLETED, null);
+            log.info("CSV import job {} completed: {} imported, {} skipped, {} failed",
+                    job.getJobId(), job.getImportedCount(), job.getSkippedCount(), job.getFailedCount());
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finishJob(job, ImportJobStatus.FAILED, "Import interrupted");
         } catch (Exception e) {
-            throw new RuntimeException("CSV parsing failed: " + e.getMessage(), e);
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            log.error("CSV import job {} failed after row {}: {}", job.getJobId(), job.getProcessedRows(), cause.getMessage(), cause);
+            finishJob(job, ImportJobStatus.FAILED, cause.getMessage());
         }
 
-        return migratedStudents;
+        return toReport(job, resumedFromRow, errors);
+    }
+
+    @Override
+    public StudentImportReportDTO getImportJob(Long jobId) {
+        return toReport(findJob(jobId), 0, null);
+    }
+
+    /* validate, de-duplicate, hash and insert one chunk; lastDataRow becomes the job checkpoint on commit */
+    private void importChunk(StudentImportJob job, List<ParsedRow> chunk, int lastDataRow,
+                             Set<String> seenStudentIds, RowErrors errors) throws InterruptedException, ExecutionException {
+        int skipped = 0;
+        int failed = 0;
+
+        /* stage 1: validate rows and drop ids repeated in the file */
+        List<StagedRow> staged = new ArrayList<>(chunk.size());
+        for (ParsedRow parsed : chunk) {
+            ImportRow row;
+            try {
+                row = toImportRow(parsed.fields);
+            } catch (IllegalArgumentException e) {
+                failed++;
+                errors.add(parsed.line, columnOrNull(parsed.fields, 3), false, e.getMessage());
+                continue;
+            }
+            if (!seenStudentIds.add(row.getStudentId())) {
+                skipped++;
+                errors.add(parsed.line, row.getStudentId(), true, "Duplicate ID_NUMBER in file");
+                continue;
+            }
+            staged.add(new StagedRow(parsed.line, row));
+        }
+
+        /* stage 2: one existence lookup per chunk instead of one per row */
+        List<String> studentIds = staged.stream().map(s -> s.row.getStudentId()).toList();
+        List<String> usernames = staged.stream().map(s -> s.row.getUsername()).toList();
+        Set<String> existingStudentIds = studentImportRepository.findExistingStudentIds(studentIds);
+        Set<String> takenUsernames = studentImportRepository.findExistingUsernames(usernames);
+
+        List<StagedRow> toInsert = new ArrayList<>(staged.size());
+        for (StagedRow stagedRow : staged) {
+            if (existingStudentIds.contains(stagedRow.row.getStudentId())) {
+                skipped++;
+                errors.add(stagedRow.line, stagedRow.row.getStudentId(), true, "Student already exists");
+            } else if (takenUsernames.contains(stagedRow.row.getUsername())) {
+                skipped++;
+                errors.add(stagedRow.line, stagedRow.row.getStudentId(), true, "Username " + stagedRow.row.getUsername() + " already exists");
+            } else {
+                toInsert.add(stagedRow);
+            }
+        }
+
+        /* stage 3: BCrypt is the expensive part, so hash the whole chunk across all cores */
+        List<Callable<String>> hashTasks = new ArrayList<>(toInsert.size());
+        for (StagedRow stagedRow : toInsert) {
+            String generatedPassword = passwordFormat + stagedRow.row.getStudentId().substring(2);
+            hashTasks.add(() -> passwordEncoder.encode(generatedPassword));
+        }
+        List<Future<String>> hashes = passwordHashExecutor.invokeAll(hashTasks);
+        List<ImportRow> rows = new ArrayList<>(toInsert.size());
+        for (int i = 0; i < toInsert.size(); i++) {
+            ImportRow row = toInsert.get(i).row;
+            row.setPasswordHash(hashes.get(i).get());
+            rows.add(row);
+        }
+
+        /* stage 4: multi-row inserts and the checkpoint commit together */
+        int importedCount = job.getImportedCount() + rows.size();
+        int skippedCount = job.getSkippedCount() + skipped;
+        int failedCount = job.getFailedCount() + failed;
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!rows.isEmpty()) {
+                List<Long> profileIds = studentImportRepository.insertProfiles(rows);
+                List<Long> accountIds = studentImportRepository.insertAccounts(rows, profileIds);
+                studentImportRepository.insertStudents(rows, accountIds);
+            }
+            studentImportJobRepository.saveProgress(job.getJobId(), lastDataRow, importedCount, skippedCount, failedCount);
+        });
+
+        job.setProcessedRows(lastDataRow);
+        job.setImportedCount(importedCount);
+        job.setSkippedCount(skippedCount);
+        job.setFailedCount(failedCount);
+    }
+
+    /* CSV columns: YEAR_LEVEL, LASTNAME, FIRSTNAME, ID_NUMBER */
+    private ImportRow toImportRow(List<String> fields) {
+        if (fields.size() < EXPECTED_COLUMNS) {
+            throw new IllegalArgumentException("Expected columns YEAR_LEVEL, LASTNAME, FIRSTNAME, ID_NUMBER but found " + fields.size());
+        }
+        Byte yearLevel;
+        try {
+            yearLevel = Byte.parseByte(fields.get(0).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid YEAR_LEVEL: " + fields.get(0).trim());
+        }
+        String lastName = fields.get(1).trim();
+        String firstName = fields.get(2).trim();
+        String studentId = fields.get(3).trim();
+        if (lastName.isEmpty() || firstName.isEmpty()) {
+            throw new IllegalArgumentException("LASTNAME and FIRSTNAME are required");
+        }
+        if (studentId.length() != STUDENT_ID_LENGTH) {
+            throw new IllegalArgumentException("ID_NUMBER must be " + STUDENT_ID_LENGTH + " characters");
+        }
+        return new ImportRow(studentId, firstName, lastName, yearLevel, userNameFormat + studentId, null);
+    }
+
+    private StudentImportJob startJob(String fileName, String checksum) {
+        return studentImportJobRepository.save(StudentImportJob.builder()
+                .fileName(fileName)
+                .fileChecksum(checksum)
+                .status(ImportJobStatus.RUNNING)
+                .startedAt(LocalDateTime.now())
+                .build());
+    }
+
+    /* a job left RUNNING by a crash can be resumed like a FAILED one */
+    private StudentImportJob resumeJob(Long jobId, String checksum) {
+        StudentImportJob job = findJob(jobId);
+        if (job.getStatus() == ImportJobStatus.COMPLETED) {
+            throw new InvalidRequestException("Import job " + jobId + " is already completed");
+        }
+        if (!job.getFileChecksum().equals(checksum)) {
+            throw new InvalidRequestException("Uploaded file does not match the file of import job " + jobId);
+        }
+        job.setStatus(ImportJobStatus.RUNNING);
+        job.setErrorMessage(null);
+        job.setFinishedAt(null);
+        return studentImportJobRepository.save(job);
+    }
+
+    /* counters on the job already match the last committed checkpoint, so saving it only adds the outcome */
+    private void finishJob(StudentImportJob job, ImportJobStatus status, String errorMessage) {
+        job.setStatus(status);
+        job.setErrorMessage(errorMessage != null && errorMessage.length() > 1000 ? errorMessage.substring(0, 1000) : errorMessage);
+        job.setFinishedAt(LocalDateTime.now());
+        studentImportJobRepository.save(job);
+    }
+
+    private StudentImportJob findJob(Long jobId) {
+        return studentImportJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job not found with ID: " + jobId));
+    }
+
+    private static String checksum(InputStreamSource csvFile) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(csvFile.getInputStream(), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new InvalidRequestException("Could not read CSV file: " + e.getMessage());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+
+    private static String columnOrNull(List<String> fields, int index) {
+        return fields.size() > index && !fields.get(index).isBlank() ? fields.get(index).trim() : null;
+    }
+
+    private static StudentImportReportDTO toReport(StudentImportJob job, int resumedFromRow, RowErrors errors) {
+        return StudentImportReportDTO.builder()
+                .jobId(job.getJobId())
+                .fileName(job.getFileName())
+                .status(job.getStatus())
+                .processedRows(job.getProcessedRows())
+                .importedCount(job.getImportedCount())
+                .skippedCount(job.getSkippedCount())
+                .failedCount(job.getFailedCount())
+                .resumedFromRow(resumedFromRow)
+                .errorMessage(job.getErrorMessage())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .errors(errors != null ? errors.rows : List.of())
+                .errorsTruncated(errors != null && errors.truncated)
+                .build();
     }
 
     @Override
@@ -147,10 +382,48 @@ public class StudentMigrationServiceImpl implements StudentMigrationService {
 
         student = studentRepository.save(student);
 
-        cartService.createCart(student.getStudentId());
         log.info("Student migrated: {} - {}, {}", dto.getStudentId(), dto.getFirstName(), dto.getLastName());
         
         
         return studentMapper.toResponseDTO(student);
     }
+
+    private static final class ParsedRow {
+        private final int line;
+        private final List<String> fields;
+
+        private ParsedRow(int line, List<String> fields) {
+            this.line = line;
+            this.fields = fields;
+        }
+    }
+
+    private static final class StagedRow {
+        private final int line;
+        private final ImportRow row;
+
+        private StagedRow(int line, ImportRow row) {
+            this.line = line;
+            this.row = row;
+        }
+    }
+
+    /* per-row errors of the current run, capped so a completely wrong file cannot flood the response */
+    private static final class RowErrors {
+        private final int limit;
+        private final List<StudentImportRowErrorDTO> rows = new ArrayList<>();
+        private boolean truncated;
+
+        private RowErrors(int limit) {
+            this.limit = limit;
+        }
+
+        private void add(int line, String studentId, boolean skipped, String message) {
+            if (rows.size() >= limit) {
+                truncated = true;
+                return;
+            }
+            rows.add(new StudentImportRowErrorDTO(line, studentId, skipped, message));
+        }
+    }
 }
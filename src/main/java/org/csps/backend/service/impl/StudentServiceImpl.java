@@ -1,9 +1,11 @@
 package org.csps.backend.service.impl;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.csps.backend.domain.dtos.request.StudentRequestDTO;
 import org.csps.backend.domain.dtos.request.UserRequestDTO;
+import org.csps.backend.domain.dtos.response.CursorPageResponseDTO;
 import org.csps.backend.domain.dtos.response.StudentResponseDTO;
 import org.csps.backend.domain.entities.Admin;
 import org.csps.backend.domain.entities.Student;
@@ -17,10 +19,11 @@ import org.csps.backend.mapper.StudentMapper;
 import org.csps.backend.repository.AdminRepository;
 import org.csps.backend.repository.StudentRepository;
 import org.csps.backend.repository.UserProfileRepository;
-import org.csps.backend.service.CartService;
+import org.csps.backend.security.CursorCodec;
 import org.csps.backend.service.StudentService;
 import org.csps.backend.service.UserService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -33,12 +36,14 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class StudentServiceImpl implements StudentService {
 
+   private static final String CURSOR_SCOPE = "students:";
+
    private final StudentMapper studentMapper;
    private final StudentRepository studentRepository;
    private final AdminRepository adminRepository;
    private final UserService userService;
-   private final CartService cartService;
    private final UserProfileRepository userProfileRepository;
+   private final CursorCodec cursorCodec;
     
     @Override
     @Transactional
@@ -75,9 +80,6 @@ public class StudentServiceImpl implements StudentService {
     
         // Persist Student
         student = studentRepository.save(student);
-        
-        // Create Cart for the student
-        cartService.createCart(studentId);
     
         // Map to DTO
         return studentMapper.toResponseDTO(student);
@@ -99,6 +101,21 @@ public class StudentServiceImpl implements StudentService {
                .map(studentMapper::toResponseDTO);
    }
 
+   // Get Students ordered by ID using keyset pagination; the cursor is bound to the search filters
+   @Override
+   public CursorPageResponseDTO<StudentResponseDTO> getStudentsByCursor(String search, Byte yearLevel, String cursor, int size) {
+       String normalizedSearch = search != null && !search.isBlank() ? search.trim() : null;
+       int pageSize = CursorCodec.pageSize(size);
+       String scope = CURSOR_SCOPE + normalizedSearch + ":" + yearLevel;
+       String[] position = cursorCodec.decode(scope, cursor, 1);
+       String cursorId = position != null ? position[0] : null;
+
+       List<Student> rows = studentRepository.findPageAfter(normalizedSearch, yearLevel, cursorId, PageRequest.of(0, pageSize + 1));
+       return cursorCodec.toPage(scope, rows, pageSize,
+               student -> new Object[] { student.getStudentId() },
+               studentMapper::toResponseDTO);
+   }
+
 
    // Get Student By Id
    @Override
@@ -0,0 +1,136 @@
+package org.csps.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.csps.backend.domain.entities.Merch;
+import org.csps.backend.domain.entities.MerchVariant;
+import org.csps.backend.domain.entities.MerchVariantItem;
+import org.csps.backend.domain.enums.MerchType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * decrementStock against a real MySQL: many buyers race for the same item and the stock
+ * must never go below zero, with every unit sold at most once.
+ * the conditional UPDATE backs order item creation and bulk merch payments; checkout locks rows
+ * with SELECT ... FOR UPDATE in OrderCheckoutRepository instead.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MerchVariantItemRepositoryTest {
+
+    private static final int STOCK = 50;
+    private static final int BUYERS = 16;
+    private static final int ATTEMPTS_PER_BUYER = 10;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private MerchRepository merchRepository;
+
+    @Autowired
+    private MerchVariantRepository merchVariantRepository;
+
+    @Autowired
+    private MerchVariantItemRepository merchVariantItemRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void parallelPurchasesNeverOversell() throws Exception {
+        Long itemId = createItem(STOCK);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        AtomicInteger sold = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(BUYERS);
+        try {
+            List<Future<?>> buyers = new ArrayList<>();
+            for (int buyer = 0; buyer < BUYERS; buyer++) {
+                /* quantities 1..3 so some purchases fail on the last few units while smaller ones still fit */
+                int quantity = buyer % 3 + 1;
+                buyers.add(pool.submit(() -> {
+                    start.await();
+                    for (int attempt = 0; attempt < ATTEMPTS_PER_BUYER; attempt++) {
+                        Integer updated = transactionTemplate.execute(
+                            status -> merchVariantItemRepository.decrementStock(itemId, quantity));
+                        if (updated != null && updated == 1) {
+                            sold.addAndGet(quantity);
+                        } else {
+                            refused.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> buyer : buyers) {
+                buyer.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        int remaining = merchVariantItemRepository.findById(itemId).orElseThrow().getStockQuantity();
+        assertThat(remaining).isGreaterThanOrEqualTo(0);
+        assertThat(sold.get() + remaining).isEqualTo(STOCK);
+        /* demand far exceeds stock: whatever is left is smaller than the largest purchase */
+        assertThat(remaining).isLessThan(3);
+        assertThat(refused.get()).isPositive();
+    }
+
+    @Test
+    void decrementBeyondStockLeavesStockUntouched() {
+        Long itemId = createItem(2);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        /* the class runs without a test transaction and the @Modifying query needs a read-write one */
+        Integer updated = transactionTemplate.execute(status -> merchVariantItemRepository.decrementStock(itemId, 3));
+        assertThat(updated).isZero();
+        assertThat(merchVariantItemRepository.findById(itemId).orElseThrow().getStockQuantity()).isEqualTo(2);
+    }
+
+    private Long createItem(int stock) {
+        Merch merch = merchRepository.save(Merch.builder()
+            .merchName("Test Shirt")
+            .description("decrementStock test")
+            .merchType(MerchType.CLOTHING)
+            .basePrice(100.0)
+            .s3ImageKey("test/shirt.png")
+            .build());
+        MerchVariant variant = merchVariantRepository.save(MerchVariant.builder()
+            .merch(merch)
+            .color("Black")
+            .s3ImageKey("test/shirt-black.png")
+            .build());
+        return merchVariantItemRepository.save(MerchVariantItem.builder()
+            .merchVariant(variant)
+            .stockQuantity(stock)
+            .price(100.0)
+            .build()).getMerchVariantItemId();
+    }
+}
@@ -0,0 +1,155 @@
+package org.csps.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.csps.backend.domain.entities.Merch;
+import org.csps.backend.domain.entities.MerchVariant;
+import org.csps.backend.domain.entities.MerchVariantItem;
+import org.csps.backend.domain.entities.Order;
+import org.csps.backend.domain.entities.OrderItem;
+import org.csps.backend.domain.entities.Student;
+import org.csps.backend.domain.entities.UserAccount;
+import org.csps.backend.domain.entities.UserProfile;
+import org.csps.backend.domain.enums.MerchType;
+import org.csps.backend.domain.enums.OrderStatus;
+import org.csps.backend.domain.enums.UserRole;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Order pages must be cut in the database: only the requested page's orders are loaded,
+ * each with its items fetched, instead of every order being loaded and paged in memory.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class OrderRepositoryTest {
+
+    private static final int ORDERS = 5;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        UserProfile profile = entityManager.persist(UserProfile.builder()
+            .firstName("Juan")
+            .lastName("Dela Cruz")
+            .build());
+        UserAccount account = entityManager.persist(UserAccount.builder()
+            .username("order-repository-test")
+            .password("secret")
+            .role(UserRole.STUDENT)
+            .userProfile(profile)
+            .build());
+        Student student = entityManager.persist(Student.builder()
+            .studentId("22000001")
+            .yearLevel((byte) 1)
+            .userAccount(account)
+            .build());
+        Merch merch = entityManager.persist(Merch.builder()
+            .merchName("Test Pin")
+            .description("pagination test")
+            .merchType(MerchType.PIN)
+            .basePrice(50.0)
+            .s3ImageKey("test/pin.png")
+            .build());
+        MerchVariant variant = entityManager.persist(MerchVariant.builder()
+            .merch(merch)
+            .design("Logo")
+            .s3ImageKey("test/pin-logo.png")
+            .build());
+        MerchVariantItem item = entityManager.persist(MerchVariantItem.builder()
+            .merchVariant(variant)
+            .stockQuantity(100)
+            .price(50.0)
+            .build());
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = entityManager.persist(Order.builder()
+                .student(student)
+                .totalPrice(50.0 * ITEMS_PER_ORDER)
+                .quantity(ITEMS_PER_ORDER)
+                .orderDate(now.minusDays(i))
+                .updatedAt(now)
+                .orderStatus(OrderStatus.PENDING)
+                .build());
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                entityManager.persist(OrderItem.builder()
+                    .order(order)
+                    .merchVariantItem(item)
+                    .quantity(1)
+                    .priceAtPurchase(50.0)
+                    .updatedAt(now)
+                    .build());
+            }
+        }
+        /* start every test from an empty persistence context so loads really hit the database */
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void pageLoadsOnlyItsOwnOrdersWithItemsFetched() {
+        Page<Order> page = orderRepository.findAllWithDetailsOrderByOrderDateDesc(PageRequest.of(1, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(ORDERS);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+        assertThat(page.getContent()).hasSize(2);
+
+        /* newest first: the second page holds the 3rd and 4th newest orders */
+        List<LocalDateTime> dates = page.getContent().stream().map(Order::getOrderDate).toList();
+        assertThat(dates).isSortedAccordingTo((a, b) -> b.compareTo(a));
+
+        /* in-memory paging would have loaded all five orders */
+        assertThat(statistics.getEntityStatistics(Order.class.getName()).getLoadCount()).isEqualTo(2);
+        for (Order order : page.getContent()) {
+            assertThat(Hibernate.isInitialized(order.getOrderItems())).isTrue();
+            assertThat(order.getOrderItems()).hasSize(ITEMS_PER_ORDER);
+        }
+    }
+
+    @Test
+    void lastPageIsCutInTheDatabase() {
+        Page<Order> page = orderRepository.findAllWithDetails(PageRequest.of(2, 2));
+
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(statistics.getEntityStatistics(Order.class.getName()).getLoadCount()).isEqualTo(1);
+        assertThat(page.getContent().get(0).getOrderItems()).hasSize(ITEMS_PER_ORDER);
+    }
+}
@@ -0,0 +1,102 @@
+package org.csps.backend.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.csps.backend.configs.RateLimitingConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.Refill;
+
+/**
+ * JdbcRateLimitBucketStore against a real MySQL: two store instances stand in for two nodes
+ * and must share one budget per key, and idle rows must be purged.
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JdbcRateLimitBucketStoreTest {
+
+    private static final int CAPACITY = 5;
+
+    /* no refill within the test, so every consumed token stays consumed */
+    private static final BucketConfiguration CONFIGURATION = BucketConfiguration.builder()
+        .addLimit(Bandwidth.classic(CAPACITY, Refill.intervally(CAPACITY, Duration.ofHours(1))))
+        .build();
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private RateLimitingConfig rateLimitingConfig;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        rateLimitingConfig = new RateLimitingConfig();
+        rateLimitingConfig.setIdleEvictionMinutes(60);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS rate_limit_bucket");
+    }
+
+    @Test
+    void instancesShareOneBudgetPerKey() {
+        JdbcRateLimitBucketStore nodeA = new JdbcRateLimitBucketStore(dataSource, rateLimitingConfig);
+        JdbcRateLimitBucketStore nodeB = new JdbcRateLimitBucketStore(dataSource, rateLimitingConfig);
+
+        assertThat(nodeA.resolveBucket("login:ip:10.0.0.1", CONFIGURATION).tryConsume(3)).isTrue();
+        assertThat(nodeB.resolveBucket("login:ip:10.0.0.1", CONFIGURATION).tryConsume(2)).isTrue();
+
+        assertThat(nodeA.resolveBucket("login:ip:10.0.0.1", CONFIGURATION).tryConsume(1)).isFalse();
+        assertThat(nodeB.resolveBucket("login:ip:10.0.0.1", CONFIGURATION).tryConsume(1)).isFalse();
+        assertThat(nodeB.resolveBucket("login:ip:10.0.0.1", CONFIGURATION).getAvailableTokens()).isZero();
+    }
+
+    @Test
+    void keysHaveSeparateBudgets() {
+        JdbcRateLimitBucketStore store = new JdbcRateLimitBucketStore(dataSource, rateLimitingConfig);
+
+        assertThat(store.resolveBucket("login:ip:10.0.0.1", CONFIGURATION).tryConsume(CAPACITY)).isTrue();
+
+        assertThat(store.resolveBucket("login:ip:10.0.0.2", CONFIGURATION).getAvailableTokens()).isEqualTo(CAPACITY);
+        assertThat(store.resolveBucket("checkout:ip:10.0.0.1", CONFIGURATION).getAvailableTokens()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void purgeRemovesOnlyIdleBuckets() {
+        JdbcRateLimitBucketStore store = new JdbcRateLimitBucketStore(dataSource, rateLimitingConfig);
+        store.resolveBucket("login:ip:10.0.0.1", CONFIGURATION).tryConsume(CAPACITY);
+        store.resolveBucket("login:ip:10.0.0.2", CONFIGURATION).tryConsume(1);
+
+        /* age every row past the idle window, then touch one of them again */
+        jdbcTemplate.update("UPDATE rate_limit_bucket SET updated_at = NOW() - INTERVAL 2 HOUR");
+        store.resolveBucket("login:ip:10.0.0.2", CONFIGURATION).tryConsume(1);
+
+        store.purgeIdleBuckets();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rate_limit_bucket", Integer.class)).isEqualTo(1);
+        /* a purged key starts over with a full bucket */
+        assertThat(store.resolveBucket("login:ip:10.0.0.1", CONFIGURATION).getAvailableTokens()).isEqualTo(CAPACITY);
+        assertThat(store.resolveBucket("login:ip:10.0.0.2", CONFIGURATION).getAvailableTokens()).isEqualTo(CAPACITY - 2);
+    }
+}